@@ -0,0 +1,44 @@
+package br.com.livraria.catalogodosabioapi.benchmarks;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera catálogos determinísticos, com tamanhos de campos próximos aos dos livros gerados pelo seeder.
+ */
+final class BookFixtures {
+
+    private static final String[] GENRES = {"Romance", "Ficção Científica", "Fantasia", "Suspense", "Biografia", "História", "Poesia", "Terror"};
+    private static final String DESCRIPTION = "Uma narrativa envolvente que acompanha personagens inesquecíveis em uma jornada "
+            + "repleta de descobertas, conflitos e reviravoltas, explorando temas como memória, identidade e pertencimento. ";
+
+    private BookFixtures() {
+    }
+
+    static List<BookDocument> documents(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<BookDocument> documents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            documents.add(new BookDocument(
+                    String.format("%024x", i),
+                    "Livro número " + i,
+                    List.of("Autor " + random.nextInt(size / 10 + 1)),
+                    List.of(GENRES[random.nextInt(GENRES.length)], GENRES[random.nextInt(GENRES.length)]),
+                    DESCRIPTION.repeat(1 + random.nextInt(3)),
+                    10.0 + random.nextInt(9000) / 100.0,
+                    random.nextInt(200)));
+        }
+        return documents;
+    }
+
+    static List<BookEntity> entities(int size) {
+        return documents(size).stream()
+                .map(document -> new BookEntity(document.getId(), document.getTitle(), document.getAuthors(),
+                        document.getGenres(), document.getDescription(), document.getPrice(), document.getStock()))
+                .toList();
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.livraria.catalogodosabioapi.benchmarks;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapperImpl;
+import br.com.livraria.catalogodosabioapi.model.Book;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização das respostas de listagem ({@code List<Book>}) que o Spring MVC faz com Jackson.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BookJsonSerializationBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int catalogSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private List<Book> books;
+
+    @Setup
+    public void setUp() {
+        books = new BookApiMapperImpl().toApi(BookFixtures.entities(catalogSize));
+    }
+
+    @Benchmark
+    public byte[] serializeBookList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(books);
+    }
+}
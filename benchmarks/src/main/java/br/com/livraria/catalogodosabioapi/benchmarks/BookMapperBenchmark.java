@@ -0,0 +1,60 @@
+package br.com.livraria.catalogodosabioapi.benchmarks;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.mapper.BookDocumentMapper;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.mapper.BookDocumentMapperImpl;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapper;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapperImpl;
+import br.com.livraria.catalogodosabioapi.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões feitas em toda leitura que não acerta o cache (documento -> domínio) e em toda resposta (domínio -> API).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BookMapperBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int catalogSize;
+
+    private final BookDocumentMapper bookDocumentMapper = new BookDocumentMapperImpl();
+    private final BookApiMapper bookApiMapper = new BookApiMapperImpl();
+
+    private List<BookDocument> documents;
+    private List<BookEntity> entities;
+
+    @Setup
+    public void setUp() {
+        documents = BookFixtures.documents(catalogSize);
+        entities = BookFixtures.entities(catalogSize);
+    }
+
+    @Benchmark
+    public List<BookEntity> documentToDomain() {
+        return bookDocumentMapper.toDomain(documents);
+    }
+
+    @Benchmark
+    public List<Book> domainToApi() {
+        return bookApiMapper.toApi(entities);
+    }
+}
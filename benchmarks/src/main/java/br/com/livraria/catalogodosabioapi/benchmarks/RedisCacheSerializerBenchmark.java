@@ -0,0 +1,81 @@
+package br.com.livraria.catalogodosabioapi.benchmarks;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.BookCacheSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ida e volta pelos serializers do cache Redis ({@code BeanConfiguration}), tanto para entradas de um
+ * livro ({@code book}) quanto para listas ({@code books}, {@code booksByGenre}, ...). {@code JSON} é o
+ * Jackson puro; {@code BINARY} e {@code BINARY_LZ4} são o {@link BookCacheSerializer} sem e com compressão.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RedisCacheSerializerBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int catalogSize;
+
+    @Param({"JSON", "BINARY", "BINARY_LZ4"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+
+    private BookEntity book;
+    private List<BookEntity> books;
+    private byte[] serializedBook;
+    private byte[] serializedBooks;
+
+    @Setup
+    public void setUp() {
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        serializer = switch (format) {
+            case "BINARY" -> new BookCacheSerializer(jsonSerializer, true, -1);
+            case "BINARY_LZ4" -> new BookCacheSerializer(jsonSerializer, true, 1024);
+            default -> jsonSerializer;
+        };
+        books = BookFixtures.entities(catalogSize);
+        book = books.get(0);
+        serializedBook = serializer.serialize(book);
+        serializedBooks = serializer.serialize(books);
+    }
+
+    @Benchmark
+    public byte[] serializeBook() {
+        return serializer.serialize(book);
+    }
+
+    @Benchmark
+    public Object deserializeBook() {
+        return serializer.deserialize(serializedBook);
+    }
+
+    @Benchmark
+    public byte[] serializeBookList() {
+        return serializer.serialize(books);
+    }
+
+    @Benchmark
+    public Object deserializeBookList() {
+        return serializer.deserialize(serializedBooks);
+    }
+}
@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+# Benchmark do tempo de inicialização: mede, a partir do disparo da JVM, quanto tempo cada modo leva até o
+# /actuator/health/readiness responder UP (contexto pronto e caches aquecidos) e o tempo reportado pelo Spring
+# ("Started ... in X seconds"). Modos comparados:
+#   jar      java -jar com o fat jar, como o Dockerfile antigo
+#   cds      jar extraído + arquivo de class data sharing
+#   aot-cds  jar extraído + CDS + contexto pré-processado pelo AOT (profile Maven 'aot')
+# Requer as dependências do compose.yaml no ar (docker compose up -d). Veja a seção 5.5 do README.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8080}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+READINESS_URL="http://localhost:${PORT}/catalogo-do-sabio/actuator/health/readiness"
+WORK="${ROOT}/benchmarks/target/startup"
+export GOOGLE_API_KEY="${GOOGLE_API_KEY:-startup-benchmark}"
+
+echo "Empacotando a aplicação com o profile aot..."
+(cd "${ROOT}" && sh ./mvnw -B -q -Paot package -DskipTests)
+
+rm -rf "${WORK}"
+mkdir -p "${WORK}"
+cp "${ROOT}"/target/catalogo-do-sabio-api-*.jar "${WORK}/application.jar"
+java -Djarmode=tools -jar "${WORK}/application.jar" extract --destination "${WORK}/extracted" > /dev/null
+
+# Um arquivo CDS por modo: as classes carregadas com e sem AOT não são as mesmas.
+train() {
+    local archive="$1"
+    shift
+    java -XX:ArchiveClassesAtExit="${archive}" "$@" -Dspring.context.exit=onRefresh \
+        -jar "${WORK}/extracted/application.jar" > "${WORK}/training.log" 2>&1
+}
+echo "Gerando os arquivos CDS..."
+train "${WORK}/default.jsa"
+train "${WORK}/aot.jsa" -Dspring.aot.enabled=true
+
+# Imprime o tempo até o readiness (ms) e o tempo reportado pelo Spring (s) de uma execução.
+start_once() {
+    local log="$1"
+    shift
+    local started
+    started=$(date +%s%N)
+    java "$@" --server.port="${PORT}" > "${log}" 2>&1 &
+    local pid=$!
+    until curl -fs "${READINESS_URL}" > /dev/null 2>&1; do
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "A aplicação terminou antes de ficar pronta; veja ${log}" >&2
+            exit 1
+        fi
+        if (( ($(date +%s%N) - started) / 1000000000 > TIMEOUT_SECONDS )); then
+            kill "${pid}"
+            echo "A aplicação não ficou pronta em ${TIMEOUT_SECONDS}s; veja ${log}" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    local ready_ms=$(( ($(date +%s%N) - started) / 1000000 ))
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+    echo "${ready_ms} $(grep -o 'Started [A-Za-z]* in [0-9.]* seconds' "${log}" | grep -o '[0-9.]*' | head -1)"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+measure() {
+    local mode="$1"
+    shift
+    local results="${WORK}/${mode}.txt"
+    : > "${results}"
+    for run in $(seq 1 "${RUNS}"); do
+        start_once "${WORK}/${mode}-${run}.log" "$@" >> "${results}"
+    done
+    printf '%-8s %12s %16s\n' "${mode}" "$(cut -d' ' -f1 < "${results}" | median)" "$(cut -d' ' -f2 < "${results}" | median)"
+}
+
+echo "Medindo ${RUNS} inicializações por modo (medianas):"
+printf '%-8s %12s %16s\n' "modo" "readiness ms" "Spring started s"
+measure jar -jar "${WORK}/application.jar"
+measure cds -XX:SharedArchiveFile="${WORK}/default.jsa" -jar "${WORK}/extracted/application.jar"
+measure aot-cds -XX:SharedArchiveFile="${WORK}/aot.jsa" -Dspring.aot.enabled=true -jar "${WORK}/extracted/application.jar"
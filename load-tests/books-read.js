@@ -0,0 +1,65 @@
+// Teste de carga das leituras do catálogo (k6). Compara o Tomcat com threads de plataforma e com virtual threads:
+// suba a aplicação com e sem SPRING_THREADS_VIRTUAL_ENABLED=true e rode este script contra cada uma.
+// Veja a seção 5.4 do README.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/catalogo-do-sabio/v1';
+const TOKEN_URL = __ENV.TOKEN_URL || 'http://localhost:8180/realms/sabio-realm/protocol/openid-connect/token';
+// Secret do client catalogo-client no Keycloak; obrigatório, nunca versionado.
+const CLIENT_SECRET = __ENV.CLIENT_SECRET;
+const RATE = Number(__ENV.RATE || 2000);
+const DURATION = __ENV.DURATION || '2m';
+const GENRES = ['Romance', 'Ficção Científica', 'Fantasia', 'Suspense', 'Poesia'];
+
+export const options = {
+    scenarios: {
+        // Taxa de chegada constante: a latência não "segura" a carga, como aconteceria com um número fixo de VUs.
+        reads: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 500,
+            maxVUs: 5000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    if (!CLIENT_SECRET) {
+        throw new Error('Defina CLIENT_SECRET com o secret do client catalogo-client (-e CLIENT_SECRET=...).');
+    }
+    const response = http.post(TOKEN_URL, {
+        client_id: 'catalogo-client',
+        client_secret: CLIENT_SECRET,
+        username: 'leitor',
+        password: 'password',
+        grant_type: 'password',
+    });
+    const token = response.json('access_token');
+
+    const page = http.get(`${BASE_URL}/books/?limit=100`, { headers: { Authorization: `Bearer ${token}` } });
+    const ids = page.json('items').map((book) => book.id);
+    return { token, ids };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const roll = Math.random();
+    let response;
+    if (roll < 0.5) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        response = http.get(`${BASE_URL}/books/${id}`, Object.assign({ tags: { name: 'books/{id}' } }, params));
+    } else if (roll < 0.8) {
+        const genre = GENRES[Math.floor(Math.random() * GENRES.length)];
+        response = http.get(`${BASE_URL}/books/genre/${encodeURIComponent(genre)}`, Object.assign({ tags: { name: 'books/genre' } }, params));
+    } else {
+        response = http.get(`${BASE_URL}/books/?limit=20`, Object.assign({ tags: { name: 'books' } }, params));
+    }
+    check(response, { 'status 200': (r) => r.status === 200 });
+}
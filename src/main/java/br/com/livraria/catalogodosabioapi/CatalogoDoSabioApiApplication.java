@@ -2,6 +2,12 @@ package br.com.livraria.catalogodosabioapi;
 
 import br.com.livraria.catalogodosabioapi.infrastructure.configuration.AiStudioProperties;
 import br.com.livraria.catalogodosabioapi.infrastructure.configuration.CachingProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.ExportProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.HttpCacheProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.IngestionProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.RecentlyViewedLookupProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.TrackingProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.WarmupProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -9,7 +15,9 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @SpringBootApplication
-@EnableConfigurationProperties({AiStudioProperties.class, CachingProperties.class})
+@EnableConfigurationProperties({AiStudioProperties.class, CachingProperties.class, ExportProperties.class, HttpCacheProperties.class,
+        IngestionProperties.class, RecentlyViewedLookupProperties.class, TrackingProperties.class,
+        WarmupProperties.class})
 @EnableCaching
 @EnableAsync
 public class CatalogoDoSabioApiApplication {
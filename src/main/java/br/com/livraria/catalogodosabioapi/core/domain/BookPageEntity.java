@@ -0,0 +1,14 @@
+package br.com.livraria.catalogodosabioapi.core.domain;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Página de livros ordenada por id. {@code nextAfterId} é o id do último livro da página quando
+ * existem mais resultados, ou {@code null} na última página.
+ */
+public record BookPageEntity(
+    List<BookEntity> books,
+    String nextAfterId
+) implements Serializable {
+}
@@ -0,0 +1,15 @@
+package br.com.livraria.catalogodosabioapi.core.domain;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Página de resultados de uma busca textual, ordenada por relevância. {@code page} começa em zero e
+ * {@code hasNext} indica se a página seguinte possui resultados.
+ */
+public record BookSearchPageEntity(
+    List<BookEntity> books,
+    int page,
+    boolean hasNext
+) implements Serializable {
+}
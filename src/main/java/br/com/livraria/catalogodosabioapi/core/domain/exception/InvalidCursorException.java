@@ -0,0 +1,23 @@
+package br.com.livraria.catalogodosabioapi.core.domain.exception;
+
+import java.time.LocalDateTime;
+
+public class InvalidCursorException extends RuntimeException {
+
+    private final LocalDateTime timestamp;
+    private final String cursor;
+
+    public InvalidCursorException(String cursor) {
+        super("Cursor de paginação inválido: " + cursor);
+        this.cursor = cursor;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public LocalDateTime getTimestamp(){
+        return this.timestamp;
+    }
+
+    public String getCursor(){
+        return this.cursor;
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.livraria.catalogodosabioapi.core.domain.exception;
+
+import java.time.LocalDateTime;
+
+public class InvalidFieldsException extends RuntimeException {
+
+    private final LocalDateTime timestamp;
+    private final String fields;
+
+    public InvalidFieldsException(String fields) {
+        super("Campos inválidos no parâmetro fields: " + fields);
+        this.fields = fields;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public LocalDateTime getTimestamp(){
+        return this.timestamp;
+    }
+
+    public String getFields(){
+        return this.fields;
+    }
+}
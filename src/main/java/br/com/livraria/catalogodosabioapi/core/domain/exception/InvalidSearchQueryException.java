@@ -0,0 +1,17 @@
+package br.com.livraria.catalogodosabioapi.core.domain.exception;
+
+import java.time.LocalDateTime;
+
+public class InvalidSearchQueryException extends RuntimeException {
+
+    private final LocalDateTime timestamp;
+
+    public InvalidSearchQueryException() {
+        super("O termo de busca deve ser informado.");
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public LocalDateTime getTimestamp(){
+        return this.timestamp;
+    }
+}
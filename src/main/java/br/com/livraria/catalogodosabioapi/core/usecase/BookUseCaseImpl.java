@@ -1,15 +1,26 @@
 package br.com.livraria.catalogodosabioapi.core.usecase;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
 import br.com.livraria.catalogodosabioapi.core.domain.exception.BookNotFoundException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidSearchQueryException;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
 
 public class BookUseCaseImpl implements BookUseCase {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    // Última página da busca (a partir de 0). A paginação por relevância usa skip, e páginas profundas obrigariam
+    // o MongoDB a percorrer e descartar todos os resultados anteriores.
+    static final int MAX_SEARCH_PAGE = 49;
+
     private final BookRepositoryPort bookRepositoryPort;
 
     public BookUseCaseImpl(BookRepositoryPort bookRepositoryPort) {
@@ -21,6 +32,11 @@ public class BookUseCaseImpl implements BookUseCase {
         return bookRepositoryPort.findAll();
     }
 
+    @Override
+    public BookPageEntity findPage(String afterId, Integer limit) {
+        return bookRepositoryPort.findPage(afterId, pageSize(limit));
+    }
+
     @Override
     public BookEntity findById(String id) {
         Optional<BookEntity> bookOptional = bookRepositoryPort.findById(id);
@@ -37,8 +53,62 @@ public class BookUseCaseImpl implements BookUseCase {
         return bookRepositoryPort.findByAuthor(author);
     }
 
+    @Override
+    public BookSearchPageEntity search(String query, Integer page, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidSearchQueryException();
+        }
+        return lastPageCapped(bookRepositoryPort.search(normalizeQuery(query), pageNumber(page), pageSize(limit)));
+    }
+
     @Override
     public List<BookEntity> findAllByIds(List<String> ids) {
         return bookRepositoryPort.findAllByIds(ids);
     }
+
+    @Override
+    public List<BookEntity> findSummariesByIds(List<String> ids) {
+        return bookRepositoryPort.findSummariesByIds(ids);
+    }
+
+    @Override
+    public BookPageEntity findSummaryPage(String afterId, Integer limit) {
+        return bookRepositoryPort.findSummaryPage(afterId, pageSize(limit));
+    }
+
+    @Override
+    public List<BookEntity> findSummariesByGenre(String genre) {
+        return bookRepositoryPort.findSummariesByGenre(genre);
+    }
+
+    @Override
+    public List<BookEntity> findSummariesByAuthor(String author) {
+        return bookRepositoryPort.findSummariesByAuthor(author);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAll(int batchSize) {
+        return bookRepositoryPort.streamAll(batchSize);
+    }
+
+    // A busca textual do MongoDB não diferencia maiúsculas nem espaços extras; normalizar o termo
+    // faz com que variações da mesma busca compartilhem a entrada de cache.
+    static String normalizeQuery(String query) {
+        return query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    static int pageNumber(Integer page) {
+        return page == null ? 0 : Math.min(Math.max(page, 0), MAX_SEARCH_PAGE);
+    }
+
+    // Na última página permitida não há próxima, mesmo que existam mais resultados.
+    static BookSearchPageEntity lastPageCapped(BookSearchPageEntity searchPage) {
+        return searchPage.page() >= MAX_SEARCH_PAGE && searchPage.hasNext()
+                ? new BookSearchPageEntity(searchPage.books(), searchPage.page(), false)
+                : searchPage;
+    }
+
+    static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
 }
@@ -0,0 +1,78 @@
+package br.com.livraria.catalogodosabioapi.core.usecase;
+
+import java.util.List;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.BookNotFoundException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidSearchQueryException;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.ReactiveBookUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.ReactiveBookRepositoryPort;
+import reactor.core.publisher.Mono;
+
+// Mesmas regras do BookUseCaseImpl (limites de página, normalização da busca), com os erros sinalizados no Mono.
+public class ReactiveBookUseCaseImpl implements ReactiveBookUseCase {
+
+    private final ReactiveBookRepositoryPort bookRepositoryPort;
+
+    public ReactiveBookUseCaseImpl(ReactiveBookRepositoryPort bookRepositoryPort) {
+        this.bookRepositoryPort = bookRepositoryPort;
+    }
+
+    @Override
+    public Mono<BookPageEntity> findPage(String afterId, Integer limit) {
+        return bookRepositoryPort.findPage(afterId, BookUseCaseImpl.pageSize(limit));
+    }
+
+    @Override
+    public Mono<BookEntity> findById(String id) {
+        return bookRepositoryPort.findById(id)
+                .switchIfEmpty(Mono.error(() -> new BookNotFoundException(id)));
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findByGenre(String genre) {
+        return bookRepositoryPort.findByGenre(genre);
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findByAuthor(String author) {
+        return bookRepositoryPort.findByAuthor(author);
+    }
+
+    @Override
+    public Mono<BookSearchPageEntity> search(String query, Integer page, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return Mono.error(new InvalidSearchQueryException());
+        }
+        return bookRepositoryPort.search(BookUseCaseImpl.normalizeQuery(query),
+                        BookUseCaseImpl.pageNumber(page), BookUseCaseImpl.pageSize(limit))
+                .map(BookUseCaseImpl::lastPageCapped);
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findAllByIds(List<String> ids) {
+        return bookRepositoryPort.findAllByIds(ids);
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findSummariesByIds(List<String> ids) {
+        return bookRepositoryPort.findSummariesByIds(ids);
+    }
+
+    @Override
+    public Mono<BookPageEntity> findSummaryPage(String afterId, Integer limit) {
+        return bookRepositoryPort.findSummaryPage(afterId, BookUseCaseImpl.pageSize(limit));
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findSummariesByGenre(String genre) {
+        return bookRepositoryPort.findSummariesByGenre(genre);
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findSummariesByAuthor(String author) {
+        return bookRepositoryPort.findSummariesByAuthor(author);
+    }
+}
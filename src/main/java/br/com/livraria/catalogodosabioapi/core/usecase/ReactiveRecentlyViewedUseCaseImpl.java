@@ -0,0 +1,50 @@
+package br.com.livraria.catalogodosabioapi.core.usecase;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.ReactiveBookUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.ReactiveRecentlyViewedUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.ReactiveRecentlyViewedPort;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class ReactiveRecentlyViewedUseCaseImpl implements ReactiveRecentlyViewedUseCase {
+
+    private final ReactiveRecentlyViewedPort recentlyViewedPort;
+    private final ReactiveBookUseCase bookUseCase;
+
+    public ReactiveRecentlyViewedUseCaseImpl(ReactiveRecentlyViewedPort recentlyViewedPort, ReactiveBookUseCase bookUseCase) {
+        this.recentlyViewedPort = recentlyViewedPort;
+        this.bookUseCase = bookUseCase;
+    }
+
+    @Override
+    public Mono<Void> track(String clientId, String bookId) {
+        if (clientId == null || clientId.isEmpty()) {
+            return Mono.empty();
+        }
+        return recentlyViewedPort.save(clientId, bookId);
+    }
+
+    @Override
+    public Mono<List<BookEntity>> find(String clientId) {
+        return find(clientId, bookUseCase::findSummariesByIds);
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findWithDescription(String clientId) {
+        return find(clientId, bookUseCase::findAllByIds);
+    }
+
+    private Mono<List<BookEntity>> find(String clientId, Function<List<String>, Mono<List<BookEntity>>> resolver) {
+        if (clientId == null || clientId.isEmpty()) {
+            return Mono.just(Collections.emptyList());
+        }
+        return recentlyViewedPort.findByClientId(clientId)
+                .flatMap(bookIds -> bookIds.isEmpty()
+                        ? Mono.just(Collections.<BookEntity>emptyList())
+                        : resolver.apply(bookIds));
+    }
+}
@@ -7,6 +7,7 @@ import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.RecentlyView
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 public class RecentlyViewedUseCaseImpl implements RecentlyViewedUseCase {
 
@@ -27,6 +28,15 @@ public class RecentlyViewedUseCaseImpl implements RecentlyViewedUseCase {
 
     @Override
     public List<BookEntity> find(String clientId) {
+        return find(clientId, bookUseCase::findSummariesByIds);
+    }
+
+    @Override
+    public List<BookEntity> findWithDescription(String clientId) {
+        return find(clientId, bookUseCase::findAllByIds);
+    }
+
+    private List<BookEntity> find(String clientId, Function<List<String>, List<BookEntity>> resolver) {
 
         if (clientId == null || clientId.isEmpty()){
             return Collections.emptyList();
@@ -37,6 +47,6 @@ public class RecentlyViewedUseCaseImpl implements RecentlyViewedUseCase {
             return Collections.emptyList();
         }
 
-        return bookUseCase.findAllByIds(bookIds);
+        return resolver.apply(bookIds);
     }
 }
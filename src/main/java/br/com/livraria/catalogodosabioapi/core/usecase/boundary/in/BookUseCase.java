@@ -1,14 +1,24 @@
 package br.com.livraria.catalogodosabioapi.core.usecase.boundary.in;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
 
 public interface BookUseCase {
 
     List<BookEntity> findAll();
+    BookPageEntity findPage(String afterId, Integer limit);
     BookEntity findById(String id);
     List<BookEntity> findByGenre(String genre);
     List<BookEntity> findByAuthor(String author);
+    BookSearchPageEntity search(String query, Integer page, Integer limit);
     List<BookEntity> findAllByIds(List<String> ids);
+    List<BookEntity> findSummariesByIds(List<String> ids);
+    BookPageEntity findSummaryPage(String afterId, Integer limit);
+    List<BookEntity> findSummariesByGenre(String genre);
+    List<BookEntity> findSummariesByAuthor(String author);
+    Stream<BookEntity> streamAll(int batchSize);
 }
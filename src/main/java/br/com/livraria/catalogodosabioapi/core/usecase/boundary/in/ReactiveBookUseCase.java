@@ -0,0 +1,22 @@
+package br.com.livraria.catalogodosabioapi.core.usecase.boundary.in;
+
+import java.util.List;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookUseCase {
+
+    Mono<BookPageEntity> findPage(String afterId, Integer limit);
+    Mono<BookEntity> findById(String id);
+    Mono<List<BookEntity>> findByGenre(String genre);
+    Mono<List<BookEntity>> findByAuthor(String author);
+    Mono<BookSearchPageEntity> search(String query, Integer page, Integer limit);
+    Mono<List<BookEntity>> findAllByIds(List<String> ids);
+    Mono<List<BookEntity>> findSummariesByIds(List<String> ids);
+    Mono<BookPageEntity> findSummaryPage(String afterId, Integer limit);
+    Mono<List<BookEntity>> findSummariesByGenre(String genre);
+    Mono<List<BookEntity>> findSummariesByAuthor(String author);
+}
@@ -0,0 +1,16 @@
+package br.com.livraria.catalogodosabioapi.core.usecase.boundary.in;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveRecentlyViewedUseCase {
+
+    Mono<Void> track(String clientId, String bookId);
+
+    // Resumos, sem a descrição.
+    Mono<List<BookEntity>> find(String clientId);
+
+    Mono<List<BookEntity>> findWithDescription(String clientId);
+}
@@ -8,5 +8,8 @@ public interface RecentlyViewedUseCase {
 
     void track(String clientID, String bookId);
 
+    // Resumos, sem a descrição.
     List<BookEntity> find(String clientId);
+
+    List<BookEntity> findWithDescription(String clientId);
 }
@@ -2,14 +2,30 @@ package br.com.livraria.catalogodosabioapi.core.usecase.boundary.out;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
 
 public interface BookRepositoryPort {
 
     List<BookEntity> findAll();
+    BookPageEntity findPage(String afterId, int limit);
     Optional<BookEntity> findById(String id);
     List<BookEntity> findByGenre(String genre);
     List<BookEntity> findByAuthor(String author);
+    // Busca textual em título, autores e descrição, ordenada por relevância.
+    BookSearchPageEntity search(String query, int page, int limit);
+    // As buscas por múltiplos ids devolvem os livros na ordem dos ids informados, ignorando os inexistentes.
     List<BookEntity> findAllByIds(List<String> ids);
+    // Resumo para cards de listagem: todos os campos exceto a descrição.
+    List<BookEntity> findSummariesByIds(List<String> ids);
+    // Variantes em resumo das listagens, com a projeção aplicada na consulta e cacheadas à parte das completas.
+    BookPageEntity findSummaryPage(String afterId, int limit);
+    List<BookEntity> findSummariesByGenre(String genre);
+    List<BookEntity> findSummariesByAuthor(String author);
+
+    // O Stream retornado mantém um cursor aberto na base e deve ser fechado pelo chamador.
+    Stream<BookEntity> streamAll(int batchSize);
 }
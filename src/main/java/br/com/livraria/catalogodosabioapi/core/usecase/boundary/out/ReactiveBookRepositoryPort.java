@@ -0,0 +1,27 @@
+package br.com.livraria.catalogodosabioapi.core.usecase.boundary.out;
+
+import java.util.List;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
+import reactor.core.publisher.Mono;
+
+// Variante não bloqueante das leituras de BookRepositoryPort, usada no modo de implantação reativo.
+// As listas são devolvidas inteiras (Mono<List>) porque são cacheadas como um único valor.
+public interface ReactiveBookRepositoryPort {
+
+    Mono<BookPageEntity> findPage(String afterId, int limit);
+    // Vazio quando o livro não existe.
+    Mono<BookEntity> findById(String id);
+    Mono<List<BookEntity>> findByGenre(String genre);
+    Mono<List<BookEntity>> findByAuthor(String author);
+    Mono<BookSearchPageEntity> search(String query, int page, int limit);
+    // Na ordem dos ids informados, ignorando os inexistentes.
+    Mono<List<BookEntity>> findAllByIds(List<String> ids);
+    Mono<List<BookEntity>> findSummariesByIds(List<String> ids);
+    // Listagens sem a descrição, cacheadas à parte das completas.
+    Mono<BookPageEntity> findSummaryPage(String afterId, int limit);
+    Mono<List<BookEntity>> findSummariesByGenre(String genre);
+    Mono<List<BookEntity>> findSummariesByAuthor(String author);
+}
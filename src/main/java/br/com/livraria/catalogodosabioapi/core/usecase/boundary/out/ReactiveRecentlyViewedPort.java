@@ -0,0 +1,13 @@
+package br.com.livraria.catalogodosabioapi.core.usecase.boundary.out;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveRecentlyViewedPort {
+
+    Mono<Void> save(String clientId, String bookId);
+
+    // O primeiro id é o visualizado mais recentemente.
+    Mono<List<String>> findByClientId(String clientId);
+}
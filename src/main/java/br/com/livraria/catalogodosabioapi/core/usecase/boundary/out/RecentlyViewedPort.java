@@ -1,10 +1,14 @@
 package br.com.livraria.catalogodosabioapi.core.usecase.boundary.out;
 
 import java.util.List;
+import java.util.Map;
 
 public interface RecentlyViewedPort {
 
     void save(String clientId, String bookId);
 
+    // Cada lista deve estar na ordem das visualizações: o último id é o visualizado mais recentemente.
+    void saveAll(Map<String, List<String>> bookIdsByClientId);
+
     List<String> findByClientId(String clientId);
 }
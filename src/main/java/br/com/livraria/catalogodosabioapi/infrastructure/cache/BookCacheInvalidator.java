@@ -0,0 +1,263 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.CachingProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.CollationKeys;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream.BookChange;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream.BookChangeListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Remove dos caches de {@code MongoBookRepositoryAdapter} as entradas afetadas por cada alteração na coleção
+ * de livros, para que os TTLs sirvam apenas como rede de segurança.
+ * <ul>
+ *     <li>{@code book} e {@code bookSummary}: a entrada do id alterado.</li>
+ *     <li>{@code booksByGenre} e {@code booksByAuthor}, e os resumos correspondentes: as chaves dos gêneros/autores atuais e anteriores do livro.
+ *     Os anteriores vêm da pre-image, ou são os atuais quando o update não tocou no campo; sem essa informação
+ *     o cache inteiro é limpo.</li>
+ *     <li>{@code books}, {@code booksPage}, {@code booksPageSummary} e {@code booksSearch}: limpos, já que qualquer alteração pode mudar
+ *     o conteúdo ou os limites das listas.</li>
+ * </ul>
+ * As limpezas de caches inteiros não são feitas a cada evento: a primeira agenda a limpeza do cache para depois de
+ * {@code caching.invalidation.clear-delay} e os eventos seguintes da janela se juntam a ela. Uma rajada de
+ * alterações custa assim uma varredura no Redis e um aviso aos L1 por cache, em troca de listas até uma janela
+ * desatualizadas.
+ * <p>
+ * Durante uma carga em lote a invalidação por evento fica suspensa (ver {@link #suspend(int)}).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "caching.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BookCacheInvalidator implements BookChangeListener, DisposableBean {
+
+    static final List<String> BY_ID_CACHES = List.of("book", "bookSummary");
+    static final List<String> LIST_CACHES = List.of("books", "booksPage", "booksPageSummary", "booksSearch");
+    static final List<String> GENRE_CACHES = List.of("booksByGenre", "booksByGenreSummary");
+    static final List<String> AUTHOR_CACHES = List.of("booksByAuthor", "booksByAuthorSummary");
+    static final List<String> LOOKUP_CACHES = List.of("booksByGenre", "booksByGenreSummary", "booksByAuthor", "booksByAuthorSummary");
+
+    private final CacheManager cacheManager;
+    private final Duration clearDelay;
+    private final ScheduledExecutorService clearScheduler;
+    private final Set<String> pendingClears = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock suspensionLock = new ReentrantLock();
+
+    private boolean streamOpened;
+    private int suspensions;
+    private BulkCacheInvalidation deferred;
+
+    public BookCacheInvalidator(CacheManager cacheManager, CachingProperties cachingProperties) {
+        this(cacheManager, cachingProperties.invalidation().clearDelay());
+    }
+
+    BookCacheInvalidator(CacheManager cacheManager, Duration clearDelay) {
+        this.cacheManager = cacheManager;
+        this.clearDelay = clearDelay;
+        this.clearScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("book-cache-clear").factory());
+    }
+
+    /**
+     * Suspende a invalidação por evento enquanto uma carga em lote grava a coleção; a própria carga invalida os
+     * caches ao final com {@link BulkCacheInvalidation}. Os eventos recebidos nesse meio tempo, inclusive os de
+     * outras escritas, são acumulados e aplicados de uma vez quando o change stream fica sem eventos novos depois
+     * que a última suspensão é fechada: o fluxo entrega os eventos com atraso, e os da carga podem chegar depois dela.
+     *
+     * @param maxTargetedEvictions acima desta quantidade de chaves acumuladas em um cache, ele é limpo por inteiro.
+     */
+    public Suspension suspend(int maxTargetedEvictions) {
+        suspensionLock.lock();
+        try {
+            suspensions++;
+            if (deferred == null) {
+                deferred = new BulkCacheInvalidation(cacheManager, maxTargetedEvictions);
+            }
+        } finally {
+            suspensionLock.unlock();
+        }
+        return new Suspension();
+    }
+
+    @Override
+    public void onChange(BookChange change) {
+        if (defer(change)) {
+            return;
+        }
+        log.debug("Invalidando caches do livro {} após {}", change.id(), change.operation());
+        BY_ID_CACHES.forEach(cacheName -> evict(cacheName, change.id()));
+        LIST_CACHES.forEach(this::scheduleClear);
+        GENRE_CACHES.forEach(cacheName -> evictLookups(cacheName, "genres", BookEntity::genres, change));
+        AUTHOR_CACHES.forEach(cacheName -> evictLookups(cacheName, "authors", BookEntity::authors, change));
+    }
+
+    @Override
+    public void onCaughtUp() {
+        BulkCacheInvalidation pending;
+        suspensionLock.lock();
+        try {
+            if (deferred == null || suspensions > 0) {
+                return;
+            }
+            pending = deferred;
+            deferred = null;
+        } finally {
+            suspensionLock.unlock();
+        }
+        log.debug("Aplicando as invalidações acumuladas durante a carga em lote");
+        pending.apply();
+    }
+
+    // Na primeira abertura não há eventos perdidos a compensar; nas reaberturas sem continuidade, qualquer
+    // livro pode ter mudado e todos os caches de livros são limpos.
+    @Override
+    public void onReset() {
+        if (!streamOpened) {
+            streamOpened = true;
+            return;
+        }
+        log.info("Change stream de livros reaberto sem continuidade. Limpando os caches de livros.");
+        BY_ID_CACHES.forEach(this::clear);
+        LIST_CACHES.forEach(this::clear);
+        LOOKUP_CACHES.forEach(this::clear);
+    }
+
+    private void evictLookups(String cacheName, String field, Function<BookEntity, List<String>> values, BookChange change) {
+        Set<String> keys = new HashSet<>();
+        if (change.book() != null) {
+            keys.addAll(keysOf(values.apply(change.book())));
+        }
+
+        if (change.previous() != null) {
+            keys.addAll(keysOf(values.apply(change.previous())));
+        } else if (previousUnknown(change, field)) {
+            log.debug("Valores anteriores de '{}' do livro {} desconhecidos. Limpando o cache {}", field, change.id(), cacheName);
+            scheduleClear(cacheName);
+            return;
+        }
+
+        keys.forEach(key -> evict(cacheName, key));
+    }
+
+    private boolean defer(BookChange change) {
+        suspensionLock.lock();
+        try {
+            if (deferred == null) {
+                return false;
+            }
+            deferred.record(change.id(), lookupValues(change, BookEntity::genres), lookupValues(change, BookEntity::authors));
+            if (previousUnknown(change, "genres")) {
+                deferred.recordUnknownGenres();
+            }
+            if (previousUnknown(change, "authors")) {
+                deferred.recordUnknownAuthors();
+            }
+            return true;
+        } finally {
+            suspensionLock.unlock();
+        }
+    }
+
+    private static boolean previousUnknown(BookChange change, String field) {
+        return change.previous() == null && change.operation() != BookChange.Operation.INSERT && change.mayHaveChanged(field);
+    }
+
+    private static List<String> lookupValues(BookChange change, Function<BookEntity, List<String>> values) {
+        List<String> all = new ArrayList<>();
+        if (change.book() != null && values.apply(change.book()) != null) {
+            all.addAll(values.apply(change.book()));
+        }
+        if (change.previous() != null && values.apply(change.previous()) != null) {
+            all.addAll(values.apply(change.previous()));
+        }
+        return all;
+    }
+
+    private static Set<String> keysOf(List<String> values) {
+        Set<String> keys = new HashSet<>();
+        if (values != null) {
+            values.forEach(value -> keys.add(CollationKeys.primary(value)));
+        }
+        return keys;
+    }
+
+    private void evict(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    // Só o primeiro pedido da janela agenda a limpeza; a marca sai antes de limpar, para que um evento chegado
+    // durante a limpeza agende a próxima.
+    private void scheduleClear(String cacheName) {
+        if (clearDelay.isZero()) {
+            clear(cacheName);
+            return;
+        }
+        if (pendingClears.add(cacheName)) {
+            clearScheduler.schedule(() -> clearPending(cacheName), clearDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void clearPending(String cacheName) {
+        pendingClears.remove(cacheName);
+        try {
+            clear(cacheName);
+        } catch (RuntimeException e) {
+            log.error("Falha ao limpar o cache {}: {}", cacheName, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        clearScheduler.shutdownNow();
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Suspensão aberta por {@link #suspend(int)}; fechar mais de uma vez não tem efeito.
+     */
+    public final class Suspension implements AutoCloseable {
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Suspension() {
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            suspensionLock.lock();
+            try {
+                suspensions--;
+            } finally {
+                suspensionLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.CachingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Resolve os caches das anotações {@code @Cacheable} a partir do {@link CacheManager} da aplicação (Redis ou
+ * dois níveis) e aplica os decoradores configurados em {@link CachingProperties}. Os decoradores ficam apenas no
+ * caminho das anotações; acessos diretos ao {@link CacheManager} (carga em lote, invalidação) usam os caches originais.
+ */
+@Slf4j
+public class BookCacheResolver implements CacheResolver {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final CachingProperties cachingProperties;
+    private final RedisLoadLock redisLoadLock;
+    private final Executor refreshExecutor;
+    private final ObjectProvider<CacheRefreshLoader> refreshLoader;
+    private final Map<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+
+    // redisLoadLock nulo quando o carregamento único é apenas local.
+    public BookCacheResolver(ObjectProvider<CacheManager> cacheManager, CachingProperties cachingProperties,
+                             RedisLoadLock redisLoadLock, Executor refreshExecutor,
+                             ObjectProvider<CacheRefreshLoader> refreshLoader) {
+        this.cacheManager = cacheManager;
+        this.cachingProperties = cachingProperties;
+        this.redisLoadLock = redisLoadLock;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshLoader = refreshLoader;
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        return context.getOperation().getCacheNames().stream()
+                .map(name -> decoratedCaches.computeIfAbsent(name, this::decorate))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Cache decorate(String name) {
+        Cache cache = cacheManager.getObject().getCache(name);
+        if (cache == null) {
+            throw new IllegalArgumentException("Cache não encontrado: '" + name + "'");
+        }
+
+        CachingProperties.SingleFlight singleFlight = cachingProperties.singleFlight();
+        if (singleFlight.enabled()) {
+            cache = new SingleFlightCache(cache, redisLoadLock, singleFlight.lockWait(), singleFlight.pollInterval());
+        }
+
+        CachingProperties.RefreshAhead refreshAhead = cachingProperties.refreshAhead().get(name);
+        if (refreshAhead != null) {
+            CacheRefreshLoader refreshLoaders = refreshLoader.getIfUnique();
+            Function<Object, Object> loader = refreshLoaders != null ? refreshLoaders.loaderFor(name) : null;
+            if (loader == null) {
+                log.warn("Cache '{}': nenhuma recarga disponível; o refresh antecipado não será aplicado.", name);
+                return cache;
+            }
+            Duration hardTtl = cachingProperties.ttls().get(name);
+            if (hardTtl != null && refreshAhead.softTtl().compareTo(hardTtl) >= 0) {
+                log.warn("Cache '{}': o TTL suave ({}) não é menor que o TTL do Redis ({}); o refresh antecipado nunca ocorrerá.",
+                        name, refreshAhead.softTtl(), hardTtl);
+            }
+            cache = new RefreshAheadCache(cache, loader, refreshAhead.softTtl(), refreshAhead.jitter(), refreshExecutor, Clock.systemUTC());
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,320 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Serializer dos caches de livros com formato binário compacto e versionado.
+ * <p>
+ * Cabeçalho de 4 bytes: {@code MAGIC}, versão do formato, flags (compressão, {@link RefreshableValue}) e tipo
+ * do valor. Livros, listas de livros e páginas são gravados campo a campo, sem nomes nem metadados de classe;
+ * qualquer outro valor é delegado ao JSON do Jackson dentro do mesmo envelope. Acima de {@code compressionThreshold} bytes o corpo é
+ * comprimido com LZ4 quando isso reduz o tamanho.
+ * <p>
+ * A leitura aceita tanto o formato binário quanto JSON puro, então trocar o formato de um cache em
+ * {@code caching.serialization} não quebra as entradas já gravadas: elas continuam legíveis até expirarem.
+ * <p>
+ * Com um {@link ContentTags}, o hash do corpo binário de cada valor gravado ou lido é registrado como sua ETag.
+ */
+public class BookCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte VERSION = 1;
+
+    private static final byte FLAG_LZ4 = 1;
+    // O corpo começa com o instante de refresh (long) de um RefreshableValue, seguido do valor original.
+    private static final byte FLAG_REFRESHABLE = 2;
+
+    private static final byte TYPE_JSON = 0;
+    private static final byte TYPE_BOOK = 1;
+    private static final byte TYPE_BOOK_LIST = 2;
+    private static final byte TYPE_BOOK_PAGE = 3;
+    private static final byte TYPE_BOOK_SEARCH_PAGE = 4;
+
+    private static final int HEADER_SIZE = 4;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer;
+    private final boolean writeBinary;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+    private final ContentTags contentTags;
+
+    public BookCacheSerializer(GenericJackson2JsonRedisSerializer jsonSerializer, boolean writeBinary, int compressionThreshold) {
+        this(jsonSerializer, writeBinary, compressionThreshold, null);
+    }
+
+    /**
+     * @param writeBinary          {@code false} grava JSON puro, como o {@link GenericJackson2JsonRedisSerializer}.
+     * @param compressionThreshold tamanho mínimo do corpo binário para tentar a compressão; negativo desliga.
+     * @param contentTags          registro das ETags dos valores binários; {@code null} desliga.
+     */
+    public BookCacheSerializer(GenericJackson2JsonRedisSerializer jsonSerializer, boolean writeBinary, int compressionThreshold,
+                               ContentTags contentTags) {
+        this.jsonSerializer = jsonSerializer;
+        this.writeBinary = writeBinary;
+        this.compressionThreshold = compressionThreshold;
+        this.contentTags = contentTags;
+        LZ4Factory lz4Factory = LZ4Factory.fastestInstance();
+        this.compressor = lz4Factory.fastCompressor();
+        this.decompressor = lz4Factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!writeBinary) {
+            return jsonSerializer.serialize(value);
+        }
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(buffer);
+            byte flags = 0;
+            int valueOffset = 0;
+            if (value instanceof RefreshableValue refreshable) {
+                flags = FLAG_REFRESHABLE;
+                out.writeLong(refreshable.refreshAt());
+                valueOffset = Long.BYTES;
+                value = refreshable.value();
+            }
+            byte type = writeBody(value, out);
+            byte[] body = buffer.toByteArray();
+            rememberTag(value, type, body, valueOffset);
+            return envelope(flags, type, body);
+        } catch (IOException e) {
+            throw new SerializationException("Não foi possível serializar o valor do cache", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION) {
+            throw new SerializationException("Versão de formato de cache não suportada: " + (bytes.length > 1 ? bytes[1] : "?"));
+        }
+
+        byte flags = bytes[2];
+        byte type = bytes[3];
+        try {
+            byte[] body = (flags & FLAG_LZ4) != 0 ? decompress(bytes) : Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+            if ((flags & FLAG_REFRESHABLE) != 0) {
+                long refreshAt = in.readLong();
+                Object value = readBody(type, in);
+                rememberTag(value, type, body, Long.BYTES);
+                return new RefreshableValue(value, refreshAt);
+            }
+            Object value = readBody(type, in);
+            rememberTag(value, type, body, 0);
+            return value;
+        } catch (IOException e) {
+            throw new SerializationException("Não foi possível desserializar o valor do cache", e);
+        }
+    }
+
+    /**
+     * ETag de um valor que não passou pelo serializer, igual à registrada quando ele é gravado ou lido.
+     */
+    String contentTag(Object value) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+            byte type = writeBody(value, new DataOutputStream(buffer));
+            byte[] body = buffer.toByteArray();
+            return ContentTags.tag(type, body, 0, body.length);
+        } catch (IOException e) {
+            throw new SerializationException("Não foi possível calcular a ETag do valor", e);
+        }
+    }
+
+    private void rememberTag(Object value, byte type, byte[] body, int offset) {
+        if (contentTags != null) {
+            contentTags.remember(value, ContentTags.tag(type, body, offset, body.length - offset));
+        }
+    }
+
+    private byte writeBody(Object value, DataOutputStream out) throws IOException {
+        if (value instanceof BookEntity book) {
+            writeBook(book, out);
+            return TYPE_BOOK;
+        }
+        if (value instanceof BookPageEntity page) {
+            writeBooks(page.books(), out);
+            writeString(page.nextAfterId(), out);
+            return TYPE_BOOK_PAGE;
+        }
+        if (value instanceof BookSearchPageEntity page) {
+            writeBooks(page.books(), out);
+            out.writeInt(page.page());
+            out.writeBoolean(page.hasNext());
+            return TYPE_BOOK_SEARCH_PAGE;
+        }
+        if (value instanceof List<?> list && list.stream().allMatch(BookEntity.class::isInstance)) {
+            @SuppressWarnings("unchecked")
+            List<BookEntity> books = (List<BookEntity>) list;
+            writeBooks(books, out);
+            return TYPE_BOOK_LIST;
+        }
+        out.write(jsonSerializer.serialize(value));
+        return TYPE_JSON;
+    }
+
+    private Object readBody(byte type, DataInputStream in) throws IOException {
+        return switch (type) {
+            case TYPE_JSON -> jsonSerializer.deserialize(in.readAllBytes());
+            case TYPE_BOOK -> readBook(in);
+            case TYPE_BOOK_LIST -> readBooks(in);
+            case TYPE_BOOK_PAGE -> new BookPageEntity(readBooks(in), readString(in));
+            case TYPE_BOOK_SEARCH_PAGE -> new BookSearchPageEntity(readBooks(in), in.readInt(), in.readBoolean());
+            default -> throw new SerializationException("Tipo de valor de cache desconhecido: " + type);
+        };
+    }
+
+    private byte[] envelope(byte flags, byte type, byte[] body) {
+        byte[] payload = body;
+        if (compressionThreshold >= 0 && body.length >= compressionThreshold) {
+            byte[] compressed = new byte[Integer.BYTES + compressor.maxCompressedLength(body.length)];
+            writeIntAt(compressed, 0, body.length);
+            int compressedLength = compressor.compress(body, 0, body.length, compressed, Integer.BYTES);
+            if (Integer.BYTES + compressedLength < body.length) {
+                flags |= FLAG_LZ4;
+                payload = Arrays.copyOf(compressed, Integer.BYTES + compressedLength);
+            }
+        }
+
+        byte[] result = new byte[HEADER_SIZE + payload.length];
+        result[0] = MAGIC;
+        result[1] = VERSION;
+        result[2] = flags;
+        result[3] = type;
+        System.arraycopy(payload, 0, result, HEADER_SIZE, payload.length);
+        return result;
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        int originalLength = readIntAt(bytes, HEADER_SIZE);
+        byte[] body = new byte[originalLength];
+        decompressor.decompress(bytes, HEADER_SIZE + Integer.BYTES, body, 0, originalLength);
+        return body;
+    }
+
+    private static void writeBooks(List<BookEntity> books, DataOutputStream out) throws IOException {
+        out.writeInt(books.size());
+        for (BookEntity book : books) {
+            writeBook(book, out);
+        }
+    }
+
+    private static List<BookEntity> readBooks(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<BookEntity> books = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            books.add(readBook(in));
+        }
+        return books;
+    }
+
+    private static void writeBook(BookEntity book, DataOutputStream out) throws IOException {
+        writeString(book.id(), out);
+        writeString(book.title(), out);
+        writeStrings(book.authors(), out);
+        writeStrings(book.genres(), out);
+        writeString(book.description(), out);
+        out.writeBoolean(book.price() != null);
+        if (book.price() != null) {
+            out.writeDouble(book.price());
+        }
+        out.writeBoolean(book.stock() != null);
+        if (book.stock() != null) {
+            out.writeInt(book.stock());
+        }
+    }
+
+    private static BookEntity readBook(DataInputStream in) throws IOException {
+        String id = readString(in);
+        String title = readString(in);
+        List<String> authors = readStrings(in);
+        List<String> genres = readStrings(in);
+        String description = readString(in);
+        Double price = in.readBoolean() ? in.readDouble() : null;
+        Integer stock = in.readBoolean() ? in.readInt() : null;
+        return new BookEntity(id, title, authors, genres, description, price, stock);
+    }
+
+    private static void writeStrings(List<String> values, DataOutputStream out) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(value, out);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void writeIntAt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    private static int readIntAt(byte[] source, int offset) {
+        return ((source[offset] & 0xFF) << 24) | ((source[offset + 1] & 0xFF) << 16)
+                | ((source[offset + 2] & 0xFF) << 8) | (source[offset + 3] & 0xFF);
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.CollationKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invalidação dos caches de livros ao final de uma carga em lote, com as mesmas regras do
+ * {@link BookCacheInvalidator}, mas aplicada uma única vez sobre todas as chaves afetadas: cada id e cada
+ * gênero/autor é removido uma vez, não uma vez por livro, e as listas são limpas uma vez.
+ * <p>
+ * Quando as chaves afetadas de um cache passam de {@code maxTargetedEvictions}, ele é limpo por inteiro: além
+ * desse ponto remover chave a chave custa mais round-trips ao Redis do que recarregar o cache.
+ */
+@Slf4j
+public class BulkCacheInvalidation {
+
+    private final CacheManager cacheManager;
+    private final int maxTargetedEvictions;
+    private final AffectedKeys ids = new AffectedKeys();
+    private final AffectedKeys genres = new AffectedKeys();
+    private final AffectedKeys authors = new AffectedKeys();
+
+    public BulkCacheInvalidation(CacheManager cacheManager, int maxTargetedEvictions) {
+        this.cacheManager = cacheManager;
+        this.maxTargetedEvictions = maxTargetedEvictions;
+    }
+
+    /**
+     * Registra um livro gravado; pode ser chamado por vários writers ao mesmo tempo. Os gêneros e autores devem
+     * incluir os valores anteriores do livro, para que as chaves antigas também sejam removidas.
+     */
+    public void record(String id, List<String> bookGenres, List<String> bookAuthors) {
+        ids.add(id);
+        if (bookGenres != null) {
+            bookGenres.forEach(genre -> genres.add(CollationKeys.primary(genre)));
+        }
+        if (bookAuthors != null) {
+            bookAuthors.forEach(author -> authors.add(CollationKeys.primary(author)));
+        }
+    }
+
+    // Algum livro pode ter saído de gêneros/autores que não se conhecem: o cache correspondente é limpo por inteiro.
+    public void recordUnknownGenres() {
+        genres.overflow();
+    }
+
+    public void recordUnknownAuthors() {
+        authors.overflow();
+    }
+
+    public void apply() {
+        if (ids.isEmpty()) {
+            return;
+        }
+        BookCacheInvalidator.BY_ID_CACHES.forEach(cacheName -> invalidate(cacheName, ids));
+        BookCacheInvalidator.GENRE_CACHES.forEach(cacheName -> invalidate(cacheName, genres));
+        BookCacheInvalidator.AUTHOR_CACHES.forEach(cacheName -> invalidate(cacheName, authors));
+        BookCacheInvalidator.LIST_CACHES.forEach(cacheName -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+
+    private void invalidate(String cacheName, AffectedKeys affected) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (affected.overflowed) {
+            log.info("Chaves afetadas no cache {} desconhecidas ou acima de {}. Limpando o cache inteiro.", cacheName, maxTargetedEvictions);
+            cache.clear();
+            return;
+        }
+        log.debug("Removendo {} chaves do cache {}", affected.keys.size(), cacheName);
+        affected.keys.forEach(cache::evict);
+    }
+
+    // Ao passar do limite as chaves deixam de ser guardadas: o cache será limpo de qualquer forma.
+    private final class AffectedKeys {
+
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+        private volatile boolean overflowed;
+
+        void add(String key) {
+            if (overflowed) {
+                return;
+            }
+            keys.add(key);
+            if (keys.size() > maxTargetedEvictions) {
+                overflow();
+            }
+        }
+
+        void overflow() {
+            overflowed = true;
+            keys.clear();
+        }
+
+        boolean isEmpty() {
+            return !overflowed && keys.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Leitura em lote de entradas de um cache por chave: consulta o L1 local, busca o restante no Redis
+ * com um único MGET, carrega só as chaves ausentes com o {@code loader} e devolve ao cache o que foi
+ * carregado em um pipeline. As entradas são lidas e gravadas no mesmo formato do {@link RedisCache},
+ * então são compartilhadas com os métodos {@code @Cacheable} que usam o mesmo cache.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheBulkLoader {
+
+    // Mesmo marcador binário que o RedisCache grava para valores nulos.
+    private static final byte[] BINARY_NULL_VALUE = RedisSerializer.java().serialize(NullValue.INSTANCE);
+
+    private final CacheManager cacheManager;
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    /**
+     * @return os valores encontrados, por chave. Chaves sem valor (no cache ou no loader) ficam de fora.
+     */
+    public <V> Map<String, V> getAll(String cacheName, Collection<String> keys, Function<Set<String>, Map<String, V>> loader) {
+        Set<String> pending = new LinkedHashSet<>(keys);
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.apply(pending);
+        }
+
+        TwoLevelCache twoLevelCache = cache instanceof TwoLevelCache twoLevel ? twoLevel : null;
+        Cache remote = twoLevelCache != null ? twoLevelCache.getRemote() : cache;
+        Map<String, V> found = new HashMap<>(pending.size());
+
+        if (twoLevelCache != null) {
+            readLocal(twoLevelCache, pending, found);
+        }
+        if (!pending.isEmpty()) {
+            if (remote instanceof RedisCache redisCache) {
+                readRedis(redisCache, twoLevelCache, pending, found);
+            } else {
+                readOneByOne(remote, pending, found);
+            }
+        }
+        if (pending.isEmpty()) {
+            return found;
+        }
+
+        log.debug("Cache '{}': {} de {} chaves ausentes, carregando da origem.", cacheName, pending.size(), keys.size());
+        Map<String, V> loaded = loader.apply(pending);
+        found.putAll(loaded);
+
+        if (remote instanceof RedisCache redisCache) {
+            writeRedis(redisCache, twoLevelCache, pending, loaded);
+        } else {
+            pending.forEach(key -> remote.put(key, loaded.get(key)));
+        }
+        return found;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> void readLocal(TwoLevelCache cache, Set<String> pending, Map<String, V> found) {
+        for (Iterator<String> iterator = pending.iterator(); iterator.hasNext(); ) {
+            String key = iterator.next();
+            Cache.ValueWrapper wrapper = cache.getLocal(key);
+            if (wrapper != null) {
+                iterator.remove();
+                if (wrapper.get() != null) {
+                    found.put(key, (V) wrapper.get());
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> void readRedis(RedisCache cache, TwoLevelCache twoLevelCache, Set<String> pending, Map<String, V> found) {
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        List<String> orderedKeys = new ArrayList<>(pending);
+        byte[][] redisKeys = orderedKeys.stream()
+                .map(key -> redisKey(cache, key))
+                .toArray(byte[][]::new);
+
+        List<byte[]> values;
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(redisKeys);
+        }
+        if (values == null) {
+            return;
+        }
+
+        for (int i = 0; i < orderedKeys.size(); i++) {
+            byte[] raw = values.get(i);
+            if (raw == null) {
+                continue;
+            }
+            String key = orderedKeys.get(i);
+            Object value = Arrays.equals(raw, BINARY_NULL_VALUE)
+                    ? null
+                    : configuration.getValueSerializationPair().read(ByteBuffer.wrap(raw));
+            pending.remove(key);
+            if (twoLevelCache != null) {
+                twoLevelCache.putLocal(key, value);
+            }
+            if (value != null) {
+                found.put(key, (V) value);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> void readOneByOne(Cache cache, Set<String> pending, Map<String, V> found) {
+        for (Iterator<String> iterator = pending.iterator(); iterator.hasNext(); ) {
+            String key = iterator.next();
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null) {
+                iterator.remove();
+                if (wrapper.get() != null) {
+                    found.put(key, (V) wrapper.get());
+                }
+            }
+        }
+    }
+
+    private <V> void writeRedis(RedisCache cache, TwoLevelCache twoLevelCache, Set<String> keys, Map<String, V> loaded) {
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.openPipeline();
+            for (String key : keys) {
+                V value = loaded.get(key);
+                if (value == null && !configuration.getAllowCacheNullValues()) {
+                    continue;
+                }
+                byte[] raw = value == null
+                        ? BINARY_NULL_VALUE
+                        : ByteUtils.getBytes(configuration.getValueSerializationPair().write(value));
+                connection.stringCommands().set(redisKey(cache, key), raw,
+                        expiration(configuration.getTtlFunction().getTimeToLive(key, value)),
+                        RedisStringCommands.SetOption.upsert());
+            }
+            connection.closePipeline();
+        }
+
+        if (twoLevelCache != null) {
+            keys.forEach(key -> twoLevelCache.putLocal(key, loaded.get(key)));
+        }
+    }
+
+    private static byte[] redisKey(RedisCache cache, String key) {
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        String prefixedKey = configuration.usePrefix() ? configuration.getKeyPrefixFor(cache.getName()) + key : key;
+        return ByteUtils.getBytes(configuration.getKeySerializationPair().write(prefixedKey));
+    }
+
+    private static Expiration expiration(Duration ttl) {
+        return ttl == null || ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl);
+    }
+}
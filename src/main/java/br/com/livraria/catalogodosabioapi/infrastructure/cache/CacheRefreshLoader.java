@@ -0,0 +1,15 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import java.util.function.Function;
+
+/**
+ * Fonte das recargas do {@link RefreshAheadCache}: para cada cache, uma função que lê o valor atual de uma chave
+ * direto da base, sem passar pelas anotações de cache. O refresh em segundo plano não reaproveita o
+ * {@code Callable} da requisição que o disparou, que pertence àquela invocação e não deve ser executado em outra
+ * thread depois que ela termina.
+ */
+public interface CacheRefreshLoader {
+
+    // null quando o cache não tem recarga; nesse caso o refresh antecipado não é aplicado a ele.
+    Function<Object, Object> loaderFor(String cacheName);
+}
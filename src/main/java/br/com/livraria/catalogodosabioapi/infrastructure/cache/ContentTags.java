@@ -0,0 +1,47 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.jpountz.xxhash.XXHash64;
+import net.jpountz.xxhash.XXHashFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.HexFormat;
+
+/**
+ * ETags fortes dos valores servidos pelos caches de livros.
+ * <p>
+ * A ETag é o XXH64 do corpo binário do {@link BookCacheSerializer}, calculado quando o valor é gravado ou lido do
+ * Redis e associado à própria instância, que é a mesma guardada no L1 e devolvida ao controller. Em um acerto de
+ * cache a ETag sai de uma consulta por identidade, sem serializar nada. Valores que não passaram pelo serializer
+ * (caches em JSON, índice de busca em memória) têm o hash calculado na primeira consulta, com o mesmo resultado.
+ */
+public class ContentTags {
+
+    private static final XXHash64 HASH = XXHashFactory.fastestInstance().hash64();
+    private static final HexFormat HEX = HexFormat.of();
+
+    // weakKeys compara as chaves por identidade e descarta a ETag junto com o valor.
+    private final Cache<Object, String> tags = Caffeine.newBuilder().weakKeys().build();
+    private final BookCacheSerializer encoder = new BookCacheSerializer(new GenericJackson2JsonRedisSerializer(), true, -1);
+
+    /**
+     * @return a ETag entre aspas, pronta para o cabeçalho, ou {@code null} para um valor nulo.
+     */
+    public String tagOf(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return tags.get(value, encoder::contentTag);
+    }
+
+    void remember(Object value, String tag) {
+        if (value != null) {
+            tags.put(value, tag);
+        }
+    }
+
+    static String tag(byte type, byte[] body, int offset, int length) {
+        return "\"" + HEX.toHexDigits(HASH.hash(body, offset, length, type)) + "\"";
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@RequiredArgsConstructor
+public class NearCacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final String nodeId;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+                .split(NearCacheInvalidationPublisher.SEPARATOR, 3);
+
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        String cacheName = parts[1];
+        String key = parts.length == 3 ? parts[2] : null;
+        log.debug("Invalidação recebida da instância {}. Cache: {}, chave: {}", parts[0], cacheName, key != null ? key : "*");
+        cacheManager.evictLocal(cacheName, key);
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Publica, via Redis pub/sub, as invalidações feitas nesta instância para que os caches L1
+ * das demais instâncias descartem as entradas afetadas.
+ */
+@Slf4j
+public class NearCacheInvalidationPublisher {
+
+    static final String SEPARATOR = "\n";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String channel;
+    private final String nodeId;
+
+    public NearCacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.nodeId = UUID.randomUUID().toString();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public String channel() {
+        return channel;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(nodeId + SEPARATOR + cacheName);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            // Falha na publicação não deve quebrar a requisição; o TTL do L1 limita a janela de inconsistência.
+            log.warn("Falha ao publicar invalidação do cache local no canal {}: {}", channel, e.getMessage());
+        }
+    }
+}
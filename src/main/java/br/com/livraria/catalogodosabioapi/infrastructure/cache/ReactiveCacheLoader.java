@@ -0,0 +1,220 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache-aside não bloqueante para o modo reativo. Os caches declarados com {@code @Cacheable} não servem a
+ * métodos que devolvem {@link Mono} com os decoradores deste projeto, então as entradas são lidas e gravadas
+ * diretamente no Redis pelo cliente reativo do Lettuce, no mesmo formato do {@link RedisCache} (prefixo,
+ * serializer, TTL e marcador de nulo). Assim as entradas são compartilhadas com instâncias servlet e
+ * invalidadas pelo {@link BookCacheInvalidator} normalmente. O L1 do {@link TwoLevelCache} é consultado antes
+ * do Redis, e carregamentos simultâneos da mesma chave nesta instância são agrupados em um só.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveCacheLoader {
+
+    // Mesmo marcador binário que o RedisCache grava para valores nulos.
+    private static final byte[] BINARY_NULL_VALUE = RedisSerializer.java().serialize(NullValue.INSTANCE);
+
+    private final CacheManager cacheManager;
+    private final ReactiveRedisConnectionFactory redisConnectionFactory;
+    private final Map<String, Mono<Optional<Object>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @return o valor em cache ou, na ausência, o valor do {@code loader}, que é gravado no cache.
+     *         Vazio quando o loader não encontra valor (o nulo também é cacheado, como no {@code @Cacheable}).
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Mono<V> get(String cacheName, String key, Supplier<Mono<V>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        TwoLevelCache twoLevelCache = cache instanceof TwoLevelCache twoLevel ? twoLevel : null;
+        Cache remote = twoLevelCache != null ? twoLevelCache.getRemote() : cache;
+        if (!(remote instanceof RedisCache redisCache)) {
+            return loader.get();
+        }
+        if (twoLevelCache != null) {
+            Cache.ValueWrapper local = twoLevelCache.getLocal(key);
+            if (local != null) {
+                return Mono.justOrEmpty((V) unwrap(local.get()));
+            }
+        }
+
+        String flightKey = cacheName + "::" + key;
+        return inFlight.computeIfAbsent(flightKey, ignored -> readRedis(redisCache, key)
+                        .switchIfEmpty(Mono.defer(() -> loader.get()
+                                .map(value -> Optional.<Object>of(value))
+                                .defaultIfEmpty(Optional.empty())
+                                .flatMap(loaded -> writeRedis(redisCache, Map.of(key, loaded)).thenReturn(loaded))))
+                        .doOnNext(value -> {
+                            if (twoLevelCache != null) {
+                                twoLevelCache.putLocal(key, value.orElse(null));
+                            }
+                        })
+                        .doFinally(signal -> inFlight.remove(flightKey))
+                        .cache())
+                .flatMap(value -> Mono.justOrEmpty((V) value.orElse(null)));
+    }
+
+    /**
+     * Equivalente reativo do {@link CacheBulkLoader#getAll}: L1, um único MGET no Redis, {@code loader} apenas
+     * para as chaves ausentes e gravação do que foi carregado.
+     *
+     * @return os valores encontrados, por chave. Chaves sem valor (no cache ou no loader) ficam de fora.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Mono<Map<String, V>> getAll(String cacheName, Collection<String> keys,
+                                           Function<Set<String>, Mono<Map<String, V>>> loader) {
+        Set<String> pending = new LinkedHashSet<>(keys);
+        Cache cache = cacheManager.getCache(cacheName);
+        TwoLevelCache twoLevelCache = cache instanceof TwoLevelCache twoLevel ? twoLevel : null;
+        Cache remote = twoLevelCache != null ? twoLevelCache.getRemote() : cache;
+        if (!(remote instanceof RedisCache redisCache)) {
+            return loader.apply(pending);
+        }
+
+        Map<String, V> found = new HashMap<>(pending.size());
+        if (twoLevelCache != null) {
+            for (Iterator<String> iterator = pending.iterator(); iterator.hasNext(); ) {
+                String key = iterator.next();
+                Cache.ValueWrapper local = twoLevelCache.getLocal(key);
+                if (local != null) {
+                    iterator.remove();
+                    if (local.get() != null) {
+                        found.put(key, (V) unwrap(local.get()));
+                    }
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return Mono.just(found);
+        }
+
+        List<String> orderedKeys = new ArrayList<>(pending);
+        List<ByteBuffer> redisKeys = orderedKeys.stream().map(key -> redisKey(redisCache, key)).toList();
+        return withConnection(connection -> connection.stringCommands().mGet(redisKeys))
+                .defaultIfEmpty(List.of())
+                .flatMap(values -> {
+                    for (int i = 0; i < values.size(); i++) {
+                        Optional<Object> value = read(redisCache, values.get(i));
+                        if (value == null) {
+                            continue;
+                        }
+                        String key = orderedKeys.get(i);
+                        pending.remove(key);
+                        if (twoLevelCache != null) {
+                            twoLevelCache.putLocal(key, value.orElse(null));
+                        }
+                        value.ifPresent(present -> found.put(key, (V) present));
+                    }
+                    if (pending.isEmpty()) {
+                        return Mono.just(found);
+                    }
+
+                    log.debug("Cache '{}': {} de {} chaves ausentes, carregando da origem.", cacheName, pending.size(), keys.size());
+                    return loader.apply(pending).flatMap(loaded -> {
+                        found.putAll(loaded);
+                        Map<String, Optional<Object>> toWrite = new HashMap<>(pending.size());
+                        pending.forEach(key -> toWrite.put(key, Optional.ofNullable(loaded.get(key))));
+                        if (twoLevelCache != null) {
+                            pending.forEach(key -> twoLevelCache.putLocal(key, loaded.get(key)));
+                        }
+                        return writeRedis(redisCache, toWrite).thenReturn(found);
+                    });
+                });
+    }
+
+    private Mono<Optional<Object>> readRedis(RedisCache cache, String key) {
+        return withConnection(connection -> connection.stringCommands().get(redisKey(cache, key)))
+                .mapNotNull(raw -> read(cache, raw));
+    }
+
+    // null quando a chave não existe; Optional vazio para o marcador de nulo.
+    private static Optional<Object> read(RedisCache cache, ByteBuffer raw) {
+        if (raw == null || !raw.hasRemaining()) {
+            return null;
+        }
+        byte[] bytes = ByteUtils.getBytes(raw);
+        if (Arrays.equals(bytes, BINARY_NULL_VALUE)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(unwrap(cache.getCacheConfiguration().getValueSerializationPair().read(ByteBuffer.wrap(bytes))));
+    }
+
+    // Os comandos são emitidos em paralelo sobre a conexão compartilhada do Lettuce, que os envia em pipeline.
+    // Falhas de escrita não falham a requisição: a entrada apenas deixa de ser cacheada.
+    private Mono<Void> writeRedis(RedisCache cache, Map<String, Optional<Object>> values) {
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        return withConnection(connection -> Flux.fromIterable(values.entrySet())
+                .filter(entry -> entry.getValue().isPresent() || configuration.getAllowCacheNullValues())
+                .flatMap(entry -> {
+                    Object value = entry.getValue().orElse(null);
+                    ByteBuffer raw = value == null
+                            ? ByteBuffer.wrap(BINARY_NULL_VALUE)
+                            : configuration.getValueSerializationPair().write(value);
+                    Duration ttl = configuration.getTtlFunction().getTimeToLive(entry.getKey(), value);
+                    return connection.stringCommands().set(redisKey(cache, entry.getKey()), raw,
+                            expiration(ttl), RedisStringCommands.SetOption.upsert());
+                })
+                .then())
+                .onErrorResume(e -> {
+                    log.warn("Cache '{}': falha ao gravar {} entrada(s) no Redis: {}", cache.getName(), values.size(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private <T> Mono<T> withConnection(Function<ReactiveRedisConnection, Mono<T>> action) {
+        return Mono.usingWhen(Mono.fromSupplier(redisConnectionFactory::getReactiveConnection),
+                action, ReactiveRedisConnection::closeLater);
+    }
+
+    // Caches com refresh antecipado guardam o valor dentro de um RefreshableValue. O refresh em si continua
+    // a cargo das instâncias servlet; aqui o valor é apenas desembrulhado.
+    private static Object unwrap(Object value) {
+        return value instanceof RefreshableValue refreshable ? refreshable.value() : value;
+    }
+
+    private static ByteBuffer redisKey(RedisCache cache, String key) {
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        String prefixedKey = configuration.usePrefix() ? configuration.getKeyPrefixFor(cache.getName()) + key : key;
+        return configuration.getKeySerializationPair().write(prefixedKey);
+    }
+
+    private static Expiration expiration(Duration ttl) {
+        return ttl == null || ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lock por chave no Redis ({@code SET NX PX}) usado pelo carregamento único distribuído. O lock expira sozinho
+ * após o lease, e só é liberado por quem o adquiriu.
+ */
+@Slf4j
+public class RedisLoadLock {
+
+    static final String KEY_PREFIX = "catalogo:single-flight:";
+    static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/single-flight-release.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration lease;
+
+    public RedisLoadLock(RedisTemplate<String, String> redisTemplate, Duration lease) {
+        this.redisTemplate = redisTemplate;
+        this.lease = lease;
+    }
+
+    /**
+     * @return o token do lock adquirido, a ser usado em {@link #release}, ou {@code null} se outra instância já o possui.
+     */
+    public String tryAcquire(String cacheName, Object key) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, lease);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void release(String cacheName, Object key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (Exception e) {
+            // O lock expira sozinho ao fim do lease.
+            log.warn("Falha ao liberar o lock de carregamento do cache '{}' para a chave {}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private static String lockKey(String cacheName, Object key) {
+        return KEY_PREFIX + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,195 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Decorador de {@link Cache} com stale-while-revalidate para os métodos {@code @Cacheable(sync = true)}.
+ * <p>
+ * Cada valor é gravado como {@link RefreshableValue}, com um instante de refresh igual ao TTL suave menos um
+ * jitter aleatório, para que chaves carregadas juntas não vençam juntas. Depois desse instante, a leitura continua
+ * devolvendo o valor atual e dispara um único recarregamento em segundo plano por chave nesta instância. O TTL
+ * do Redis ({@code caching.ttls}) funciona como TTL rígido: se a chave não for lida até lá, ela expira normalmente.
+ * <p>
+ * A recarga usa o {@code loader} do cache, obtido de um {@link CacheRefreshLoader}, e não o {@code Callable} da
+ * requisição. Um {@code evict} ou {@code clear} durante a recarga a descarta: o valor lido pode ser anterior à
+ * escrita que motivou a invalidação e não deve voltar ao cache.
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final Function<Object, Object> loader;
+    private final Duration softTtl;
+    private final Duration jitter;
+    private final Executor executor;
+    private final Clock clock;
+    private final Map<Object, Refresh> refreshing = new ConcurrentHashMap<>();
+
+    public RefreshAheadCache(Cache delegate, Function<Object, Object> loader, Duration softTtl, Duration jitter,
+                             Executor executor, Clock clock) {
+        this.delegate = delegate;
+        this.loader = loader;
+        this.softTtl = softTtl;
+        this.jitter = jitter;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null && cached.get() instanceof RefreshableValue refreshable) {
+            if (clock.millis() >= refreshable.refreshAt()) {
+                refreshInBackground(key);
+            }
+            return (T) refreshable.value();
+        }
+        if (cached != null) {
+            // Entrada gravada antes de o refresh antecipado ser habilitado para este cache.
+            return (T) cached.get();
+        }
+
+        Object loaded = delegate.get(key, () -> refreshable(valueLoader.call()));
+        return (T) (loaded instanceof RefreshableValue refreshable ? refreshable.value() : loaded);
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null && cached.get() instanceof RefreshableValue refreshable) {
+            return new SimpleValueWrapper(refreshable.value());
+        }
+        return cached;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, refreshable(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, refreshable(value));
+        if (existing != null && existing.get() instanceof RefreshableValue refreshable) {
+            return new SimpleValueWrapper(refreshable.value());
+        }
+        return existing;
+    }
+
+    private void refreshInBackground(Object key) {
+        Refresh refresh = new Refresh();
+        if (refreshing.putIfAbsent(key, refresh) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    log.debug("Cache '{}': recarregando a chave {} antes da expiração.", getName(), key);
+                    RefreshableValue refreshed = refreshable(loader.apply(key));
+                    // A gravação e a remoção da marca ficam no compute da chave, serializadas com a marcação do evict.
+                    refreshing.compute(key, (k, current) -> {
+                        if (current == refresh && !refresh.discarded) {
+                            delegate.put(key, refreshed);
+                        } else {
+                            log.debug("Cache '{}': chave {} invalidada durante o refresh; valor descartado.", getName(), key);
+                        }
+                        return current == refresh ? null : current;
+                    });
+                } catch (Exception e) {
+                    // O valor atual continua sendo servido até o próximo refresh ou a expiração no Redis.
+                    log.warn("Cache '{}': falha ao recarregar a chave {}: {}", getName(), key, e.getMessage());
+                    refreshing.remove(key, refresh);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key, refresh);
+            log.warn("Cache '{}': não foi possível agendar o refresh da chave {}: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    private RefreshableValue refreshable(Object value) {
+        long jitterMillis = jitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1);
+        return new RefreshableValue(value, clock.millis() + softTtl.toMillis() - jitterMillis);
+    }
+
+    int refreshingCount() {
+        return refreshing.size();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public void evict(Object key) {
+        discardRefresh(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        discardRefresh(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        discardRefreshes();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        discardRefreshes();
+        return delegate.invalidate();
+    }
+
+    // A marcação vem antes da remoção no delegate: um refresh que já gravou tem o valor removido em seguida,
+    // e um que ainda não gravou encontra a marca e descarta o valor.
+    private void discardRefresh(Object key) {
+        refreshing.computeIfPresent(key, (k, refresh) -> refresh.discard());
+    }
+
+    private void discardRefreshes() {
+        refreshing.replaceAll((k, refresh) -> refresh.discard());
+    }
+
+    private static final class Refresh {
+
+        private volatile boolean discarded;
+
+        Refresh discard() {
+            discarded = true;
+            return this;
+        }
+    }
+}
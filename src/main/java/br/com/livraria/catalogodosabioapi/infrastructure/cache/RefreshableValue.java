@@ -0,0 +1,10 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import java.io.Serializable;
+
+/**
+ * Valor gravado pelos caches com refresh antecipado: o valor original mais o instante (epoch em milissegundos)
+ * a partir do qual ele deve ser recarregado em segundo plano.
+ */
+public record RefreshableValue(Object value, long refreshAt) implements Serializable {
+}
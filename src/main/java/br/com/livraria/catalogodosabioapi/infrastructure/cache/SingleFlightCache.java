@@ -0,0 +1,183 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decorador de {@link Cache} que garante um único carregamento por chave nos métodos {@code @Cacheable(sync = true)}.
+ * <p>
+ * Em um miss, a primeira thread registra um {@link CompletableFuture} para a chave e executa o carregamento;
+ * as demais threads da instância aguardam esse mesmo future. Com um {@link RedisLoadLock}, a thread que carrega
+ * também disputa um lock por chave no Redis: se outra instância já está carregando, aguarda o valor aparecer
+ * no cache por até {@code lockWait} e, passado esse tempo, carrega por conta própria.
+ * <p>
+ * Os demais métodos são repassados ao cache decorado.
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final RedisLoadLock redisLoadLock;
+    private final Duration lockWait;
+    private final Duration pollInterval;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // redisLoadLock nulo coordena apenas as threads desta instância.
+    public SingleFlightCache(Cache delegate, RedisLoadLock redisLoadLock, Duration lockWait, Duration pollInterval) {
+        this.delegate = delegate;
+        this.redisLoadLock = redisLoadLock;
+        this.lockWait = lockWait;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, loading);
+        if (existing != null) {
+            log.debug("Cache '{}': aguardando carregamento em andamento da chave {}", getName(), key);
+            return (T) await(existing, key, valueLoader);
+        }
+
+        try {
+            Object value = redisLoadLock == null ? load(key, valueLoader) : loadWithRedisLock(key, valueLoader);
+            loading.complete(value);
+            return (T) value;
+        } catch (Throwable e) {
+            // Inclui Errors: quem aguarda este carregamento não pode ficar preso em um future nunca concluído.
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, loading);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object loadWithRedisLock(Object key, Callable<?> valueLoader) {
+        String token = redisLoadLock.tryAcquire(getName(), key);
+        if (token != null) {
+            try {
+                // Outra instância pode ter terminado o carregamento entre o miss e a aquisição do lock.
+                ValueWrapper cached = delegate.get(key);
+                return cached != null ? cached.get() : load(key, valueLoader);
+            } finally {
+                redisLoadLock.release(getName(), key, token);
+            }
+        }
+
+        ValueWrapper loadedElsewhere = waitForValue(key);
+        if (loadedElsewhere != null) {
+            return loadedElsewhere.get();
+        }
+        log.debug("Cache '{}': a chave {} não foi carregada por outra instância em {}. Carregando localmente.", getName(), key, lockWait);
+        return load(key, valueLoader);
+    }
+
+    private ValueWrapper waitForValue(Object key) {
+        long deadline = System.nanoTime() + lockWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        delegate.put(key, value);
+        return value;
+    }
+
+    private Object await(CompletableFuture<Object> loading, Object key, Callable<?> valueLoader) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache em dois níveis: um L1 limitado em memória na frente do cache remoto (Redis, L2).
+ * Leituras que acertam o L1 não fazem round-trip nem desserialização; escritas e remoções
+ * vão ao L2 e são propagadas às outras instâncias pelo {@link NearCacheInvalidationPublisher}.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final NearCacheInvalidationPublisher publisher;
+
+    public TwoLevelCache(String name, Cache remote,
+                         com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+                         NearCacheInvalidationPublisher publisher) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    public Cache getRemote() {
+        return remote;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        ValueWrapper remoteValue = remote.get(key);
+        if (remoteValue != null) {
+            local.put(localKey, remoteValue);
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value = remote.get(key, valueLoader);
+        local.put(localKey, new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        local.put(localKey, new SimpleValueWrapper(value));
+        publisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        String localKey = localKey(key);
+        if (existing == null) {
+            local.put(localKey, new SimpleValueWrapper(value));
+            publisher.publishEvict(name, localKey);
+        } else {
+            local.put(localKey, existing);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        publisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        publisher.publishEvict(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        publisher.publishClear(name);
+        return invalidated;
+    }
+
+    ValueWrapper getLocal(String localKey) {
+        return local.getIfPresent(localKey);
+    }
+
+    void putLocal(String localKey, Object value) {
+        local.put(localKey, new SimpleValueWrapper(value));
+    }
+
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    long localSize() {
+        return local.estimatedSize();
+    }
+
+    CacheStats localStats() {
+        return local.stats();
+    }
+
+    // O Redis converte as chaves para String; o L1 usa a mesma representação para que as mensagens
+    // de invalidação trocadas entre instâncias identifiquem a entrada sem ambiguidade.
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.CachingProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CachingProperties cachingProperties;
+    private final NearCacheInvalidationPublisher publisher;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, CachingProperties cachingProperties,
+                                NearCacheInvalidationPublisher publisher) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.cachingProperties = cachingProperties;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    public CacheManager getRemoteCacheManager() {
+        return remoteCacheManager;
+    }
+
+    public void evictLocal(String cacheName, String localKey) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (localKey == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(localKey);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+
+        Duration localTtl = localTtl(name);
+        log.info("Criando cache em dois níveis '{}'. L1: até {} entradas, TTL de {}", name,
+                cachingProperties.nearCache().maximumSize(), localTtl);
+
+        return new TwoLevelCache(name, remote,
+                Caffeine.newBuilder()
+                        .maximumSize(cachingProperties.nearCache().maximumSize())
+                        .expireAfterWrite(localTtl)
+                        .recordStats()
+                        .build(),
+                publisher);
+    }
+
+    // O L1 nunca deve viver mais que a entrada correspondente no Redis.
+    private Duration localTtl(String name) {
+        Duration nearTtl = cachingProperties.nearCache().ttl();
+        Duration remoteTtl = cachingProperties.ttls().get(name);
+        return remoteTtl != null && remoteTtl.compareTo(nearTtl) < 0 ? remoteTtl : nearTtl;
+    }
+}
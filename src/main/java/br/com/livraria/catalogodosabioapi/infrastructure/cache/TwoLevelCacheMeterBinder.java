@@ -0,0 +1,95 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Métricas de um {@link TwoLevelCache} no formato padrão do Micrometer ({@code cache.gets}, {@code cache.puts},
+ * {@code cache.evictions}, {@code cache.size}), registradas pelo Spring Boot para cada cache do gerenciador.
+ * <p>
+ * Um acerto é uma leitura atendida pelo L1 ou pelo Redis; uma falta só acontece quando os dois níveis falham e o
+ * valor precisa ser carregado. O tamanho e as remoções são os do L1; o tamanho do Redis exigiria varrer as chaves.
+ * O detalhe por nível fica em {@code cache.level.gets}, com as tags {@code level} ({@code l1} ou {@code l2})
+ * e {@code result}.
+ */
+public class TwoLevelCacheMeterBinder extends CacheMeterBinder<TwoLevelCache> {
+
+    public TwoLevelCacheMeterBinder(TwoLevelCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.localSize() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        TwoLevelCache cache = getCache();
+        if (cache == null) {
+            return 0;
+        }
+        CacheStatistics remoteStats = remoteStats(cache);
+        long remoteHits = remoteStats != null ? remoteStats.getHits() : 0;
+        return cache.localStats().hitCount() + remoteHits;
+    }
+
+    @Override
+    protected Long missCount() {
+        TwoLevelCache cache = getCache();
+        if (cache == null) {
+            return null;
+        }
+        CacheStatistics remoteStats = remoteStats(cache);
+        return remoteStats != null ? remoteStats.getMisses() : cache.localStats().missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.localStats().evictionCount() : null;
+    }
+
+    @Override
+    protected long putCount() {
+        TwoLevelCache cache = getCache();
+        CacheStatistics remoteStats = cache != null ? remoteStats(cache) : null;
+        return remoteStats != null ? remoteStats.getPuts() : 0;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        TwoLevelCache cache = getCache();
+        if (cache == null) {
+            return;
+        }
+        levelGets(registry, cache, "l1", "hit", c -> c.localStats().hitCount());
+        levelGets(registry, cache, "l1", "miss", c -> c.localStats().missCount());
+        if (remoteStats(cache) != null) {
+            levelGets(registry, cache, "l2", "hit", c -> remoteStats(c).getHits());
+            levelGets(registry, cache, "l2", "miss", c -> remoteStats(c).getMisses());
+        }
+    }
+
+    private void levelGets(MeterRegistry registry, TwoLevelCache cache, String level, String result,
+                           ToDoubleFunction<TwoLevelCache> count) {
+        FunctionCounter.builder("cache.level.gets", cache, count)
+                .tags(getTagsWithCacheName())
+                .tag("level", level)
+                .tag("result", result)
+                .description("Leituras por nível do cache")
+                .register(registry);
+    }
+
+    private static CacheStatistics remoteStats(TwoLevelCache cache) {
+        return cache.getRemote() instanceof RedisCache redisCache ? redisCache.getStatistics() : null;
+    }
+}
@@ -2,14 +2,23 @@ package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.core.io.Resource;
 import org.springframework.validation.annotation.Validated;
 
+/**
+ * @param catalogSize     quantidade de livros gerados pelo seeder em um banco vazio.
+ * @param booksPerRequest quantidade máxima de livros pedidos em cada chamada à API; catálogos maiores são gerados
+ *                        em várias chamadas.
+ */
 @Validated
 @ConfigurationProperties(prefix = "google.aistudio")
 public record AiStudioProperties(
         @NotBlank String apiKey,
         @NotBlank String apiUrl,
-        @NotNull Resource requestSchema
+        @NotNull Resource requestSchema,
+        @DefaultValue("80") @Positive int catalogSize,
+        @DefaultValue("80") @Positive int booksPerRequest
 ) {}
@@ -0,0 +1,26 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.redis.RedisRecentlyViewedAdapter;
+import br.com.livraria.catalogodosabioapi.infrastructure.tracking.AsyncRecentlyViewedPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Com {@code recently-viewed.tracking.mode=ASYNC}, o {@code RecentlyViewedUseCase} passa a receber o
+ * decorador assíncrono no lugar do adaptador Redis, e o {@code track()} deixa de esperar pelo Redis.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "recently-viewed.tracking", name = "mode", havingValue = "ASYNC")
+public class AsyncTrackingConfiguration {
+
+    @Bean
+    @Primary
+    public AsyncRecentlyViewedPort asyncRecentlyViewedPort(RedisRecentlyViewedAdapter redisRecentlyViewedAdapter,
+                                                           TrackingProperties trackingProperties,
+                                                           MeterRegistry meterRegistry) {
+        return new AsyncRecentlyViewedPort(redisRecentlyViewedAdapter, trackingProperties, meterRegistry);
+    }
+}
@@ -6,6 +6,10 @@ import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.RecentlyViewedUseCase;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.RecentlyViewedPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.BookCacheSerializer;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.ContentTags;
+import br.com.livraria.catalogodosabioapi.infrastructure.metrics.PortMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,6 +19,9 @@ import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 @Configuration
 public class BeanConfiguration {
@@ -25,26 +32,49 @@ public class BeanConfiguration {
     }
 
     @Bean
-    public BookUseCase bookUseCase(final BookRepositoryPort bookRepositoryPort){
-        return new BookUseCaseImpl(bookRepositoryPort);
+    public BookUseCase bookUseCase(final BookRepositoryPort bookRepositoryPort, MeterRegistry meterRegistry){
+        return new BookUseCaseImpl(PortMetrics.timed(BookRepositoryPort.class, bookRepositoryPort, meterRegistry));
     }
 
     @Bean
-    public RecentlyViewedUseCase recentlyViewedUseCase(RecentlyViewedPort recentlyViewedPort, BookUseCase bookUseCase){
-        return new RecentlyViewedUseCaseImpl(recentlyViewedPort, bookUseCase);
+    public RecentlyViewedUseCase recentlyViewedUseCase(RecentlyViewedPort recentlyViewedPort, BookUseCase bookUseCase,
+                                                       MeterRegistry meterRegistry){
+        return new RecentlyViewedUseCaseImpl(PortMetrics.timed(RecentlyViewedPort.class, recentlyViewedPort, meterRegistry), bookUseCase);
     }
 
     @Bean
-    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(CachingProperties cachingProperties) {
+    public ContentTags contentTags() {
+        return new ContentTags();
+    }
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(CachingProperties cachingProperties,
+                                                                                 ContentTags contentTags) {
         return (builder) -> {
+            CachingProperties.Serialization serialization = cachingProperties.serialization();
+            GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+            int compressionThreshold = serialization.compress() ? (int) serialization.compressionThreshold().toBytes() : -1;
+            Map<CachingProperties.Format, RedisSerializationContext.SerializationPair<Object>> serializers = Map.of(
+                    CachingProperties.Format.JSON, RedisSerializationContext.SerializationPair.fromSerializer(
+                            new BookCacheSerializer(jsonSerializer, false, compressionThreshold, contentTags)),
+                    CachingProperties.Format.BINARY, RedisSerializationContext.SerializationPair.fromSerializer(
+                            new BookCacheSerializer(jsonSerializer, true, compressionThreshold, contentTags)));
+
             RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                    .serializeValuesWith(serializers.get(serialization.defaultFormat()));
 
             builder.cacheDefaults(defaultCacheConfig);
+            // Acertos, faltas e gravações por cache, expostos pelo Micrometer.
+            builder.enableStatistics();
 
-            cachingProperties.ttls().forEach((cacheName, ttl) ->
-                    builder.withCacheConfiguration(cacheName, defaultCacheConfig.entryTtl(ttl))
-            );
+            Set<String> cacheNames = new HashSet<>(cachingProperties.ttls().keySet());
+            cacheNames.addAll(serialization.formats().keySet());
+            cacheNames.forEach(cacheName -> {
+                RedisCacheConfiguration cacheConfig = defaultCacheConfig
+                        .serializeValuesWith(serializers.get(serialization.formatOf(cacheName)));
+                Duration ttl = cachingProperties.ttls().get(cacheName);
+                builder.withCacheConfiguration(cacheName, ttl != null ? cacheConfig.entryTtl(ttl) : cacheConfig);
+            });
         };
     }
 }
@@ -0,0 +1,58 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.BookCacheResolver;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.CacheRefreshLoader;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.RedisLoadLock;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Registra o {@link BookCacheResolver} como resolvedor padrão das anotações de cache. As dependências são
+ * obtidas por {@link ObjectProvider}, já que um {@link CachingConfigurer} é criado antes dos demais beans.
+ * O resolvedor não é exposto como bean: um bean chamado {@code cacheResolver} desligaria a autoconfiguração
+ * do RedisCacheManager usada quando o near cache está desabilitado.
+ */
+@Configuration
+public class CacheResolverConfiguration implements CachingConfigurer, DisposableBean {
+
+    // Recargas do refresh antecipado: uma virtual thread por recarga, já que cada uma passa a maior parte do tempo no MongoDB.
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<CachingProperties> cachingProperties;
+    private final ObjectProvider<RedisTemplate<String, String>> redisTemplate;
+    private final ObjectProvider<CacheRefreshLoader> refreshLoader;
+
+    public CacheResolverConfiguration(ObjectProvider<CacheManager> cacheManager,
+                                      ObjectProvider<CachingProperties> cachingProperties,
+                                      ObjectProvider<RedisTemplate<String, String>> redisTemplate,
+                                      ObjectProvider<CacheRefreshLoader> refreshLoader) {
+        this.cacheManager = cacheManager;
+        this.cachingProperties = cachingProperties;
+        this.redisTemplate = redisTemplate;
+        this.refreshLoader = refreshLoader;
+    }
+
+    @Override
+    public CacheResolver cacheResolver() {
+        CachingProperties properties = cachingProperties.getObject();
+        CachingProperties.SingleFlight singleFlight = properties.singleFlight();
+        RedisLoadLock redisLoadLock = singleFlight.mode() == CachingProperties.SingleFlight.Mode.DISTRIBUTED
+                ? new RedisLoadLock(redisTemplate.getObject(), singleFlight.lockLease())
+                : null;
+        return new BookCacheResolver(cacheManager, properties, redisLoadLock, refreshExecutor, refreshLoader);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -1,10 +1,114 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
 import java.util.Map;
 
 @ConfigurationProperties(prefix = "caching")
-public record CachingProperties( Map<String, Duration> ttls) {
+public record CachingProperties(
+        Map<String, Duration> ttls,
+        @DefaultValue NearCache nearCache,
+        @DefaultValue Serialization serialization,
+        @DefaultValue SingleFlight singleFlight,
+        @DefaultValue Invalidation invalidation,
+        Map<String, RefreshAhead> refreshAhead
+) {
+
+    public CachingProperties {
+        ttls = ttls != null ? ttls : Map.of();
+        refreshAhead = refreshAhead != null ? refreshAhead : Map.of();
+    }
+
+    /**
+     * Configuração do cache local (L1) mantido em memória em cada instância, na frente do Redis (L2).
+     */
+    public record NearCache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("10000") long maximumSize,
+            @DefaultValue("1m") Duration ttl,
+            @DefaultValue("catalogo:near-cache:invalidation") String channel
+    ) {
+    }
+
+    /**
+     * Formato dos valores gravados no Redis.
+     *
+     * @param defaultFormat        formato dos caches não listados em {@code formats}.
+     * @param formats              formato por nome de cache.
+     * @param compress             comprime com LZ4 os valores binários maiores que {@code compressionThreshold}.
+     * @param compressionThreshold tamanho mínimo do valor serializado para tentar a compressão.
+     */
+    public record Serialization(
+            @DefaultValue("JSON") Format defaultFormat,
+            Map<String, Format> formats,
+            @DefaultValue("true") boolean compress,
+            @DefaultValue("1KB") DataSize compressionThreshold
+    ) {
+
+        public Serialization {
+            formats = formats != null ? formats : Map.of();
+        }
+
+        public Format formatOf(String cacheName) {
+            return formats.getOrDefault(cacheName, defaultFormat);
+        }
+    }
+
+    /**
+     * Carregamento único por chave nos métodos {@code @Cacheable}: em um miss, apenas uma requisição executa a
+     * consulta e as demais aguardam o mesmo resultado.
+     *
+     * @param enabled      liga o carregamento único.
+     * @param mode         {@code LOCAL} coordena apenas as threads da instância; {@code DISTRIBUTED} usa também
+     *                     um lock por chave no Redis, coordenando todas as instâncias.
+     * @param lockLease    tempo de vida do lock no Redis, para que uma instância que caiu não bloqueie a chave.
+     * @param lockWait     tempo máximo que uma instância espera o valor carregado por outra antes de carregar por conta própria.
+     * @param pollInterval intervalo entre as consultas ao cache enquanto outra instância carrega o valor.
+     */
+    public record SingleFlight(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("LOCAL") Mode mode,
+            @DefaultValue("10s") Duration lockLease,
+            @DefaultValue("3s") Duration lockWait,
+            @DefaultValue("50ms") Duration pollInterval
+    ) {
+
+        public enum Mode { LOCAL, DISTRIBUTED }
+    }
+
+    /**
+     * Invalidação dos caches de livros pelo change stream da coleção.
+     *
+     * @param enabled    liga a invalidação; sem replica set o change stream não é aberto e valem apenas os TTLs.
+     * @param clearDelay janela em que as limpezas de caches inteiros pedidas por vários eventos são agrupadas em uma
+     *                   só. Cada limpeza no Redis varre as chaves do cache com {@code KEYS} e é repassada aos L1 das
+     *                   demais instâncias; {@code 0s} limpa a cada evento.
+     */
+    public record Invalidation(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("1s") Duration clearDelay
+    ) {
+    }
+
+    /**
+     * Refresh antecipado de um cache (stale-while-revalidate). O TTL rígido é o de {@code caching.ttls}.
+     *
+     * @param softTtl idade a partir da qual o valor é recarregado em segundo plano, continuando a ser servido.
+     * @param jitter  antecipação aleatória máxima do refresh, para espalhar as recargas de chaves gravadas juntas.
+     */
+    public record RefreshAhead(
+            Duration softTtl,
+            @DefaultValue("0s") Duration jitter
+    ) {
+    }
+
+    public enum Format {
+        /** JSON do Jackson com metadados de tipo; legível pelo redis-cli. */
+        JSON,
+        /** Formato binário compacto para livros, listas e páginas de livros. */
+        BINARY
+    }
 }
@@ -0,0 +1,21 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * @param batchSize quantidade de documentos buscados por lote no cursor do MongoDB e de linhas
+ *                  escritas entre cada flush da resposta NDJSON.
+ * @param timeout   tempo máximo da escrita assíncrona da exportação; as demais requisições assíncronas
+ *                  mantêm o timeout padrão do Spring MVC.
+ */
+@Validated
+@ConfigurationProperties(prefix = "export")
+public record ExportProperties(
+        @DefaultValue("500") @Positive int batchSize,
+        @DefaultValue("30m") Duration timeout
+) {}
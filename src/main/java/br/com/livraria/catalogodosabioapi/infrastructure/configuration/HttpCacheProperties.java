@@ -0,0 +1,48 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.CacheControl;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cabeçalhos de cache HTTP dos endpoints de leitura do catálogo.
+ *
+ * @param maxAge tempo que o cliente pode reutilizar a resposta sem revalidar, por endpoint (mesmos nomes dos caches).
+ *               Endpoints sem entrada respondem {@code no-cache}: o cliente sempre revalida com {@code If-None-Match}.
+ */
+@ConfigurationProperties(prefix = "http-cache")
+public record HttpCacheProperties(
+        Map<String, Duration> maxAge,
+        @DefaultValue ResponseCache responseCache
+) {
+
+    public HttpCacheProperties {
+        maxAge = maxAge != null ? maxAge : Map.of();
+    }
+
+    public CacheControl cacheControl(String endpoint) {
+        Duration duration = maxAge.get(endpoint);
+        CacheControl cacheControl = duration != null ? CacheControl.maxAge(duration) : CacheControl.noCache();
+        // As respostas exigem token de acesso: podem ficar no cliente, nunca em um cache compartilhado.
+        return cacheControl.cachePrivate();
+    }
+
+    /**
+     * Corpos JSON já serializados das listagens, reaproveitados enquanto o valor correspondente estiver no L1.
+     *
+     * @param maximumSize soma máxima dos corpos JSON mantidos em memória.
+     * @param gzip        guarda também a versão em gzip, servida a clientes que enviam {@code Accept-Encoding: gzip}.
+     * @param gzipMinSize tamanho mínimo do JSON para servi-lo comprimido.
+     */
+    public record ResponseCache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("64MB") DataSize maximumSize,
+            @DefaultValue("true") boolean gzip,
+            @DefaultValue("1KB") DataSize gzipMinSize
+    ) {
+    }
+}
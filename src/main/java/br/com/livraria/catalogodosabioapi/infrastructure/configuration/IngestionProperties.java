@@ -0,0 +1,32 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração da ingestão em lote do catálogo.
+ *
+ * @param file                 arquivo de carga (JSON, NDJSON ou CSV) importado na inicialização; sem valor, nada é importado.
+ * @param batchSize            quantidade de livros por operação em lote no MongoDB.
+ * @param writers              quantidade máxima de lotes sendo gravados ao mesmo tempo.
+ * @param deadLetterDir        diretório dos arquivos com os registros rejeitados.
+ * @param progressInterval     intervalo entre os logs de progresso.
+ * @param maxTargetedEvictions acima desta quantidade de chaves afetadas em um cache, ele é limpo por inteiro em vez
+ *                             de invalidado chave a chave.
+ */
+@Validated
+@ConfigurationProperties(prefix = "ingestion")
+public record IngestionProperties(
+        Path file,
+        @DefaultValue("1000") @Positive int batchSize,
+        @DefaultValue("4") @Positive int writers,
+        @DefaultValue("ingestion/dead-letter") Path deadLetterDir,
+        @DefaultValue("10s") Duration progressInterval,
+        @DefaultValue("10000") @Positive int maxTargetedEvictions
+) {
+}
@@ -0,0 +1,32 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.index.BookLookupIndex;
+import br.com.livraria.catalogodosabioapi.infrastructure.index.IndexedBookRepositoryPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.repository.MongoBookRepositoryAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Com {@code lookup-index.enabled=true}, as buscas por gênero e autor passam a ser respondidas pelo índice
+ * em memória, construído e mantido pelo change stream da coleção de livros.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "lookup-index", name = "enabled", havingValue = "true")
+public class LookupIndexConfiguration {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    @Bean
+    public BookLookupIndex bookLookupIndex(MongoBookRepositoryAdapter mongoBookRepositoryAdapter) {
+        return new BookLookupIndex(() -> mongoBookRepositoryAdapter.streamAll(LOAD_BATCH_SIZE));
+    }
+
+    @Bean
+    @Primary
+    public IndexedBookRepositoryPort indexedBookRepositoryPort(MongoBookRepositoryAdapter mongoBookRepositoryAdapter,
+                                                               BookLookupIndex bookLookupIndex) {
+        return new IndexedBookRepositoryPort(mongoBookRepositoryAdapter, bookLookupIndex);
+    }
+}
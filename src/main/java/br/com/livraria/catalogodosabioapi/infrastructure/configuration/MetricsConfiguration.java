@@ -0,0 +1,25 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import io.lettuce.core.metrics.MicrometerOptions;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ajustes das métricas expostas em {@code /actuator/prometheus}. As demais vêm de onde são produzidas:
+ * {@code port.calls} ({@code PortMetrics}), {@code cache.*} ({@code TwoLevelCacheMeterBinder}),
+ * {@code http.server.response.size} (filtros em {@code infrastructure.metrics}) e {@code mongodb.driver.commands},
+ * autoconfigurada pelo Spring Boot.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    // Latência dos comandos Redis (lettuce.command.completion) com histograma, para os percentis no Prometheus.
+    // As tags são o comando e o servidor, sem a porta local de cada conexão.
+    @Bean
+    public MicrometerOptions lettuceMicrometerOptions() {
+        return MicrometerOptions.builder()
+                .histogram(true)
+                .localDistinction(false)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.SearchTerms;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Cria os índices declarados em {@link BookDocument} (collation de gênero/autor, o índice de texto da busca e o de
+ * {@link SearchTerms}). A criação automática de índices do Spring Data vem desabilitada por padrão, e a busca textual
+ * falha sem o índice de texto. Livros gravados antes do campo {@code searchTerms} são completados na mesma etapa.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfiguration {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void ensureBookIndexes() {
+        IndexOperations indexOperations = mongoTemplate.indexOps(BookDocument.class);
+        new MongoPersistentEntityIndexResolver(mongoMappingContext)
+                .resolveIndexFor(BookDocument.class)
+                .forEach(indexDefinition -> {
+                    log.info("Garantindo índice na coleção de livros: {}", indexDefinition.getIndexKeys());
+                    indexOperations.ensureIndex(indexDefinition);
+                });
+        backfillSearchTerms();
+    }
+
+    // Sem efeito depois da primeira execução: a consulta só encontra livros ainda sem o campo.
+    private void backfillSearchTerms() {
+        Query missing = Query.query(Criteria.where(SearchTerms.FIELD).exists(false)).cursorBatchSize(BACKFILL_BATCH_SIZE);
+        missing.fields().include("title", "authors");
+        long updated = 0;
+        List<BookDocument> batch = new ArrayList<>(BACKFILL_BATCH_SIZE);
+        try (Stream<BookDocument> books = mongoTemplate.stream(missing, BookDocument.class)) {
+            Iterator<BookDocument> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BACKFILL_BATCH_SIZE || !iterator.hasNext()) {
+                    updated += writeSearchTerms(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (updated > 0) {
+            log.info("Termos de busca por prefixo gravados em {} livros existentes.", updated);
+        }
+    }
+
+    private int writeSearchTerms(List<BookDocument> books) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BookDocument.class);
+        books.forEach(book -> bulkOperations.updateOne(Query.query(Criteria.where("_id").is(book.getId())),
+                Update.update(SearchTerms.FIELD, SearchTerms.ofBook(book.getTitle(), book.getAuthors()))));
+        return bulkOperations.execute().getModifiedCount();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.NearCacheInvalidationListener;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.NearCacheInvalidationPublisher;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.TwoLevelCache;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.TwoLevelCacheManager;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.TwoLevelCacheMeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Substitui o RedisCacheManager autoconfigurado por um gerenciador em dois níveis. O Redis continua
+ * sendo montado a partir dos {@link RedisCacheManagerBuilderCustomizer} registrados (TTLs e serializer
+ * definidos em {@link BeanConfiguration}). Com {@code caching.near-cache.enabled=false} esta configuração
+ * é ignorada e o Spring Boot volta a criar apenas o cache Redis.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "caching.near-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NearCacheConfiguration {
+
+    @Bean
+    public NearCacheInvalidationPublisher nearCacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate,
+                                                                         CachingProperties cachingProperties) {
+        return new NearCacheInvalidationPublisher(redisTemplate, cachingProperties.nearCache().channel());
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers,
+                                             CachingProperties cachingProperties,
+                                             NearCacheInvalidationPublisher nearCacheInvalidationPublisher) {
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(redisCacheManager, cachingProperties, nearCacheInvalidationPublisher);
+    }
+
+    // Permite ao Spring Boot registrar as métricas cache.* de cada cache em dois níveis.
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return TwoLevelCacheMeterBinder::new;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                                TwoLevelCacheManager cacheManager,
+                                                                                NearCacheInvalidationPublisher nearCacheInvalidationPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                new NearCacheInvalidationListener(cacheManager, nearCacheInvalidationPublisher.nodeId()),
+                new ChannelTopic(nearCacheInvalidationPublisher.channel()));
+        return container;
+    }
+}
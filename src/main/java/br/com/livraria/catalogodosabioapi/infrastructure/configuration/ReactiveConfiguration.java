@@ -0,0 +1,43 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import br.com.livraria.catalogodosabioapi.core.usecase.ReactiveBookUseCaseImpl;
+import br.com.livraria.catalogodosabioapi.core.usecase.ReactiveRecentlyViewedUseCaseImpl;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.ReactiveBookUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.ReactiveRecentlyViewedUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.ReactiveBookRepositoryPort;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.ReactiveRecentlyViewedPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.metrics.PortMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Modo de implantação reativo, ativado pelo profile {@code reactive} ({@code spring.main.web-application-type=reactive}).
+ * As leituras do catálogo passam a ser servidas pelo WebFlux sobre Netty, com MongoDB e Redis não bloqueantes.
+ * O restante da aplicação (change stream, invalidação de cache, índice em memória, seeder) continua o mesmo.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfiguration {
+
+    @Bean
+    public ReactiveBookUseCase reactiveBookUseCase(ReactiveBookRepositoryPort reactiveBookRepositoryPort, MeterRegistry meterRegistry) {
+        return new ReactiveBookUseCaseImpl(PortMetrics.timed(ReactiveBookRepositoryPort.class, reactiveBookRepositoryPort, meterRegistry));
+    }
+
+    @Bean
+    public ReactiveRecentlyViewedUseCase reactiveRecentlyViewedUseCase(ReactiveRecentlyViewedPort reactiveRecentlyViewedPort,
+                                                                       ReactiveBookUseCase reactiveBookUseCase,
+                                                                       MeterRegistry meterRegistry) {
+        return new ReactiveRecentlyViewedUseCaseImpl(
+                PortMetrics.timed(ReactiveRecentlyViewedPort.class, reactiveRecentlyViewedPort, meterRegistry), reactiveBookUseCase);
+    }
+
+    // O Tomcat também está no classpath (pilha servlet) e teria precedência; o WebFlux deve rodar sobre o Netty.
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
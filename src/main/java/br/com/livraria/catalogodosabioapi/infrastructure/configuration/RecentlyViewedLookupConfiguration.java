@@ -0,0 +1,33 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.RecentlyViewedUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.RecentlyViewedPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.metrics.PortMetrics;
+import br.com.livraria.catalogodosabioapi.infrastructure.tracking.FanOutRecentlyViewedUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Com {@code recently-viewed.lookup.enabled=true}, o controller passa a receber o decorador que busca a lista do
+ * cliente e os livros em paralelo, com prazo máximo de resposta.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "recently-viewed.lookup", name = "enabled", havingValue = "true")
+public class RecentlyViewedLookupConfiguration {
+
+    @Bean
+    @Primary
+    public FanOutRecentlyViewedUseCase fanOutRecentlyViewedUseCase(@Qualifier("recentlyViewedUseCase") RecentlyViewedUseCase recentlyViewedUseCase,
+                                                                   RecentlyViewedPort recentlyViewedPort,
+                                                                   BookUseCase bookUseCase,
+                                                                   RecentlyViewedLookupProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        return new FanOutRecentlyViewedUseCase(recentlyViewedUseCase,
+                PortMetrics.timed(RecentlyViewedPort.class, recentlyViewedPort, meterRegistry), bookUseCase, properties, meterRegistry);
+    }
+}
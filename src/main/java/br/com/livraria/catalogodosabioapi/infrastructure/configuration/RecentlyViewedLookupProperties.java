@@ -0,0 +1,23 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração da leitura dos livros visualizados recentemente em paralelo.
+ *
+ * @param enabled            habilita o {@code FanOutRecentlyViewedUseCase}.
+ * @param budget             tempo máximo de espera pela lista completa; depois dele é devolvido o que já estiver resolvido.
+ * @param speculativeClients quantidade máxima de clientes com a última lista conhecida em memória.
+ * @param speculativeTtl     tempo que a última lista conhecida de um cliente é mantida sem novas leituras.
+ */
+@ConfigurationProperties(prefix = "recently-viewed.lookup")
+public record RecentlyViewedLookupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("150ms") Duration budget,
+        @DefaultValue("10000") long speculativeClients,
+        @DefaultValue("30m") Duration speculativeTtl
+) {
+}
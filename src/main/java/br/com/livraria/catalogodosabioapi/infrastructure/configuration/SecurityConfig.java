@@ -1,15 +1,20 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.configuration;import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
 
-    private static final String[] PUBLIC_PATHS = {
+    static final String[] PUBLIC_PATHS = {
             "/swagger-ui.html",
             "/swagger-ui/**",
             "/v3/api-docs/**",
@@ -17,6 +22,9 @@ public class SecurityConfig {
             "/actuator/**"
     };
 
+    // Stub local do AI Studio, chamado pelo seeder sem token. A liberação só existe com o profile ai-stub.
+    static final String AI_STUB_PATH = "/ai-stub/**";
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.authorizeHttpRequests(authorize -> authorize
@@ -27,4 +35,15 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    @Bean
+    @Profile("ai-stub")
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain aiStubSecurityFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher(AI_STUB_PATH)
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll())
+                .csrf(csrf -> csrf.disable());
+
+        return http.build();
+    }
 }
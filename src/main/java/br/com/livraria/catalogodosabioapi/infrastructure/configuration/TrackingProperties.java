@@ -0,0 +1,36 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do rastreamento de livros visualizados recentemente.
+ *
+ * @param mode          {@code SYNC} grava no Redis na própria requisição; {@code ASYNC} enfileira e grava em lotes.
+ * @param queueCapacity tamanho máximo da fila em memória no modo assíncrono.
+ * @param batchSize     quantidade máxima de eventos gravados por lote.
+ * @param overflow      o que fazer quando a fila está cheia.
+ * @param offerTimeout  tempo máximo de espera por espaço na fila com a política {@code BLOCK}.
+ */
+@ConfigurationProperties(prefix = "recently-viewed.tracking")
+public record TrackingProperties(
+        @DefaultValue("SYNC") Mode mode,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("DROP") OverflowPolicy overflow,
+        @DefaultValue("50ms") Duration offerTimeout
+) {
+
+    public enum Mode { SYNC, ASYNC }
+
+    public enum OverflowPolicy {
+        /** Descarta o evento e incrementa a métrica de descartes. */
+        DROP,
+        /** Aguarda até {@code offerTimeout} por espaço na fila e descarta se não houver. */
+        BLOCK,
+        /** Grava o evento de forma síncrona na thread da requisição. */
+        CALLER_RUNS
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do aquecimento dos caches na inicialização.
+ *
+ * @param enabled         habilita o {@code CacheWarmupRunner}.
+ * @param budget          tempo máximo do aquecimento; depois dele a instância fica pronta com o que já foi carregado.
+ * @param firstPages      quantidade de páginas iniciais da listagem de livros carregadas no cache {@code booksPageSummary}.
+ * @param topGenres       quantidade de gêneros com mais livros carregados no cache {@code booksByGenre}.
+ * @param topAuthors      quantidade de autores com mais livros carregados no cache {@code booksByAuthor}.
+ * @param mostViewedBooks quantidade de livros mais visualizados carregados no cache {@code book}.
+ * @param maxViewedLists  quantidade máxima de listas {@code recently_viewed:*} lidas para ranquear os livros.
+ */
+@ConfigurationProperties(prefix = "warmup")
+public record WarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30s") Duration budget,
+        @DefaultValue("5") int firstPages,
+        @DefaultValue("20") int topGenres,
+        @DefaultValue("20") int topAuthors,
+        @DefaultValue("500") int mostViewedBooks,
+        @DefaultValue("50000") int maxViewedLists
+) {
+}
@@ -0,0 +1,84 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.databasecharger;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.AiStudioProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Imitação local do endpoint {@code generateContent} do Google AI Studio, para popular catálogos grandes sem
+ * consumir a cota da API. Responde no mesmo formato da API real, com a quantidade de livros pedida no prompt do
+ * {@link MongoDatabaseCharger} gerada de forma sintética.
+ * <p>
+ * Ativado pelo profile {@code ai-stub}, junto com
+ * {@code google.aistudio.api-url=http://localhost:8080/catalogo-do-sabio/ai-stub/generateContent}. A rota não exige
+ * token, então a quantidade de livros é limitada a {@code google.aistudio.books-per-request}, o máximo que o seeder
+ * pede em uma chamada.
+ */
+@Slf4j
+@RestController
+@Profile("ai-stub")
+@RequiredArgsConstructor
+public class AiStudioStubController {
+
+    static final String PATH = "/ai-stub/generateContent";
+
+    private static final Pattern REQUESTED_BOOKS = Pattern.compile("exatamente (\\d{1,9}) livros");
+    private static final List<String> GENRES = List.of("Romance", "Ficção Científica", "Fantasia", "Suspense", "Terror",
+            "Biografia", "História", "Poesia", "Drama", "Aventura");
+    private static final List<String> FIRST_NAMES = List.of("Ana", "Bruno", "Carla", "Diego", "Elisa", "Fábio", "Gabriela",
+            "Heitor", "Isabel", "João");
+    private static final List<String> LAST_NAMES = List.of("Almeida", "Barbosa", "Cardoso", "Duarte", "Esteves", "Ferreira",
+            "Gonçalves", "Henriques", "Iglesias", "Junqueira");
+
+    private final ObjectMapper objectMapper;
+    private final AiStudioProperties aiStudioProperties;
+
+    @PostMapping(path = PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Map<String, Object> generateContent(@RequestBody JsonNode request) throws JsonProcessingException {
+        int count = requestedBooks(request.at("/contents/0/parts/0/text").asText());
+        log.debug("Stub do AI Studio gerando {} livros", count);
+
+        List<Map<String, Object>> books = new ArrayList<>(count);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            books.add(Map.of(
+                    "title", "Livro Sintético " + Long.toString(random.nextLong() & Long.MAX_VALUE, 36),
+                    "authors", List.of(pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random)),
+                    "genres", List.of(pick(GENRES, random)),
+                    "description", "Livro gerado pelo stub local do Google AI Studio.",
+                    "price", Math.round(random.nextDouble(10, 200) * 100) / 100.0,
+                    "stock", random.nextInt(0, 100)));
+        }
+
+        // Como na API real, o JSON estruturado chega como texto dentro do nó 'text'.
+        String text = objectMapper.writeValueAsString(Map.of("books", books));
+        return Map.of("candidates", List.of(Map.of(
+                "content", Map.of("role", "model", "parts", List.of(Map.of("text", text))),
+                "finishReason", "STOP")));
+    }
+
+    private int requestedBooks(String prompt) {
+        int maxBooks = aiStudioProperties.booksPerRequest();
+        Matcher matcher = REQUESTED_BOOKS.matcher(prompt);
+        return matcher.find() ? Math.min(Integer.parseInt(matcher.group(1)), maxBooks) : maxBooks;
+    }
+
+    private static String pick(List<String> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
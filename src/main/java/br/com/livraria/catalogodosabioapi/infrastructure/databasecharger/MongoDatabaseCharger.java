@@ -1,24 +1,40 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.databasecharger;
 
 import br.com.livraria.catalogodosabioapi.infrastructure.configuration.AiStudioProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.IngestionProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.ingestion.BulkBookWriter;
 import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
 import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.repository.SpringDataBookMongoRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 @Slf4j
@@ -26,10 +42,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class MongoDatabaseCharger implements CommandLineRunner {
 
+    private static final JsonPointer TEXT_POINTER = JsonPointer.compile("/candidates/0/content/parts/0/text");
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
     private final SpringDataBookMongoRepository bookRepository;
+    private final BulkBookWriter bulkBookWriter;
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
     private final AiStudioProperties aiStudioProperties;
+    private final IngestionProperties ingestionProperties;
 
 
     @Override
@@ -44,27 +65,69 @@ public class MongoDatabaseCharger implements CommandLineRunner {
             return;
         }
 
-        log.info("Banco de dados vazio. Solicitando dados estruturados ao Google AI Studio...");
+        int catalogSize = aiStudioProperties.catalogSize();
+        int booksPerRequest = aiStudioProperties.booksPerRequest();
+        int requests = (catalogSize + booksPerRequest - 1) / booksPerRequest;
+        log.info("Banco de dados vazio. Solicitando {} livros ao Google AI Studio em {} requisições...", catalogSize, requests);
+
+        long saved = 0;
+        for (int request = 1; request <= requests; request++) {
+            int size = Math.min(booksPerRequest, catalogSize - (request - 1) * booksPerRequest);
+            try {
+                saved += seedChunk(request, requests, size);
+            } catch (Exception e) {
+                log.error("Falha ao se comunicar com a API do Google AI Studio ou processar a resposta da requisição {} de {}. Interrompendo o seeder.",
+                        request, requests, e);
+                break;
+            }
+        }
+        if (saved > 0) {
+            log.info("{} livros gerados pela IA e inseridos com sucesso.", saved);
+        }
+    }
+
+    private long seedChunk(int request, int requests, int size) throws IOException {
+        String prompt = "Gere uma lista de exatamente " + size + " livros, baseado no json de resposta que esta configurado. A 70% dos livros devem ser reais, com informações de livros famosos. Os outros 30%, gere livros fictícios criativos com autores também fictícios. Todos os livros devem ter as informações em português do Brasil.";
+        if (requests > 1) {
+            prompt += " Esta é a parte " + request + " de " + requests + " de um catálogo maior: varie os livros escolhidos.";
+        }
 
-        String prompt = "Gere uma lista de exatamente 80 livros, baseado no json de resposta que esta configurado. A 70% dos livros devem ser reais, com informações de livros famosos. Os outros 30%, gere livros fictícios criativos com autores também fictícios. Todos os livros devem ter as informações em português do Brasil.";
+        // O corpo é consumido conforme chega, sem o limite de buffer em memória do bodyToMono.
+        Flux<DataBuffer> body = webClient.post()
+                .uri(aiStudioProperties.apiUrl() + "?key=" + aiStudioProperties.apiKey())
+                .header("Content-Type", "application/json")
+                .bodyValue(buildRequestBody(prompt))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        // Os buffers são escritos em um pipe fora do event loop do Netty: quando o parser fica para trás, o pipe
+        // cheio bloqueia a escrita e a leitura do socket para, em vez de acumular o corpo em memória.
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        PipedOutputStream sink = new PipedOutputStream();
+        try (InputStream response = new PipedInputStream(sink, PIPE_BUFFER_SIZE)) {
+            Disposable writing = DataBufferUtils.write(body.publishOn(Schedulers.boundedElastic()), sink)
+                    .doOnNext(DataBufferUtils::release)
+                    .doFinally(signal -> closeQuietly(sink))
+                    .subscribe(buffer -> { }, failure::set);
+            long saved;
+            try {
+                saved = parseAndSave(response);
+            } finally {
+                writing.dispose();
+            }
+            // Uma falha da requisição chega ao parser como fim do corpo; a causa real fica registrada aqui.
+            if (failure.get() != null) {
+                throw new IOException("Resposta do Google AI Studio interrompida", failure.get());
+            }
+            return saved;
+        }
+    }
 
+    private static void closeQuietly(PipedOutputStream sink) {
         try {
-            Map<String, Object> requestBody = buildRequestBody(prompt);
-            List<BookDocument> booksToSeed = webClient.post()
-                    .uri(aiStudioProperties.apiUrl() + "?key=" + aiStudioProperties.apiKey())
-                    .header("Content-Type", "application/json")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class) // Recebe a resposta diretamente como um JsonNode
-                    .map(this::parseApiResponse)
-                    .block();
-
-            if (booksToSeed != null && !booksToSeed.isEmpty()) {
-                bookRepository.saveAll(booksToSeed);
-                log.info("{} livros gerados pela IA e inseridos com sucesso.", booksToSeed.size());
-            }
-        } catch (Exception e) {
-            log.error("Falha ao se comunicar com a API do Google AI Studio ou processar a resposta.", e);
+            sink.close();
+        } catch (IOException e) {
+            log.debug("Falha ao fechar o pipe da resposta do Google AI Studio", e);
         }
     }
 
@@ -84,33 +147,75 @@ public class MongoDatabaseCharger implements CommandLineRunner {
         );
     }
 
-    private List<BookDocument> parseApiResponse(JsonNode rootNode) {
-        try {
+    /**
+     * Lê a resposta em streaming: o {@code JsonParser} ignora tudo até o nó {@code text}, e o JSON dos livros
+     * contido nele é lido direto do buffer do parser, livro a livro, gravando um lote a cada
+     * {@code ingestion.batch-size} livros. Nenhuma árvore da resposta é montada.
+     */
+    private long parseAndSave(InputStream response) throws IOException {
+        try (JsonParser responseParser = new FilteringParserDelegate(objectMapper.getFactory().createParser(response),
+                new JsonPointerBasedFilter(TEXT_POINTER), TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false)) {
             // Passo 1: Navegar até o nó que contém a string JSON
-            JsonNode textNode = rootNode.at("/candidates/0/content/parts/0/text");
-
-            if (textNode.isMissingNode()) {
-                log.error("Nó 'text' não encontrado na resposta da API: {}", rootNode.toPrettyString());
-                return Collections.emptyList();
+            if (responseParser.nextToken() != JsonToken.VALUE_STRING) {
+                log.error("Nó 'text' não encontrado na resposta da API.");
+                return 0;
             }
 
-            // Passo 2: Extrair a string JSON de dentro do nó de texto
-            String jsonString = textNode.asText();
-
-            // Passo 3: Fazer o parse da string extraída para um novo JsonNode
-            JsonNode booksRoot = objectMapper.readTree(jsonString);
-            JsonNode booksNode = booksRoot.get("books");
+            // Passo 2: Ler o JSON dos livros a partir dos caracteres do nó, sem copiá-los para uma String
+            try (JsonParser booksParser = objectMapper.getFactory().createParser(responseParser.getTextCharacters(),
+                    responseParser.getTextOffset(), responseParser.getTextLength())) {
+                if (!moveToBooksArray(booksParser)) {
+                    log.error("Nó 'books' não encontrado ou não é um array no JSON extraído.");
+                    return 0;
+                }
+
+                // Passo 3: Converter e gravar os livros em lotes, conforme são lidos
+                long saved = 0;
+                List<BookDocument> batch = new ArrayList<>();
+                while (booksParser.nextToken() == JsonToken.START_OBJECT) {
+                    batch.add(toDocument(booksParser));
+                    if (batch.size() >= ingestionProperties.batchSize()) {
+                        saved += save(batch);
+                        batch = new ArrayList<>();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    saved += save(batch);
+                }
+                return saved;
+            }
+        }
+    }
 
-            if (booksNode == null || !booksNode.isArray()) {
-                log.error("Nó 'books' não encontrado ou não é um array no JSON extraído: {}", jsonString);
-                return Collections.emptyList();
+    private static boolean moveToBooksArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("books".equals(field)) {
+                return value == JsonToken.START_ARRAY;
             }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private BookDocument toDocument(JsonParser parser) throws IOException {
+        BookDocument book = objectMapper.readValue(parser, BookDocument.class);
+        // O schema da resposta não tem id; os upserts em lote precisam dele definido antes da gravação.
+        if (book.getId() == null) {
+            book.setId(new ObjectId().toHexString());
+        }
+        return book;
+    }
 
-            // Passo 4: Converter o nó final para a nossa lista de documentos
-            return objectMapper.convertValue(booksNode, new TypeReference<>() {});
-        } catch (Exception e) {
-            log.error("Erro ao fazer o parse da resposta JSON da IA.", e);
-            return Collections.emptyList();
+    private long save(List<BookDocument> batch) {
+        BulkBookWriter.BulkWriteSummary summary = bulkBookWriter.write(batch);
+        if (!summary.rejected().isEmpty()) {
+            log.warn("{} livros gerados pela IA foram recusados pelo MongoDB: {}", summary.rejected().size(), summary.rejected().values());
         }
+        return summary.inserted() + summary.updated();
     }
 }
@@ -0,0 +1,274 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.index;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.CollationKeys;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream.BookChange;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream.BookChangeListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido em memória para as buscas por gênero e autor.
+ * <p>
+ * Cada livro é guardado uma única vez em um array de entidades e identificado pela sua posição (ordinal).
+ * Gêneros e autores apontam para arrays ordenados de ordinais, com as chaves normalizadas sem acentos e
+ * sem diferenciar maiúsculas, equivalente à collation {@code pt} com strength 1 usada no MongoDB.
+ * <p>
+ * Leituras não usam locks: os arrays de ordinais são imutáveis e substituídos a cada alteração. Cada array carrega a
+ * lista de livros já resolvida, montada na primeira consulta e descartada junto com ele; enquanto a chave não muda,
+ * consultas repetidas devolvem a mesma instância imutável.
+ * Escritas chegam apenas pela thread do change stream e são serializadas por um {@link ReentrantLock}, e não por
+ * {@code synchronized}: a reconstrução lê o catálogo inteiro do MongoDB com o lock adquirido e, em uma virtual
+ * thread, um monitor prenderia a thread portadora durante toda a carga.
+ */
+@Slf4j
+public class BookLookupIndex implements BookChangeListener {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Supplier<Stream<BookEntity>> catalogLoader;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile State state;
+
+    // catalogLoader deve devolver um Stream novo, que será fechado após a carga.
+    public BookLookupIndex(Supplier<Stream<BookEntity>> catalogLoader) {
+        this.catalogLoader = catalogLoader;
+    }
+
+    public boolean isReady() {
+        return state != null;
+    }
+
+    public List<BookEntity> findByGenre(String genre) {
+        State current = state;
+        return current.resolve(current.idsByGenre.get(CollationKeys.primary(genre)));
+    }
+
+    public List<BookEntity> findByAuthor(String author) {
+        State current = state;
+        return current.resolve(current.idsByAuthor.get(CollationKeys.primary(author)));
+    }
+
+    // Resumos para as listagens: os mesmos livros sem a descrição, memorizados ao lado das listas completas.
+    public List<BookEntity> findSummariesByGenre(String genre) {
+        State current = state;
+        return current.resolveSummaries(current.idsByGenre.get(CollationKeys.primary(genre)));
+    }
+
+    public List<BookEntity> findSummariesByAuthor(String author) {
+        State current = state;
+        return current.resolveSummaries(current.idsByAuthor.get(CollationKeys.primary(author)));
+    }
+
+    public int size() {
+        State current = state;
+        return current == null ? 0 : current.ordinalById.size();
+    }
+
+    @Override
+    public void onReset() {
+        writeLock.lock();
+        try {
+            log.info("Construindo o índice de gêneros e autores a partir do catálogo.");
+            long start = System.nanoTime();
+            State rebuilt = new State();
+            try (Stream<BookEntity> books = catalogLoader.get()) {
+                books.forEach(rebuilt::upsert);
+            }
+            state = rebuilt;
+            log.info("Índice de gêneros e autores construído com {} livros em {} ms.",
+                    rebuilt.ordinalById.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void onChange(BookChange change) {
+        writeLock.lock();
+        try {
+            if (state == null) {
+                return;
+            }
+            if (change.isDelete()) {
+                state.remove(change.id());
+            } else {
+                state.upsert(change.book());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static Set<String> foldAll(Collection<String> values) {
+        Set<String> keys = new HashSet<>();
+        if (values != null) {
+            values.forEach(value -> keys.add(CollationKeys.primary(value)));
+        }
+        return keys;
+    }
+
+    private static final class State {
+
+        // Acessados apenas pelas escritas, sempre sob o lock do índice.
+        private final Map<String, Integer> ordinalById = new HashMap<>();
+        private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+        private int nextOrdinal;
+
+        private volatile AtomicReferenceArray<BookEntity> books = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        private final Map<String, Posting> idsByGenre = new ConcurrentHashMap<>();
+        private final Map<String, Posting> idsByAuthor = new ConcurrentHashMap<>();
+
+        List<BookEntity> resolve(Posting posting) {
+            if (posting == null) {
+                return List.of();
+            }
+            List<BookEntity> resolved = posting.books;
+            if (resolved == null) {
+                // O array de livros é lido depois da Posting, para enxergar os ordinais recém-alocados por grow().
+                // Corrida benigna: dois leitores podem montar a mesma lista, e qualquer uma das duas serve.
+                AtomicReferenceArray<BookEntity> store = books;
+                List<BookEntity> result = new ArrayList<>(posting.ordinals.length);
+                for (int ordinal : posting.ordinals) {
+                    BookEntity book = store.get(ordinal);
+                    if (book != null) {
+                        result.add(book);
+                    }
+                }
+                resolved = Collections.unmodifiableList(result);
+                posting.books = resolved;
+            }
+            return resolved;
+        }
+
+        List<BookEntity> resolveSummaries(Posting posting) {
+            if (posting == null) {
+                return List.of();
+            }
+            List<BookEntity> summaries = posting.summaries;
+            if (summaries == null) {
+                summaries = resolve(posting).stream()
+                        .map(book -> new BookEntity(book.id(), book.title(), book.authors(), book.genres(), null, book.price(), book.stock()))
+                        .toList();
+                posting.summaries = summaries;
+            }
+            return summaries;
+        }
+
+        void upsert(BookEntity book) {
+            Integer existing = ordinalById.get(book.id());
+            int ordinal = existing != null ? existing : allocate(book.id());
+            BookEntity previous = books.get(ordinal);
+
+            Set<String> previousGenres = previous == null ? Set.of() : foldAll(previous.genres());
+            Set<String> previousAuthors = previous == null ? Set.of() : foldAll(previous.authors());
+            Set<String> genres = foldAll(book.genres());
+            Set<String> authors = foldAll(book.authors());
+
+            // A entidade é publicada antes dos ordinais para que um leitor nunca encontre um ordinal sem livro.
+            books.set(ordinal, book);
+            updatePostings(idsByGenre, ordinal, previousGenres, genres);
+            updatePostings(idsByAuthor, ordinal, previousAuthors, authors);
+        }
+
+        void remove(String id) {
+            Integer ordinal = ordinalById.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            BookEntity previous = books.get(ordinal);
+            updatePostings(idsByGenre, ordinal, foldAll(previous.genres()), Set.of());
+            updatePostings(idsByAuthor, ordinal, foldAll(previous.authors()), Set.of());
+            books.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        }
+
+        private int allocate(String id) {
+            int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+            if (ordinal >= books.length()) {
+                grow();
+            }
+            ordinalById.put(id, ordinal);
+            return ordinal;
+        }
+
+        private void grow() {
+            AtomicReferenceArray<BookEntity> current = books;
+            AtomicReferenceArray<BookEntity> grown = new AtomicReferenceArray<>(current.length() * 2);
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            books = grown;
+        }
+
+        // As chaves mantidas também ganham uma Posting nova: a entidade foi substituída e a lista memorizada ficou velha.
+        private static void updatePostings(Map<String, Posting> postings, int ordinal, Set<String> previousKeys, Set<String> keys) {
+            for (String key : previousKeys) {
+                if (!keys.contains(key)) {
+                    postings.computeIfPresent(key, (k, posting) -> posting.without(ordinal));
+                }
+            }
+            for (String key : keys) {
+                postings.merge(key, new Posting(new int[]{ordinal}), (posting, added) -> posting.with(ordinal));
+            }
+        }
+    }
+
+    // Ordinais de uma chave, imutáveis, com as listas de livros e de resumos memorizadas na primeira leitura.
+    private static final class Posting {
+
+        private final int[] ordinals;
+        private volatile List<BookEntity> books;
+        private volatile List<BookEntity> summaries;
+
+        private Posting(int[] ordinals) {
+            this.ordinals = ordinals;
+        }
+
+        Posting with(int ordinal) {
+            int position = Arrays.binarySearch(ordinals, ordinal);
+            if (position >= 0) {
+                return new Posting(ordinals);
+            }
+            int insertAt = -position - 1;
+            int[] updated = new int[ordinals.length + 1];
+            System.arraycopy(ordinals, 0, updated, 0, insertAt);
+            updated[insertAt] = ordinal;
+            System.arraycopy(ordinals, insertAt, updated, insertAt + 1, ordinals.length - insertAt);
+            return new Posting(updated);
+        }
+
+        // Retornar null remove a chave do mapa quando não sobra nenhum livro.
+        Posting without(int ordinal) {
+            int position = Arrays.binarySearch(ordinals, ordinal);
+            if (position < 0) {
+                return this;
+            }
+            if (ordinals.length == 1) {
+                return null;
+            }
+            int[] updated = new int[ordinals.length - 1];
+            System.arraycopy(ordinals, 0, updated, 0, position);
+            System.arraycopy(ordinals, position + 1, updated, position, ordinals.length - position - 1);
+            return new Posting(updated);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.index;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Decorador do {@link BookRepositoryPort} que responde {@code findByGenre} e {@code findByAuthor}, e suas variantes
+ * em resumo, pelo {@link BookLookupIndex}. Enquanto o índice não está pronto (ou o change stream não está disponível),
+ * as consultas seguem para o repositório, com o cache de listas de sempre.
+ */
+public class IndexedBookRepositoryPort implements BookRepositoryPort {
+
+    private final BookRepositoryPort delegate;
+    private final BookLookupIndex bookLookupIndex;
+
+    public IndexedBookRepositoryPort(BookRepositoryPort delegate, BookLookupIndex bookLookupIndex) {
+        this.delegate = delegate;
+        this.bookLookupIndex = bookLookupIndex;
+    }
+
+    @Override
+    public List<BookEntity> findByGenre(String genre) {
+        return bookLookupIndex.isReady() ? bookLookupIndex.findByGenre(genre) : delegate.findByGenre(genre);
+    }
+
+    @Override
+    public List<BookEntity> findByAuthor(String author) {
+        return bookLookupIndex.isReady() ? bookLookupIndex.findByAuthor(author) : delegate.findByAuthor(author);
+    }
+
+    @Override
+    public List<BookEntity> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public BookPageEntity findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public Optional<BookEntity> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public BookSearchPageEntity search(String query, int page, int limit) {
+        return delegate.search(query, page, limit);
+    }
+
+    @Override
+    public List<BookEntity> findAllByIds(List<String> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<BookEntity> findSummariesByIds(List<String> ids) {
+        return delegate.findSummariesByIds(ids);
+    }
+
+    @Override
+    public BookPageEntity findSummaryPage(String afterId, int limit) {
+        return delegate.findSummaryPage(afterId, limit);
+    }
+
+    @Override
+    public List<BookEntity> findSummariesByGenre(String genre) {
+        return bookLookupIndex.isReady() ? bookLookupIndex.findSummariesByGenre(genre) : delegate.findSummariesByGenre(genre);
+    }
+
+    @Override
+    public List<BookEntity> findSummariesByAuthor(String author) {
+        return bookLookupIndex.isReady() ? bookLookupIndex.findSummariesByAuthor(author) : delegate.findSummariesByAuthor(author);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAll(int batchSize) {
+        return delegate.streamAll(batchSize);
+    }
+}
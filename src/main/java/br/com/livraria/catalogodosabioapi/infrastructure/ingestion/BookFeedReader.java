@@ -0,0 +1,29 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * Leitura em streaming de um arquivo de carga: apenas a linha corrente fica em memória, independentemente do
+ * tamanho do arquivo.
+ */
+interface BookFeedReader extends Iterator<FeedRow>, Closeable {
+
+    /**
+     * Arquivos {@code .csv} são lidos como CSV com cabeçalho; os demais como um array JSON ou NDJSON.
+     */
+    static BookFeedReader open(Path feed, ObjectMapper objectMapper) throws IOException {
+        String fileName = feed.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".csv")) {
+            return new CsvBookFeedReader(Files.newBufferedReader(feed, StandardCharsets.UTF_8));
+        }
+        return new JsonBookFeedReader(Files.newInputStream(feed), objectMapper);
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.List;
+
+/**
+ * Um livro lido do arquivo de carga do distribuidor, antes da validação.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BookFeedRecord(
+        @NotBlank String id,
+        @NotBlank String title,
+        @NotEmpty List<@NotBlank String> authors,
+        @NotEmpty List<@NotBlank String> genres,
+        String description,
+        @PositiveOrZero Double price,
+        @PositiveOrZero Integer stock
+) {
+
+    BookDocument toDocument() {
+        return new BookDocument(id, title, authors, genres, description, price, stock);
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grava lotes de livros com um único {@code bulkWrite} não ordenado de upserts por id: o servidor aplica as
+ * operações em paralelo e uma falha não interrompe as demais do lote.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkBookWriter {
+
+    private static final FindAndReplaceOptions UPSERT = FindAndReplaceOptions.options().upsert();
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * @param books livros do lote, sem ids repetidos.
+     */
+    public BulkWriteSummary write(List<BookDocument> books) {
+        List<BookDocument> previous = findPrevious(books);
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BookDocument.class);
+        books.forEach(book -> bulkOperations.replaceOne(Query.query(Criteria.where("_id").is(book.getId())), book, UPSERT));
+
+        try {
+            BulkWriteResult result = bulkOperations.execute();
+            return summary(result, Map.of(), previous);
+        } catch (BulkOperationException e) {
+            Map<Integer, String> rejected = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                rejected.put(error.getIndex(), error.getMessage());
+            }
+            log.debug("Lote de {} livros gravado com {} falhas", books.size(), rejected.size());
+            return summary(e.getResult(), rejected, previous);
+        }
+    }
+
+    // Gêneros e autores gravados antes da substituição, necessários para invalidar as chaves antigas dos caches.
+    private List<BookDocument> findPrevious(List<BookDocument> books) {
+        Query query = Query.query(Criteria.where("_id").in(books.stream().map(BookDocument::getId).toList()));
+        query.fields().include("genres", "authors");
+        return mongoTemplate.find(query, BookDocument.class);
+    }
+
+    private static BulkWriteSummary summary(BulkWriteResult result, Map<Integer, String> rejected, List<BookDocument> previous) {
+        return new BulkWriteSummary(result.getUpserts().size(), result.getMatchedCount(), rejected, previous);
+    }
+
+    /**
+     * @param inserted quantidade de livros novos.
+     * @param updated  quantidade de livros existentes substituídos.
+     * @param rejected motivo de cada operação rejeitada, pela posição do livro no lote.
+     * @param previous gêneros e autores dos livros que já existiam, antes da gravação.
+     */
+    public record BulkWriteSummary(int inserted, int updated, Map<Integer, String> rejected, List<BookDocument> previous) {
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.IngestionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Importa o arquivo configurado em {@code ingestion.file} na inicialização, sem bloquear a subida da aplicação.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ingestion", name = "file")
+public class CatalogIngestionRunner implements ApplicationRunner {
+
+    private final CatalogIngestionService catalogIngestionService;
+    private final IngestionProperties properties;
+
+    @Override
+    @Async
+    public void run(ApplicationArguments args) {
+        try {
+            catalogIngestionService.ingest(properties.file());
+        } catch (Exception e) {
+            log.error("Falha na ingestão do arquivo {}", properties.file(), e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.BookCacheInvalidator;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.BulkCacheInvalidation;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.IngestionProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Importa um arquivo de carga do distribuidor para a coleção de livros.
+ * <p>
+ * O arquivo é lido em streaming, validado linha a linha e agrupado em lotes de {@code ingestion.batch-size}
+ * livros, gravados por até {@code ingestion.writers} virtual threads com upserts em lote não ordenados. A leitura
+ * espera quando todos os writers estão ocupados, então a memória usada fica limitada a {@code writers + 1} lotes
+ * seja qual for o tamanho do arquivo. Linhas inválidas ou recusadas pelo MongoDB vão para o arquivo de rejeitados
+ * sem interromper a carga, e ao final os caches afetados são invalidados de uma vez. Enquanto isso a invalidação
+ * por evento do {@link BookCacheInvalidator} fica suspensa, para que o change stream não limpe os caches a cada
+ * livro gravado.
+ * <p>
+ * Dentro de um lote vale a última ocorrência de cada id. Ids repetidos em lotes diferentes são gravados em
+ * paralelo, sem garantia de qual ocorrência prevalece.
+ */
+@Slf4j
+@Component
+public class CatalogIngestionService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final BulkBookWriter bulkBookWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<BookCacheInvalidator> cacheInvalidator;
+    private final IngestionProperties properties;
+    private final Counter insertedCounter;
+    private final Counter updatedCounter;
+    private final Counter rejectedCounter;
+
+    public CatalogIngestionService(BulkBookWriter bulkBookWriter, Validator validator, ObjectMapper objectMapper,
+                                   CacheManager cacheManager, ObjectProvider<BookCacheInvalidator> cacheInvalidator,
+                                   IngestionProperties properties, MeterRegistry meterRegistry) {
+        this.bulkBookWriter = bulkBookWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.cacheInvalidator = cacheInvalidator;
+        this.properties = properties;
+        this.insertedCounter = rowsCounter(meterRegistry, "inserted");
+        this.updatedCounter = rowsCounter(meterRegistry, "updated");
+        this.rejectedCounter = rowsCounter(meterRegistry, "rejected");
+    }
+
+    public IngestionReport ingest(Path feed) throws IOException {
+        log.info("Iniciando a ingestão do arquivo {} em lotes de {} livros com {} writers", feed, properties.batchSize(), properties.writers());
+        Progress progress = new Progress(feed, properties.progressInterval());
+        BulkCacheInvalidation invalidation = new BulkCacheInvalidation(cacheManager, properties.maxTargetedEvictions());
+        Semaphore writers = new Semaphore(properties.writers());
+
+        DeadLetterFile deadLetter = new DeadLetterFile(deadLetterPath(feed), objectMapper);
+        try (deadLetter;
+             BookCacheInvalidator.Suspension ignored = suspendChangeInvalidation();
+             BookFeedReader reader = BookFeedReader.open(feed, objectMapper);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Map<String, PendingRow> batch = new LinkedHashMap<>();
+            while (reader.hasNext()) {
+                FeedRow row = reader.next();
+                long rowNumber = progress.read.incrementAndGet();
+                String error = validate(row);
+                if (error != null) {
+                    reject(deadLetter, progress, rowNumber, row.raw(), error);
+                } else {
+                    batch.put(row.record().id(), new PendingRow(rowNumber, row.raw(), row.record().toDocument()));
+                    if (batch.size() >= properties.batchSize()) {
+                        submit(executor, writers, batch, deadLetter, progress, invalidation);
+                        batch = new LinkedHashMap<>();
+                    }
+                }
+                progress.logIfDue();
+            }
+            if (!batch.isEmpty()) {
+                submit(executor, writers, batch, deadLetter, progress, invalidation);
+            }
+        } finally {
+            // Mesmo em uma carga interrompida, os livros já gravados não podem continuar servidos com valores antigos.
+            invalidation.apply();
+        }
+
+        IngestionReport report = progress.report(deadLetter.path());
+        log.info("Ingestão do arquivo {} concluída em {}: {} linhas lidas, {} livros inseridos, {} atualizados, {} rejeitados{}",
+                feed, report.elapsed(), report.read(), report.inserted(), report.updated(), report.rejected(),
+                report.deadLetterFile() != null ? " (rejeitados em " + report.deadLetterFile() + ")" : "");
+        return report;
+    }
+
+    // Sem o invalidador (caching.invalidation.enabled=false) não há o que suspender.
+    private BookCacheInvalidator.Suspension suspendChangeInvalidation() {
+        BookCacheInvalidator invalidator = cacheInvalidator.getIfAvailable();
+        return invalidator != null ? invalidator.suspend(properties.maxTargetedEvictions()) : null;
+    }
+
+    private String validate(FeedRow row) {
+        if (row.record() == null) {
+            return row.error();
+        }
+        Set<ConstraintViolation<BookFeedRecord>> violations = validator.validate(row.record());
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void submit(ExecutorService executor, Semaphore writers, Map<String, PendingRow> batch,
+                        DeadLetterFile deadLetter, Progress progress, BulkCacheInvalidation invalidation) {
+        List<PendingRow> rows = new ArrayList<>(batch.values());
+        try {
+            writers.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ingestão interrompida aguardando um writer livre", e);
+        }
+        executor.execute(() -> {
+            try {
+                write(rows, deadLetter, progress, invalidation);
+            } finally {
+                writers.release();
+            }
+        });
+    }
+
+    private void write(List<PendingRow> rows, DeadLetterFile deadLetter, Progress progress, BulkCacheInvalidation invalidation) {
+        BulkBookWriter.BulkWriteSummary summary;
+        try {
+            summary = bulkBookWriter.write(rows.stream().map(PendingRow::document).toList());
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar o lote das linhas {} a {}. Enviando o lote para o arquivo de rejeitados.",
+                    rows.get(0).rowNumber(), rows.get(rows.size() - 1).rowNumber(), e);
+            rows.forEach(row -> reject(deadLetter, progress, row.rowNumber(), row.raw(), "Falha na gravação do lote: " + e.getMessage()));
+            return;
+        }
+
+        for (int index = 0; index < rows.size(); index++) {
+            PendingRow row = rows.get(index);
+            String error = summary.rejected().get(index);
+            if (error != null) {
+                reject(deadLetter, progress, row.rowNumber(), row.raw(), error);
+            } else {
+                invalidation.record(row.document().getId(), row.document().getGenres(), row.document().getAuthors());
+            }
+        }
+        summary.previous().forEach(previous -> invalidation.record(previous.getId(), previous.getGenres(), previous.getAuthors()));
+
+        progress.inserted.addAndGet(summary.inserted());
+        progress.updated.addAndGet(summary.updated());
+        insertedCounter.increment(summary.inserted());
+        updatedCounter.increment(summary.updated());
+    }
+
+    private void reject(DeadLetterFile deadLetter, Progress progress, long rowNumber, Object raw, String reason) {
+        log.debug("Linha {} rejeitada: {}", rowNumber, reason);
+        deadLetter.reject(rowNumber, raw, reason);
+        progress.rejected.incrementAndGet();
+        rejectedCounter.increment();
+    }
+
+    private Path deadLetterPath(Path feed) {
+        String fileName = feed.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        String baseName = extension > 0 ? fileName.substring(0, extension) : fileName;
+        return properties.deadLetterDir().resolve(baseName + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".rejected.ndjson");
+    }
+
+    private static Counter rowsCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("ingestion.rows")
+                .description("Linhas processadas pela ingestão em lote do catálogo")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record PendingRow(long rowNumber, Object raw, BookDocument document) {
+    }
+
+    private static final class Progress {
+
+        private final Path feed;
+        private final long intervalNanos;
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private long nextLogNanos;
+
+        Progress(Path feed, Duration interval) {
+            this.feed = feed;
+            this.intervalNanos = interval.toNanos();
+            this.nextLogNanos = startNanos + intervalNanos;
+        }
+
+        // Chamado apenas pela thread de leitura.
+        void logIfDue() {
+            long now = System.nanoTime();
+            if (now < nextLogNanos) {
+                return;
+            }
+            nextLogNanos = now + intervalNanos;
+            long seconds = Math.max(1, Duration.ofNanos(now - startNanos).toSeconds());
+            log.info("Ingestão de {}: {} linhas lidas ({} por segundo), {} inseridas, {} atualizadas, {} rejeitadas",
+                    feed, read.get(), read.get() / seconds, inserted.get(), updated.get(), rejected.get());
+        }
+
+        IngestionReport report(Path deadLetterFile) {
+            return new IngestionReport(read.get(), inserted.get(), updated.get(), rejected.get(), deadLetterFile,
+                    Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Lê um CSV com cabeçalho ({@code id,title,authors,genres,description,price,stock}), uma linha por vez.
+ * Autores e gêneros vêm na mesma coluna separados por {@code |}.
+ */
+class CsvBookFeedReader implements BookFeedReader {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema SCHEMA = CsvSchema.emptySchema().withHeader();
+    private static final String LIST_SEPARATOR = "\\|";
+
+    private final MappingIterator<Map<String, String>> rows;
+
+    CsvBookFeedReader(Reader reader) throws IOException {
+        this.rows = CSV_MAPPER.readerForMapOf(String.class).with(SCHEMA).readValues(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return rows.hasNext();
+    }
+
+    @Override
+    public FeedRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map<String, String> row = rows.next();
+        try {
+            return FeedRow.of(row, new BookFeedRecord(
+                    text(row, "id"),
+                    text(row, "title"),
+                    list(row, "authors"),
+                    list(row, "genres"),
+                    text(row, "description"),
+                    number(row, "price", Double::valueOf),
+                    number(row, "stock", Integer::valueOf)));
+        } catch (NumberFormatException e) {
+            return FeedRow.invalid(row, "Campos numéricos inválidos: " + e.getMessage());
+        }
+    }
+
+    private static String text(Map<String, String> row, String column) {
+        String value = row.get(column);
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private static List<String> list(Map<String, String> row, String column) {
+        String value = text(row, column);
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(LIST_SEPARATOR))
+                .map(String::strip)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
+    private static <T> T number(Map<String, String> row, String column, Function<String, T> parser) {
+        String value = text(row, column);
+        return value == null ? null : parser.apply(value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Arquivo NDJSON com as linhas rejeitadas de uma ingestão: uma linha por rejeição, com o número da linha no
+ * arquivo de carga, o motivo e o conteúdo original, para correção e reprocessamento. O arquivo só é criado na
+ * primeira rejeição.
+ */
+@Slf4j
+class DeadLetterFile implements Closeable {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    // Gravado pelos writers em paralelo; ReentrantLock em vez de synchronized para não fixar as virtual threads no I/O.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private BufferedWriter writer;
+    private long count;
+
+    DeadLetterFile(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    void reject(long rowNumber, Object raw, String reason) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("row", rowNumber);
+        entry.put("reason", reason);
+        entry.put("raw", raw);
+
+        lock.lock();
+        try {
+            if (writer == null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+            }
+            writer.write(objectMapper.writeValueAsString(entry));
+            writer.newLine();
+            count++;
+        } catch (IOException e) {
+            log.error("Falha ao gravar a linha {} no arquivo de rejeitados {}. Motivo da rejeição: {}", rowNumber, path, reason, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long count() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return o caminho do arquivo, ou {@code null} se nenhuma linha foi rejeitada.
+     */
+    Path path() {
+        return count() > 0 ? path : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
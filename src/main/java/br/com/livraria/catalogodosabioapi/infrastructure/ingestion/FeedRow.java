@@ -0,0 +1,19 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+/**
+ * Uma linha do arquivo de carga.
+ *
+ * @param raw    conteúdo original da linha, gravado como está no arquivo de rejeitados.
+ * @param record o livro convertido; {@code null} quando a linha não pôde ser convertida.
+ * @param error  motivo da falha de conversão.
+ */
+record FeedRow(Object raw, BookFeedRecord record, String error) {
+
+    static FeedRow of(Object raw, BookFeedRecord record) {
+        return new FeedRow(raw, record, null);
+    }
+
+    static FeedRow invalid(Object raw, String error) {
+        return new FeedRow(raw, null, error);
+    }
+}
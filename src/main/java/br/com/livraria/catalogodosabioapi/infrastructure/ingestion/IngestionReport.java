@@ -0,0 +1,17 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Resultado de uma ingestão.
+ *
+ * @param read           linhas lidas do arquivo de carga.
+ * @param inserted       livros novos.
+ * @param updated        livros existentes substituídos.
+ * @param rejected       linhas rejeitadas na validação ou na gravação.
+ * @param deadLetterFile arquivo com as linhas rejeitadas, ou {@code null} se não houve rejeições.
+ * @param elapsed        duração total.
+ */
+public record IngestionReport(long read, long inserted, long updated, long rejected, Path deadLetterFile, Duration elapsed) {
+}
@@ -0,0 +1,66 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê um array JSON de livros ou uma sequência de objetos (NDJSON) com o {@link JsonParser}, um elemento por vez.
+ * Um elemento que não corresponde a um livro é rejeitado; um erro de sintaxe interrompe a leitura, já que não há
+ * como localizar o próximo elemento com segurança.
+ */
+class JsonBookFeedReader implements BookFeedReader {
+
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+    private JsonToken nextToken;
+
+    JsonBookFeedReader(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(inputStream);
+        this.objectMapper = objectMapper;
+        JsonToken first = parser.nextToken();
+        this.nextToken = first == JsonToken.START_ARRAY ? parser.nextToken() : first;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextToken != null && nextToken != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public FeedRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            JsonNode node = objectMapper.readTree(parser);
+            nextToken = parser.nextToken();
+            return toRow(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Arquivo de carga JSON malformado", e);
+        }
+    }
+
+    private FeedRow toRow(JsonNode node) {
+        if (!node.isObject()) {
+            return FeedRow.invalid(node, "O elemento não é um objeto JSON");
+        }
+        try {
+            return FeedRow.of(node, objectMapper.treeToValue(node, BookFeedRecord.class));
+        } catch (JsonProcessingException e) {
+            return FeedRow.invalid(node, "Campos com tipo inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mede as chamadas às portas de saída do core no timer {@code port.calls}, com as tags {@code port} (interface),
+ * {@code method} e {@code outcome} ({@code success} ou {@code error}). O proxy é aplicado onde os casos de uso
+ * são montados, então cada chamada é contada uma única vez, mesmo quando a porta é um decorador de outro adapter.
+ * <p>
+ * Para os métodos que devolvem {@link Mono}, o tempo vai da assinatura até o sinal de término.
+ */
+public final class PortMetrics {
+
+    static final String TIMER_NAME = "port.calls";
+
+    private PortMetrics() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T timed(Class<T> port, T target, MeterRegistry meterRegistry) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port},
+                new TimedInvocationHandler(port, target, meterRegistry));
+    }
+
+    private static final class TimedInvocationHandler implements InvocationHandler {
+
+        private final Object target;
+        private final MeterRegistry meterRegistry;
+        private final Map<Method, Timer> successTimers = new HashMap<>();
+        private final Map<Method, Timer> errorTimers = new HashMap<>();
+
+        private TimedInvocationHandler(Class<?> port, Object target, MeterRegistry meterRegistry) {
+            this.target = target;
+            this.meterRegistry = meterRegistry;
+            for (Method method : port.getMethods()) {
+                successTimers.put(method, timer(port, method, "success"));
+                errorTimers.put(method, timer(port, method, "error"));
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeTarget(method, args);
+            }
+
+            if (Mono.class.isAssignableFrom(method.getReturnType())) {
+                return Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    try {
+                        return ((Mono<?>) invokeTarget(method, args))
+                                .doOnSuccess(value -> sample.stop(successTimers.get(method)))
+                                .doOnError(error -> sample.stop(errorTimers.get(method)));
+                    } catch (Throwable e) {
+                        sample.stop(errorTimers.get(method));
+                        return Mono.error(e);
+                    }
+                });
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                Object result = invokeTarget(method, args);
+                sample.stop(successTimers.get(method));
+                return result;
+            } catch (Throwable e) {
+                sample.stop(errorTimers.get(method));
+                throw e;
+            }
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        private Timer timer(Class<?> port, Method method, String outcome) {
+            return Timer.builder(TIMER_NAME)
+                    .description("Chamadas às portas de saída do core")
+                    .tag("port", port.getSimpleName())
+                    .tag("method", method.getName())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Equivalente reativo do {@link ResponseSizeMetricsFilter}: conta os bytes escritos na resposta e registra o total
+ * pelo template da rota funcional (ou do endpoint anotado, no caso do actuator).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveResponseSizeMetricsFilter implements WebFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        AtomicLong bytesWritten = new AtomicLong();
+        ServerHttpResponse countingResponse = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(Flux.from(body).doOnNext(buffer -> bytesWritten.addAndGet(buffer.readableByteCount())));
+            }
+        };
+        return chain.filter(exchange.mutate().response(countingResponse).build())
+                .doOnSuccess(done -> record(exchange, bytesWritten.get()));
+    }
+
+    private void record(ServerWebExchange exchange, long bytes) {
+        PathPattern pattern = exchange.getAttribute(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        }
+        if (pattern == null) {
+            return;
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        ResponseSizes.record(meterRegistry, exchange.getRequest().getMethod().name(), pattern.getPatternString(),
+                status != null ? status.value() : 200, bytes);
+    }
+}
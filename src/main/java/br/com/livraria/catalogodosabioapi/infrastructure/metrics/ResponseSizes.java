@@ -0,0 +1,34 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Distribuição {@code http.server.response.size} do tamanho dos corpos de resposta, em bytes, pelo template da rota
+ * ({@code /v1/books/genre/{genre}}, nunca o valor do gênero).
+ */
+final class ResponseSizes {
+
+    static final String SUMMARY_NAME = "http.server.response.size";
+
+    private static final double MINIMUM_EXPECTED = 64;
+    private static final double MAXIMUM_EXPECTED = DataSize.ofMegabytes(16).toBytes();
+
+    private ResponseSizes() {
+    }
+
+    static void record(MeterRegistry meterRegistry, String method, String uri, int status, long bytes) {
+        DistributionSummary.builder(SUMMARY_NAME)
+                .description("Tamanho dos corpos de resposta por endpoint")
+                .baseUnit("bytes")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("status", String.valueOf(status))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED)
+                .maximumExpectedValue(MAXIMUM_EXPECTED)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+}
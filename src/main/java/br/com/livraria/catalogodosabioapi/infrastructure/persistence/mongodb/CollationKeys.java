@@ -0,0 +1,22 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza textos com a mesma equivalência da collation {@code pt} com strength 1 usada nas consultas por
+ * gênero e autor: sem acentos e sem diferenciar maiúsculas. Textos equivalentes para o MongoDB geram a mesma
+ * chave, o que permite usá-la em caches e índices em memória.
+ */
+public final class CollationKeys {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private CollationKeys() {
+    }
+
+    public static String primary(String value) {
+        return DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Palavras de título e autores normalizadas pelo {@link CollationKeys}, gravadas no campo {@code searchTerms} dos
+ * livros. Com um índice próprio, esse campo atende a busca por prefixo ({@code ^termo}) da digitação, que o índice
+ * de texto não oferece. Como os termos têm apenas letras e dígitos, o prefixo nunca precisa de escape.
+ */
+public final class SearchTerms {
+
+    public static final String FIELD = "searchTerms";
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTerms() {
+    }
+
+    // Termos na ordem em que aparecem, como na consulta digitada.
+    public static List<String> of(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATORS.split(CollationKeys.primary(text)))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+    public static List<String> ofBook(String title, Collection<String> authors) {
+        Set<String> terms = new LinkedHashSet<>(of(title));
+        if (authors != null) {
+            authors.forEach(author -> terms.addAll(of(author)));
+        }
+        return List.copyOf(terms);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grava os {@link SearchTerms} em toda escrita de {@link BookDocument}, inclusive nos upserts em lote do
+ * {@code BulkBookWriter}. O campo existe apenas no MongoDB: é derivado de título e autores e não é lido de volta.
+ */
+@Component
+public class SearchTermsCallback implements BeforeSaveCallback<BookDocument> {
+
+    @Override
+    public BookDocument onBeforeSave(BookDocument book, Document document, String collection) {
+        document.put(SearchTerms.FIELD, SearchTerms.ofBook(book.getTitle(), book.getAuthors()));
+        return book;
+    }
+}
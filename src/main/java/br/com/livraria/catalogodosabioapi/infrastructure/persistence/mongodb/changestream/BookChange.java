@@ -0,0 +1,29 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+
+import java.util.Set;
+
+/**
+ * Alteração de um livro recebida pelo change stream.
+ *
+ * @param operation     tipo da alteração.
+ * @param id            id do livro alterado.
+ * @param book          documento completo após a alteração, ou {@code null} quando o livro foi removido.
+ * @param previous      documento antes da alteração, quando a coleção tem pre-images habilitadas; senão {@code null}.
+ * @param updatedFields campos alterados, preenchido apenas em {@link Operation#UPDATE}.
+ */
+public record BookChange(Operation operation, String id, BookEntity book, BookEntity previous, Set<String> updatedFields) {
+
+    public enum Operation { INSERT, UPDATE, REPLACE, DELETE }
+
+    public boolean isDelete() {
+        return operation == Operation.DELETE;
+    }
+
+    // Inserts, replaces e deletes podem ter alterado qualquer campo; updates informam exatamente quais mudaram.
+    public boolean mayHaveChanged(String field) {
+        return operation != Operation.UPDATE || updatedFields == null
+                || updatedFields.stream().anyMatch(updated -> updated.equals(field) || updated.startsWith(field + "."));
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream;
+
+/**
+ * Recebe as alterações da coleção de livros publicadas pelo {@link BookChangeStreamWatcher}.
+ * Os métodos são chamados sempre pela mesma thread, na ordem do oplog.
+ */
+public interface BookChangeListener {
+
+    void onChange(BookChange change);
+
+    // O fluxo foi (re)aberto sem continuidade com os eventos anteriores: todo estado derivado da coleção
+    // deve ser reconstruído. Chamado também na primeira abertura, antes de qualquer outro evento.
+    void onReset();
+
+    // Todos os eventos disponíveis no fluxo já foram entregues; chamado sempre que o fluxo fica sem eventos novos.
+    default void onCaughtUp() {
+    }
+}
@@ -0,0 +1,224 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.mapper.BookDocumentMapper;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Acompanha o change stream da coleção de livros em uma virtual thread e repassa cada alteração aos
+ * {@link BookChangeListener} registrados. Só é iniciado quando existe ao menos um listener.
+ * <p>
+ * O resume token do último evento é mantido em memória para retomar o fluxo após falhas de conexão.
+ * Se o histórico necessário já saiu do oplog, ou a coleção é removida/renomeada, o fluxo é reaberto do
+ * zero e os listeners recebem {@link BookChangeListener#onReset()}.
+ * <p>
+ * Change streams exigem que o MongoDB rode como replica set (ou cluster shardeado). Em um servidor standalone
+ * o acompanhamento é desligado com um aviso e os listeners nunca são notificados.
+ */
+@Slf4j
+@Component
+public class BookChangeStreamWatcher implements SmartLifecycle {
+
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final int CHANGE_STREAMS_NOT_SUPPORTED = 40573;
+    private static final long MAX_AWAIT_TIME_MS = 1_000;
+    private static final long INITIAL_BACKOFF_MS = 1_000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final MongoTemplate mongoTemplate;
+    private final BookDocumentMapper bookDocumentMapper;
+    private final List<BookChangeListener> listeners;
+
+    private volatile boolean running;
+    private Thread worker;
+    private BsonDocument resumeToken;
+
+    public BookChangeStreamWatcher(MongoTemplate mongoTemplate, BookDocumentMapper bookDocumentMapper,
+                                   ObjectProvider<BookChangeListener> listeners) {
+        this.mongoTemplate = mongoTemplate;
+        this.bookDocumentMapper = bookDocumentMapper;
+        this.listeners = listeners.orderedStream().toList();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return !listeners.isEmpty();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("book-change-stream").start(this::watchLoop);
+        log.info("Acompanhando o change stream da coleção de livros para {} listener(s).", listeners.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watchLoop() {
+        long backoffMs = INITIAL_BACKOFF_MS;
+        while (running) {
+            try (MongoCursor<ChangeStreamDocument<Document>> changes = openCursor()) {
+                backoffMs = INITIAL_BACKOFF_MS;
+                if (resumeToken == null) {
+                    notifyListeners("onReset", BookChangeListener::onReset);
+                }
+                consume(changes);
+            } catch (MongoException e) {
+                if (!running) {
+                    return;
+                }
+                if (e.getCode() == CHANGE_STREAMS_NOT_SUPPORTED) {
+                    log.warn("O MongoDB não suporta change streams (não é um replica set). Alterações de livros não serão acompanhadas.");
+                    running = false;
+                    return;
+                }
+                if (e.getCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    log.warn("Histórico do change stream de livros não está mais disponível. Reiniciando do zero.");
+                    resumeToken = null;
+                    continue;
+                }
+                log.warn("Falha no change stream de livros: {}. Nova tentativa em {} ms.", e.getMessage(), backoffMs);
+                if (!sleep(backoffMs)) {
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private MongoCursor<ChangeStreamDocument<Document>> openCursor() {
+        var changeStream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(BookDocument.class))
+                .watch()
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE)
+                .maxAwaitTime(MAX_AWAIT_TIME_MS, TimeUnit.MILLISECONDS);
+        return resumeToken == null ? changeStream.cursor() : changeStream.resumeAfter(resumeToken).cursor();
+    }
+
+    private void consume(MongoCursor<ChangeStreamDocument<Document>> changes) {
+        while (running) {
+            ChangeStreamDocument<Document> change = changes.tryNext();
+            if (change == null) {
+                notifyListeners("onCaughtUp", BookChangeListener::onCaughtUp);
+                continue;
+            }
+            resumeToken = change.getResumeToken();
+
+            switch (change.getOperationType()) {
+                case INSERT, UPDATE, REPLACE -> {
+                    // Em um update, o documento pode ter sido removido antes do lookup; o delete chega em seguida.
+                    if (change.getFullDocument() != null) {
+                        notifyChange(change, () -> new BookChange(BookChange.Operation.valueOf(change.getOperationType().name()),
+                                idOf(change.getDocumentKey().get("_id")),
+                                toDomain(change.getFullDocument()), toDomain(change.getFullDocumentBeforeChange()),
+                                updatedFields(change.getUpdateDescription())));
+                    }
+                }
+                case DELETE -> notifyChange(change, () -> new BookChange(BookChange.Operation.DELETE,
+                        idOf(change.getDocumentKey().get("_id")), null, toDomain(change.getFullDocumentBeforeChange()), null));
+                case DROP, RENAME, DROP_DATABASE, INVALIDATE -> {
+                    log.warn("Change stream de livros invalidado por {}. Reabrindo do zero.", change.getOperationType());
+                    resumeToken = null;
+                    return;
+                }
+                default -> log.debug("Ignorando evento {} do change stream de livros.", change.getOperationType());
+            }
+        }
+    }
+
+    // Um documento que não pode ser convertido é registrado e ignorado: derrubar a thread deixaria todos os
+    // listeners sem eventos até a aplicação ser reiniciada.
+    private void notifyChange(ChangeStreamDocument<Document> change, Supplier<BookChange> conversion) {
+        BookChange bookChange;
+        try {
+            bookChange = conversion.get();
+        } catch (RuntimeException e) {
+            log.error("Evento {} do change stream de livros ignorado: o documento {} não pôde ser convertido: {}",
+                    change.getOperationType(), change.getDocumentKey(), e.getMessage(), e);
+            return;
+        }
+        notifyListeners("onChange", listener -> listener.onChange(bookChange));
+    }
+
+    private void notifyListeners(String event, Consumer<BookChangeListener> action) {
+        for (BookChangeListener listener : listeners) {
+            try {
+                action.accept(listener);
+            } catch (Exception e) {
+                log.error("Falha no {} de {}: {}", event, listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private BookEntity toDomain(Document document) {
+        return document == null ? null : bookDocumentMapper.toDomain(mongoTemplate.getConverter().read(BookDocument.class, document));
+    }
+
+    private static Set<String> updatedFields(UpdateDescription updateDescription) {
+        if (updateDescription == null) {
+            return null;
+        }
+        Set<String> fields = new HashSet<>();
+        if (updateDescription.getUpdatedFields() != null) {
+            fields.addAll(updateDescription.getUpdatedFields().keySet());
+        }
+        if (updateDescription.getRemovedFields() != null) {
+            fields.addAll(updateDescription.getRemovedFields());
+        }
+        if (updateDescription.getTruncatedArrays() != null) {
+            updateDescription.getTruncatedArrays().forEach(truncated -> fields.add(truncated.getField()));
+        }
+        return fields;
+    }
+
+    private static String idOf(BsonValue id) {
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
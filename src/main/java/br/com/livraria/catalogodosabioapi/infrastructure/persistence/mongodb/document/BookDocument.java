@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Data;
@@ -13,17 +14,22 @@ import lombok.Data;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Document(collection = "books")
+@Document(collection = "books", language = "portuguese")
 @CompoundIndex(name = "genre_collation_idx", def = "{'genres': 1}", collation = "{'locale':'pt', 'strength':1}")
 @CompoundIndex(name = "author_collation_idx", def = "{'authors': 1}", collation = "{'locale':'pt', 'strength':1}")
+// searchTerms é gravado pelo SearchTermsCallback e não faz parte do documento mapeado.
+@CompoundIndex(name = "search_terms_idx", def = "{'searchTerms': 1}")
 public class BookDocument {
 
     @Id
     private String id;
 
+    @TextIndexed(weight = 3)
     private String title;
+    @TextIndexed(weight = 2)
     private List<String> authors;
     private List<String> genres;
+    @TextIndexed
     private String description;
     private Double price;
     private Integer stock;
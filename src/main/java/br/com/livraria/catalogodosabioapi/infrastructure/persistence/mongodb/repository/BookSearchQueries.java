@@ -0,0 +1,54 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.repository;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.SearchTerms;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+
+import java.util.List;
+
+/**
+ * Consultas da busca, compartilhadas pelos adaptadores bloqueante e reativo.
+ * <p>
+ * Quando o último termo não existe como palavra completa em título ou autores, ele é tratado como uma palavra
+ * ainda em digitação: a busca vira um prefixo ancorado em {@code searchTerms}, com os termos anteriores como
+ * palavras inteiras, resolvido pelo índice {@code search_terms_idx}. Nos demais casos, e quando o prefixo não
+ * encontra nenhum livro (uma palavra flexionada, por exemplo), vale o índice de texto, com radicais em português e
+ * ordem por relevância. As duas verificações são {@code exists} cobertos pelo índice e valem para todas as páginas.
+ */
+final class BookSearchQueries {
+
+    private BookSearchQueries() {
+    }
+
+    // Consulta coberta pelo índice: existe algum livro com o termo como palavra inteira?
+    static Query completeTerm(String term) {
+        return Query.query(Criteria.where(SearchTerms.FIELD).is(term));
+    }
+
+    static Query prefixMatch(List<String> terms) {
+        String partial = terms.get(terms.size() - 1);
+        Criteria criteria = Criteria.where(SearchTerms.FIELD).regex("^" + partial);
+        if (terms.size() > 1) {
+            criteria = new Criteria().andOperator(Criteria.where(SearchTerms.FIELD).all(terms.subList(0, terms.size() - 1)), criteria);
+        }
+        return Query.query(criteria);
+    }
+
+    // Sem score de relevância, o prefixo é ordenado por título, com o id como desempate estável entre páginas.
+    static Query prefix(List<String> terms, int page, int limit) {
+        return prefixMatch(terms)
+                .with(Sort.by("title", "id"))
+                .skip((long) page * limit)
+                .limit(limit + 1);
+    }
+
+    static Query text(String query, int page, int limit) {
+        return TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(query))
+                .sortByScore()
+                .skip((long) page * limit)
+                .limit(limit + 1);
+    }
+}
@@ -1,28 +1,43 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.repository;
 
 import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.CacheBulkLoader;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.CacheRefreshLoader;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.SearchTerms;
 import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
 import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.mapper.BookDocumentMapper;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class MongoBookRepositoryAdapter implements BookRepositoryPort {
+public class MongoBookRepositoryAdapter implements BookRepositoryPort, CacheRefreshLoader {
 
     private final SpringDataBookMongoRepository springDataBookMongoRepository;
     private final BookDocumentMapper bookDocumentMapper;
+    private final MongoTemplate mongoTemplate;
+    private final CacheBulkLoader cacheBulkLoader;
 
     @Override
-    @Cacheable("books")
+    @Cacheable(value = "books", sync = true)
     public List<BookEntity> findAll() {
         log.debug("Buscando todos os livros na base de dados");
         List<BookDocument> books = springDataBookMongoRepository.findAll();
@@ -31,7 +46,30 @@ public class MongoBookRepositoryAdapter implements BookRepositoryPort {
     }
 
     @Override
-    @Cacheable(value = "book", key = "#id")
+    @Cacheable(value = "booksPage", key = "(#afterId ?: '') + ':' + #limit", sync = true)
+    public BookPageEntity findPage(String afterId, int limit) {
+        log.debug("Buscando página de até {} livros na base de dados após o id {}", limit, afterId);
+        // Busca um documento a mais para saber se existe próxima página sem precisar de um count.
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<BookDocument> documents = afterId == null
+                ? springDataBookMongoRepository.findAllByOrderByIdAsc(fetchLimit)
+                : springDataBookMongoRepository.findByIdGreaterThanOrderByIdAsc(afterId, fetchLimit);
+        return toPage(documents, limit);
+    }
+
+    @Override
+    @Cacheable(value = "booksPageSummary", key = "(#afterId ?: '') + ':' + #limit", sync = true)
+    public BookPageEntity findSummaryPage(String afterId, int limit) {
+        log.debug("Buscando página de até {} resumos de livros na base de dados após o id {}", limit, afterId);
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<BookDocument> documents = afterId == null
+                ? springDataBookMongoRepository.findSummariesByOrderByIdAsc(fetchLimit)
+                : springDataBookMongoRepository.findSummariesByIdGreaterThanOrderByIdAsc(afterId, fetchLimit);
+        return toPage(documents, limit);
+    }
+
+    @Override
+    @Cacheable(value = "book", key = "#id", sync = true)
     public Optional<BookEntity> findById(String id) {
         log.debug("Buscando livro na base de dados pelo id: {}", id);
         Optional<BookDocument> bookDocumentOptional = springDataBookMongoRepository.findById(id);
@@ -40,7 +78,7 @@ public class MongoBookRepositoryAdapter implements BookRepositoryPort {
     }
 
     @Override
-    @Cacheable(value = "booksByGenre", key = "#genre")
+    @Cacheable(value = "booksByGenre", key = "T(br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.CollationKeys).primary(#genre)", sync = true)
     public List<BookEntity> findByGenre(String genre) {
         log.debug("Buscando livros na base de dados pelo gênero {}", genre);
         List<BookDocument> books = springDataBookMongoRepository.findByGenresContaining(genre);
@@ -49,7 +87,7 @@ public class MongoBookRepositoryAdapter implements BookRepositoryPort {
     }
 
     @Override
-    @Cacheable(value = "booksByAuthor", key = "#author")
+    @Cacheable(value = "booksByAuthor", key = "T(br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.CollationKeys).primary(#author)", sync = true)
     public List<BookEntity> findByAuthor(String author) {
         log.debug("Buscando livros na base de dados pelo autor {}", author);
         List<BookDocument> books = springDataBookMongoRepository.findByAuthorsContaining(author);
@@ -58,11 +96,109 @@ public class MongoBookRepositoryAdapter implements BookRepositoryPort {
     }
 
     @Override
-    @Cacheable(value =  "booksByIdList", key = "#ids")
+    @Cacheable(value = "booksByGenreSummary", key = "T(br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.CollationKeys).primary(#genre)", sync = true)
+    public List<BookEntity> findSummariesByGenre(String genre) {
+        log.debug("Buscando resumos de livros na base de dados pelo gênero {}", genre);
+        List<BookDocument> books = springDataBookMongoRepository.findSummariesByGenresContaining(genre);
+        log.debug("Consulta de resumos pelo gênero '{}' retornou {} documentos.", genre, books.size());
+        return bookDocumentMapper.toDomain(books);
+    }
+
+    @Override
+    @Cacheable(value = "booksByAuthorSummary", key = "T(br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.CollationKeys).primary(#author)", sync = true)
+    public List<BookEntity> findSummariesByAuthor(String author) {
+        log.debug("Buscando resumos de livros na base de dados pelo autor {}", author);
+        List<BookDocument> books = springDataBookMongoRepository.findSummariesByAuthorsContaining(author);
+        log.debug("Consulta de resumos pelo autor '{}' retornou {} documentos.", author, books.size());
+        return bookDocumentMapper.toDomain(books);
+    }
+
+    // Usa o índice de texto de BookDocument (analisador em português): termos são comparados pelo radical,
+    // sem diferenciar maiúsculas e acentos, e os resultados vêm ordenados pelo score de relevância. Uma última
+    // palavra incompleta é buscada por prefixo no índice de searchTerms (ver BookSearchQueries).
+    @Override
+    @Cacheable(value = "booksSearch", key = "#page + ':' + #limit + ':' + #query", sync = true)
+    public BookSearchPageEntity search(String query, int page, int limit) {
+        log.debug("Buscando livros na base de dados pelo termo '{}'. Página {}, limite {}", query, page, limit);
+        List<String> terms = SearchTerms.of(query);
+        boolean byPrefix = !terms.isEmpty()
+                && !mongoTemplate.exists(BookSearchQueries.completeTerm(terms.get(terms.size() - 1)), BookDocument.class)
+                && mongoTemplate.exists(BookSearchQueries.prefixMatch(terms), BookDocument.class);
+        Query searchQuery = byPrefix ? BookSearchQueries.prefix(terms, page, limit) : BookSearchQueries.text(query, page, limit);
+        List<BookDocument> documents = mongoTemplate.find(searchQuery, BookDocument.class);
+
+        boolean hasNext = documents.size() > limit;
+        List<BookDocument> results = hasNext ? documents.subList(0, limit) : documents;
+        log.debug("Busca {} pelo termo '{}' retornou {} documentos. Próxima página: {}", byPrefix ? "por prefixo" : "textual",
+                query, results.size(), hasNext ? "sim" : "não");
+        return new BookSearchPageEntity(bookDocumentMapper.toDomain(results), page, hasNext);
+    }
+
+    // Recargas do refresh antecipado a partir das chaves dos caches de lista. As chamadas são feitas em this,
+    // dentro do objeto alvo, e por isso não passam pelo proxy de cache: a recarga sempre vai ao MongoDB.
+    // As chaves de gênero e autor já vêm normalizadas, o que a collation das consultas trata como o termo original.
+    @Override
+    public Function<Object, Object> loaderFor(String cacheName) {
+        return switch (cacheName) {
+            case "books" -> key -> findAll();
+            case "booksByGenre" -> key -> findByGenre((String) key);
+            case "booksByAuthor" -> key -> findByAuthor((String) key);
+            case "booksByGenreSummary" -> key -> findSummariesByGenre((String) key);
+            case "booksByAuthorSummary" -> key -> findSummariesByAuthor((String) key);
+            default -> null;
+        };
+    }
+
+    // Cada livro é lido e gravado individualmente no cache "book", compartilhando as entradas com o findById.
+    // Apenas os ids ausentes do cache vão ao MongoDB, em uma única consulta $in.
+    @Override
     public List<BookEntity> findAllByIds(List<String> ids) {
-        log.debug("Buscando livros na base de dados pela lista de {} IDs.", ids.size());
-        List<BookDocument> documents = springDataBookMongoRepository.findAllById(ids);
-        log.debug("Consulta por múltiplos IDs retornou {} documentos.", documents.size());
-        return bookDocumentMapper.toDomain(documents);
+        Map<String, BookEntity> booksById = cacheBulkLoader.getAll("book", ids, missingIds -> {
+            log.debug("Buscando livros na base de dados pela lista de {} IDs.", missingIds.size());
+            List<BookDocument> documents = springDataBookMongoRepository.findAllById(missingIds);
+            log.debug("Consulta por múltiplos IDs retornou {} documentos.", documents.size());
+            return toDomainById(documents);
+        });
+        return inRequestedOrder(ids, booksById);
+    }
+
+    @Override
+    public List<BookEntity> findSummariesByIds(List<String> ids) {
+        Map<String, BookEntity> booksById = cacheBulkLoader.getAll("bookSummary", ids, missingIds -> {
+            log.debug("Buscando resumos de livros na base de dados pela lista de {} IDs.", missingIds.size());
+            List<BookDocument> documents = springDataBookMongoRepository.findSummariesByIdIn(missingIds);
+            log.debug("Consulta de resumos por múltiplos IDs retornou {} documentos.", documents.size());
+            return toDomainById(documents);
+        });
+        return inRequestedOrder(ids, booksById);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAll(int batchSize) {
+        log.debug("Abrindo cursor para leitura de todo o catálogo em lotes de {} documentos.", batchSize);
+        Query query = new Query().cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, BookDocument.class).map(bookDocumentMapper::toDomain);
+    }
+
+    private BookPageEntity toPage(List<BookDocument> documents, int limit) {
+        boolean hasNext = documents.size() > limit;
+        List<BookDocument> page = hasNext ? documents.subList(0, limit) : documents;
+        String nextAfterId = hasNext ? page.get(page.size() - 1).getId() : null;
+        log.debug("Consulta paginada retornou {} documentos. Próxima página: {}", page.size(), hasNext ? "sim" : "não");
+        return new BookPageEntity(bookDocumentMapper.toDomain(page), nextAfterId);
+    }
+
+    private Map<String, BookEntity> toDomainById(List<BookDocument> documents) {
+        return documents.stream()
+                .map(bookDocumentMapper::toDomain)
+                .collect(Collectors.toMap(BookEntity::id, Function.identity()));
+    }
+
+    // O MongoDB não garante a ordem do $in; a ordem é restaurada com um hash join id -> livro, em O(n).
+    private static List<BookEntity> inRequestedOrder(List<String> ids, Map<String, BookEntity> booksById) {
+        return ids.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
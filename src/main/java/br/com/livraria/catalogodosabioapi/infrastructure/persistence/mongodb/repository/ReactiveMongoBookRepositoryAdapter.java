@@ -0,0 +1,190 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.repository;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.ReactiveBookRepositoryPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.ReactiveCacheLoader;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.CollationKeys;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.SearchTerms;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.mapper.BookDocumentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Leituras do catálogo sobre o driver reativo do MongoDB. Consultas, caches e chaves de cache são os mesmos do
+ * {@link MongoBookRepositoryAdapter}, para que as duas pilhas compartilhem as entradas no Redis.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMongoBookRepositoryAdapter implements ReactiveBookRepositoryPort {
+
+    // Mesma collation das consultas por gênero e autor do SpringDataBookMongoRepository.
+    private static final Collation PT_PRIMARY = Collation.of("pt").strength(1);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final BookDocumentMapper bookDocumentMapper;
+    private final ReactiveCacheLoader cacheLoader;
+
+    @Override
+    public Mono<BookPageEntity> findPage(String afterId, int limit) {
+        return cacheLoader.get("booksPage", (afterId == null ? "" : afterId) + ":" + limit, () -> {
+            log.debug("Buscando página de até {} livros na base de dados após o id {}", limit, afterId);
+            return findPage(pageQuery(afterId, limit), limit);
+        });
+    }
+
+    @Override
+    public Mono<BookPageEntity> findSummaryPage(String afterId, int limit) {
+        return cacheLoader.get("booksPageSummary", (afterId == null ? "" : afterId) + ":" + limit, () -> {
+            log.debug("Buscando página de até {} resumos de livros na base de dados após o id {}", limit, afterId);
+            Query query = pageQuery(afterId, limit);
+            query.fields().exclude("description");
+            return findPage(query, limit);
+        });
+    }
+
+    @Override
+    public Mono<BookEntity> findById(String id) {
+        return cacheLoader.get("book", id, () -> {
+            log.debug("Buscando livro na base de dados pelo id: {}", id);
+            return mongoTemplate.findById(id, BookDocument.class).map(bookDocumentMapper::toDomain);
+        });
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findByGenre(String genre) {
+        return cacheLoader.get("booksByGenre", CollationKeys.primary(genre), () -> {
+            log.debug("Buscando livros na base de dados pelo gênero {}", genre);
+            return findByField("genres", genre);
+        });
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findByAuthor(String author) {
+        return cacheLoader.get("booksByAuthor", CollationKeys.primary(author), () -> {
+            log.debug("Buscando livros na base de dados pelo autor {}", author);
+            return findByField("authors", author);
+        });
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findSummariesByGenre(String genre) {
+        return cacheLoader.get("booksByGenreSummary", CollationKeys.primary(genre), () -> {
+            log.debug("Buscando resumos de livros na base de dados pelo gênero {}", genre);
+            return findSummariesByField("genres", genre);
+        });
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findSummariesByAuthor(String author) {
+        return cacheLoader.get("booksByAuthorSummary", CollationKeys.primary(author), () -> {
+            log.debug("Buscando resumos de livros na base de dados pelo autor {}", author);
+            return findSummariesByField("authors", author);
+        });
+    }
+
+    @Override
+    public Mono<BookSearchPageEntity> search(String query, int page, int limit) {
+        return cacheLoader.get("booksSearch", page + ":" + limit + ":" + query, () -> {
+            log.debug("Buscando livros na base de dados pelo termo '{}'. Página {}, limite {}", query, page, limit);
+            List<String> terms = SearchTerms.of(query);
+            Mono<Boolean> byPrefix = terms.isEmpty()
+                    ? Mono.just(false)
+                    : mongoTemplate.exists(BookSearchQueries.completeTerm(terms.get(terms.size() - 1)), BookDocument.class)
+                            .flatMap(complete -> complete
+                                    ? Mono.just(false)
+                                    : mongoTemplate.exists(BookSearchQueries.prefixMatch(terms), BookDocument.class));
+            return byPrefix
+                    .map(prefix -> prefix ? BookSearchQueries.prefix(terms, page, limit) : BookSearchQueries.text(query, page, limit))
+                    .flatMap(searchQuery -> mongoTemplate.find(searchQuery, BookDocument.class).collectList())
+                    .map(documents -> {
+                        boolean hasNext = documents.size() > limit;
+                        List<BookDocument> results = hasNext ? documents.subList(0, limit) : documents;
+                        return new BookSearchPageEntity(bookDocumentMapper.toDomain(results), page, hasNext);
+                    });
+        });
+    }
+
+    // Compartilha as entradas do cache "book" com o findById e com o findAllByIds da pilha servlet.
+    @Override
+    public Mono<List<BookEntity>> findAllByIds(List<String> ids) {
+        return cacheLoader.<BookEntity>getAll("book", ids, missingIds -> {
+                    log.debug("Buscando livros na base de dados pela lista de {} IDs.", missingIds.size());
+                    return mongoTemplate.find(Query.query(Criteria.where("id").in(missingIds)), BookDocument.class)
+                            .map(bookDocumentMapper::toDomain)
+                            .collect(Collectors.toMap(BookEntity::id, Function.identity()));
+                })
+                .map(booksById -> inRequestedOrder(ids, booksById));
+    }
+
+    @Override
+    public Mono<List<BookEntity>> findSummariesByIds(List<String> ids) {
+        return cacheLoader.<BookEntity>getAll("bookSummary", ids, missingIds -> {
+                    log.debug("Buscando resumos de livros na base de dados pela lista de {} IDs.", missingIds.size());
+                    Query query = Query.query(Criteria.where("id").in(missingIds));
+                    query.fields().exclude("description");
+                    return mongoTemplate.find(query, BookDocument.class)
+                            .map(bookDocumentMapper::toDomain)
+                            .collect(Collectors.toMap(BookEntity::id, Function.identity()));
+                })
+                .map(booksById -> inRequestedOrder(ids, booksById));
+    }
+
+    private Mono<List<BookEntity>> findByField(String field, String value) {
+        return findByField(Query.query(Criteria.where(field).is(value)).collation(PT_PRIMARY), field, value);
+    }
+
+    private Mono<List<BookEntity>> findSummariesByField(String field, String value) {
+        Query query = Query.query(Criteria.where(field).is(value)).collation(PT_PRIMARY);
+        query.fields().exclude("description");
+        return findByField(query, field, value);
+    }
+
+    private Mono<List<BookEntity>> findByField(Query query, String field, String value) {
+        return mongoTemplate.find(query, BookDocument.class)
+                .map(bookDocumentMapper::toDomain)
+                .collectList()
+                .doOnNext(books -> log.debug("Consulta à base de dados por '{}' = '{}' retornou {} documentos.", field, value, books.size()));
+    }
+
+    private static Query pageQuery(String afterId, int limit) {
+        return (afterId == null ? new Query() : Query.query(Criteria.where("id").gt(afterId)))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit + 1);
+    }
+
+    private Mono<BookPageEntity> findPage(Query query, int limit) {
+        return mongoTemplate.find(query, BookDocument.class).collectList().map(documents -> {
+            boolean hasNext = documents.size() > limit;
+            List<BookDocument> page = hasNext ? documents.subList(0, limit) : documents;
+            String nextAfterId = hasNext ? page.get(page.size() - 1).getId() : null;
+            log.debug("Consulta paginada retornou {} documentos. Próxima página: {}", page.size(), hasNext ? "sim" : "não");
+            return new BookPageEntity(bookDocumentMapper.toDomain(page), nextAfterId);
+        });
+    }
+
+    private static List<BookEntity> inRequestedOrder(List<String> ids, Map<String, BookEntity> booksById) {
+        return ids.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -1,7 +1,9 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -16,4 +18,24 @@ public interface SpringDataBookMongoRepository extends MongoRepository<BookDocum
 
     @Query(value = "{ 'authors': ?0 }", collation = "{ 'locale': 'pt', 'strength': 1 }")
     List<BookDocument> findByAuthorsContaining(String author);
+
+    @Query(fields = "{ 'description': 0 }")
+    List<BookDocument> findSummariesByIdIn(Collection<String> ids);
+
+    List<BookDocument> findAllByOrderByIdAsc(Limit limit);
+
+    List<BookDocument> findByIdGreaterThanOrderByIdAsc(String id, Limit limit);
+
+    // Projeções de resumo das listagens: a descrição não sai do MongoDB.
+    @Query(value = "{ 'genres': ?0 }", fields = "{ 'description': 0 }", collation = "{ 'locale': 'pt', 'strength': 1 }")
+    List<BookDocument> findSummariesByGenresContaining(String genre);
+
+    @Query(value = "{ 'authors': ?0 }", fields = "{ 'description': 0 }", collation = "{ 'locale': 'pt', 'strength': 1 }")
+    List<BookDocument> findSummariesByAuthorsContaining(String author);
+
+    @Query(fields = "{ 'description': 0 }")
+    List<BookDocument> findSummariesByOrderByIdAsc(Limit limit);
+
+    @Query(fields = "{ 'description': 0 }")
+    List<BookDocument> findSummariesByIdGreaterThanOrderByIdAsc(String id, Limit limit);
 }
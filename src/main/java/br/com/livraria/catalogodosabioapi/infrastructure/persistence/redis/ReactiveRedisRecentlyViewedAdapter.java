@@ -0,0 +1,46 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.persistence.redis;
+
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.ReactiveRecentlyViewedPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static br.com.livraria.catalogodosabioapi.infrastructure.persistence.redis.RedisRecentlyViewedAdapter.KEY_PREFIX;
+import static br.com.livraria.catalogodosabioapi.infrastructure.persistence.redis.RedisRecentlyViewedAdapter.MAX_ITEMS;
+import static br.com.livraria.catalogodosabioapi.infrastructure.persistence.redis.RedisRecentlyViewedAdapter.SAVE_SCRIPT;
+import static br.com.livraria.catalogodosabioapi.infrastructure.persistence.redis.RedisRecentlyViewedAdapter.TTL;
+
+// Mesma estrutura de dados do RedisRecentlyViewedAdapter (lista por cliente, mesmo script Lua), sobre o cliente reativo do Lettuce.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRedisRecentlyViewedAdapter implements ReactiveRecentlyViewedPort {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    @Override
+    public Mono<Void> save(String clientId, String bookId) {
+        String key = KEY_PREFIX + clientId;
+        log.debug("A guardar visualização no Redis. Chave: {}, Livro ID: {}", key, bookId);
+
+        return redisTemplate.execute(SAVE_SCRIPT, List.of(key),
+                        List.of(String.valueOf(MAX_ITEMS), String.valueOf(TTL.toSeconds()), bookId))
+                .then();
+    }
+
+    @Override
+    public Mono<List<String>> findByClientId(String clientId) {
+        String key = KEY_PREFIX + clientId;
+        log.debug("Buscando visualizados recentemente no Redis. Chave: {}", key);
+
+        return redisTemplate.opsForList().range(key, 0, -1)
+                .collectList()
+                .doOnNext(bookIds -> log.debug("Busca de visualizados recentes retornou {} registros", bookIds.size()));
+    }
+}
@@ -1,30 +1,41 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.persistence.redis;
 
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.RecentlyViewedPort;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @Slf4j
 public class RedisRecentlyViewedAdapter implements RecentlyViewedPort {
 
-    private static final String KEY_PREFIX = "recently_viewed:";
-    private static final int MAX_ITEMS = 10;
-    private static final Duration TTL = Duration.ofDays(5);
+    public static final String KEY_PREFIX = "recently_viewed:";
+    public static final int MAX_ITEMS = 10;
+    static final Duration TTL = Duration.ofDays(5);
+
+    // LREM + LPUSH + LTRIM + EXPIRE executados atomicamente no servidor, em um único round-trip.
+    static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/recently-viewed-save.lua"), Long.class);
 
     private final RedisTemplate<String, String> redisTemplate;
     private final ListOperations<String, String> listOps;
+    private final byte[] saveScriptBytes;
 
     public RedisRecentlyViewedAdapter(RedisTemplate<String, String> redisTemplate) {
         this.redisTemplate = redisTemplate;
         this.listOps = redisTemplate.opsForList();
+        this.saveScriptBytes = SAVE_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
         log.info("RedisRecentlyViewedAdapter inicializado. ListOperations obtido do RedisTemplate.");
     }
 
@@ -33,13 +44,27 @@ public class RedisRecentlyViewedAdapter implements RecentlyViewedPort {
         String key = KEY_PREFIX + clientId;
         log.debug("A guardar visualização no Redis. Chave: {}, Livro ID: {}", key, bookId);
 
-        listOps.remove(key, 0, bookId);
-
-        listOps.leftPush(key, bookId);
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key),
+                String.valueOf(MAX_ITEMS), String.valueOf(TTL.toSeconds()), bookId);
+    }
 
-        listOps.trim(key, 0, MAX_ITEMS - 1);
+    @Override
+    public void saveAll(Map<String, List<String>> bookIdsByClientId) {
+        if (bookIdsByClientId.isEmpty()) {
+            return;
+        }
+        log.debug("A guardar visualizações de {} clientes no Redis em pipeline.", bookIdsByClientId.size());
 
-        redisTemplate.expire(key, TTL);
+        // Dentro do pipeline não há como tratar NOSCRIPT de um EVALSHA, então o script é enviado com EVAL.
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            bookIdsByClientId.forEach((clientId, bookIds) -> {
+                if (!bookIds.isEmpty()) {
+                    connection.scriptingCommands().eval(saveScriptBytes, ReturnType.INTEGER, 1,
+                            scriptKeysAndArgs(KEY_PREFIX + clientId, bookIds));
+                }
+            });
+            return null;
+        });
     }
 
     @Override
@@ -53,4 +78,15 @@ public class RedisRecentlyViewedAdapter implements RecentlyViewedPort {
         log.debug("Busca de visualizados recentes retornou {} registros",bookIds != null ? bookIds.size() : 0);
         return bookIds != null ? bookIds : Collections.emptyList();
     }
+
+    private static byte[][] scriptKeysAndArgs(String key, List<String> bookIds) {
+        byte[][] keysAndArgs = new byte[bookIds.size() + 3][];
+        keysAndArgs[0] = key.getBytes(StandardCharsets.UTF_8);
+        keysAndArgs[1] = String.valueOf(MAX_ITEMS).getBytes(StandardCharsets.UTF_8);
+        keysAndArgs[2] = String.valueOf(TTL.toSeconds()).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bookIds.size(); i++) {
+            keysAndArgs[i + 3] = bookIds.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        return keysAndArgs;
+    }
 }
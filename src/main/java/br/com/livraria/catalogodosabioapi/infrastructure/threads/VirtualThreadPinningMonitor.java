@@ -0,0 +1,91 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.threads;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Com virtual threads habilitadas ({@code spring.threads.virtual.enabled=true}), acompanha pelo JFR os eventos
+ * {@code jdk.VirtualThreadPinned}: uma virtual thread que bloqueia dentro de um {@code synchronized} (ou de código
+ * nativo) prende a thread portadora, e poucas delas bastam para esgotar o pool de portadoras e travar as requisições.
+ * Cada ocorrência acima do limite é registrada em log com o trecho da pilha que causou o bloqueio e contada na
+ * métrica {@code jvm.threads.virtual.pinned}.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "threads.pinning-monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+
+    private volatile RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(@Value("${threads.pinning-monitor.threshold:20ms}") Duration threshold,
+                                       MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Bloqueios de virtual threads que prenderam a thread portadora")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recording = stream;
+        log.info("Monitorando virtual threads presas à thread portadora por mais de {}.", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recording;
+        recording = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        log.warn("Virtual thread presa à thread portadora por {} ms em:\n{}",
+                event.getDuration().toMillis(), describe(event.getStackTrace()));
+    }
+
+    private static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(pilha indisponível)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(linha " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.tracking;
+
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.RecentlyViewedPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.TrackingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorador do {@link RecentlyViewedPort} que tira a gravação das visualizações da thread da requisição.
+ * Os eventos vão para uma fila limitada, drenada por uma virtual thread que agrupa os eventos em lotes,
+ * elimina duplicatas (cliente, livro) e grava tudo com {@link RecentlyViewedPort#saveAll}.
+ * As leituras continuam indo direto ao Redis, então uma visualização pode levar alguns milissegundos
+ * para aparecer na lista do cliente.
+ */
+@Slf4j
+public class AsyncRecentlyViewedPort implements RecentlyViewedPort, SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MS = 500;
+
+    private final RecentlyViewedPort delegate;
+    private final TrackingProperties trackingProperties;
+    private final BlockingQueue<ViewEvent> queue;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AsyncRecentlyViewedPort(RecentlyViewedPort delegate, TrackingProperties trackingProperties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.trackingProperties = trackingProperties;
+        this.queue = new ArrayBlockingQueue<>(trackingProperties.queueCapacity());
+
+        Gauge.builder("recently.viewed.tracking.queue.depth", queue, BlockingQueue::size)
+                .description("Eventos de visualização aguardando gravação no Redis")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("recently.viewed.tracking.dropped")
+                .description("Eventos de visualização descartados por fila cheia")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("recently.viewed.tracking.failed")
+                .description("Eventos de visualização perdidos por falha na gravação do lote")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void save(String clientId, String bookId) {
+        ViewEvent event = new ViewEvent(clientId, bookId);
+        if (queue.offer(event)) {
+            return;
+        }
+
+        switch (trackingProperties.overflow()) {
+            case CALLER_RUNS -> delegate.save(clientId, bookId);
+            case BLOCK -> offerWithTimeout(event);
+            case DROP -> drop(event);
+        }
+    }
+
+    @Override
+    public void saveAll(Map<String, List<String>> bookIdsByClientId) {
+        delegate.saveAll(bookIdsByClientId);
+    }
+
+    @Override
+    public List<String> findByClientId(String clientId) {
+        return delegate.findByClientId(clientId);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("recently-viewed-tracker").start(this::drainLoop);
+        log.info("Rastreamento assíncrono de visualizações iniciado. Capacidade da fila: {}, lote: {}, política de fila cheia: {}",
+                trackingProperties.queueCapacity(), trackingProperties.batchSize(), trackingProperties.overflow());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Grava o que ficou na fila antes de a conexão com o Redis ser encerrada.
+        List<ViewEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Gravando {} visualizações pendentes antes do desligamento.", remaining.size());
+            flush(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                ViewEvent first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<ViewEvent> batch = new ArrayList<>(trackingProperties.batchSize());
+                batch.add(first);
+                queue.drainTo(batch, trackingProperties.batchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    void flush(List<ViewEvent> batch) {
+        try {
+            delegate.saveAll(coalesce(batch));
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.warn("Falha ao gravar lote de {} visualizações no Redis: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    // Mantém a ordem das visualizações por cliente; um livro visto mais de uma vez fica na posição da última visualização.
+    static Map<String, List<String>> coalesce(List<ViewEvent> batch) {
+        Map<String, LinkedHashSet<String>> byClient = new LinkedHashMap<>();
+        for (ViewEvent event : batch) {
+            LinkedHashSet<String> bookIds = byClient.computeIfAbsent(event.clientId(), clientId -> new LinkedHashSet<>());
+            bookIds.remove(event.bookId());
+            bookIds.add(event.bookId());
+        }
+
+        Map<String, List<String>> coalesced = new LinkedHashMap<>();
+        byClient.forEach((clientId, bookIds) -> coalesced.put(clientId, new ArrayList<>(bookIds)));
+        return coalesced;
+    }
+
+    private void offerWithTimeout(ViewEvent event) {
+        try {
+            if (!queue.offer(event, trackingProperties.offerTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                drop(event);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop(event);
+        }
+    }
+
+    private void drop(ViewEvent event) {
+        droppedCounter.increment();
+        log.debug("Fila de visualizações cheia. Descartando evento do cliente {} para o livro {}", event.clientId(), event.bookId());
+    }
+
+    record ViewEvent(String clientId, String bookId) {
+    }
+}
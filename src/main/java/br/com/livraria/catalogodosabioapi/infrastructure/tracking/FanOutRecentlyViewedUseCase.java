@@ -0,0 +1,163 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.tracking;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.RecentlyViewedUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.RecentlyViewedPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.RecentlyViewedLookupProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.redis.RedisRecentlyViewedAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decorador do {@link RecentlyViewedUseCase} que resolve a lista de visualizados recentemente em paralelo.
+ * <p>
+ * A última lista de ids conhecida de cada cliente fica em memória. Na leitura seguinte, os resumos desses ids
+ * são buscados especulativamente ao mesmo tempo que o LRANGE no Redis; quando a lista real chega, só os ids que
+ * a especulação não cobriu vão ao {@link BookUseCase#findSummariesByIds} (um único MGET/$in). Como o
+ * {@code track()} atualiza a lista em memória, o caso comum (ver um livro e voltar à lista) não tem ids novos.
+ * <p>
+ * A leitura espera no máximo {@code recently-viewed.lookup.budget}. Estourado o prazo, devolve o que já foi
+ * resolvido, na ordem mais recente conhecida, e as buscas em andamento continuam em segundo plano aquecendo o cache.
+ */
+@Slf4j
+public class FanOutRecentlyViewedUseCase implements RecentlyViewedUseCase, AutoCloseable {
+
+    private final RecentlyViewedUseCase delegate;
+    private final RecentlyViewedPort recentlyViewedPort;
+    private final BookUseCase bookUseCase;
+    private final long budgetNanos;
+    private final Cache<String, List<String>> lastKnownIds;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter partialCounter;
+
+    public FanOutRecentlyViewedUseCase(RecentlyViewedUseCase delegate, RecentlyViewedPort recentlyViewedPort,
+                                       BookUseCase bookUseCase, RecentlyViewedLookupProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.recentlyViewedPort = recentlyViewedPort;
+        this.bookUseCase = bookUseCase;
+        this.budgetNanos = properties.budget().toNanos();
+        this.lastKnownIds = Caffeine.newBuilder()
+                .maximumSize(properties.speculativeClients())
+                .expireAfterAccess(properties.speculativeTtl())
+                .build();
+        this.partialCounter = Counter.builder("recently.viewed.lookup.partial")
+                .description("Leituras de visualizados recentemente respondidas parcialmente por estouro do prazo")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void track(String clientId, String bookId) {
+        delegate.track(clientId, bookId);
+        if (clientId != null && !clientId.isEmpty()) {
+            lastKnownIds.asMap().computeIfPresent(clientId, (key, ids) -> moveToFront(ids, bookId));
+        }
+    }
+
+    @Override
+    public List<BookEntity> find(String clientId) {
+        if (clientId == null || clientId.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        long deadline = System.nanoTime() + budgetNanos;
+        List<String> speculativeIds = lastKnownIds.getIfPresent(clientId);
+        CompletableFuture<Map<String, BookEntity>> speculative = speculativeIds == null || speculativeIds.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : CompletableFuture.supplyAsync(() -> byId(bookUseCase.findSummariesByIds(speculativeIds)), executor);
+        CompletableFuture<List<String>> ids = CompletableFuture.supplyAsync(
+                () -> recentlyViewedPort.findByClientId(clientId), executor);
+
+        CompletableFuture<List<BookEntity>> result = ids.thenCompose(bookIds -> {
+            if (bookIds.isEmpty()) {
+                lastKnownIds.invalidate(clientId);
+                return CompletableFuture.completedFuture(List.<BookEntity>of());
+            }
+            lastKnownIds.put(clientId, List.copyOf(bookIds));
+            return speculative.thenCompose(found -> {
+                List<String> missing = bookIds.stream().filter(id -> !found.containsKey(id)).toList();
+                if (missing.isEmpty()) {
+                    return CompletableFuture.completedFuture(inOrder(bookIds, found));
+                }
+                return CompletableFuture.supplyAsync(() -> {
+                    Map<String, BookEntity> all = new HashMap<>(found);
+                    all.putAll(byId(bookUseCase.findSummariesByIds(missing)));
+                    return inOrder(bookIds, all);
+                }, executor);
+            });
+        });
+
+        try {
+            return result.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return partial(clientId, ids, speculativeIds, speculative);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return partial(clientId, ids, speculativeIds, speculative);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        }
+    }
+
+    // A especulação cobre apenas os resumos; a lista completa é rara e segue direto para o caso de uso.
+    @Override
+    public List<BookEntity> findWithDescription(String clientId) {
+        return delegate.findWithDescription(clientId);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Usa a lista real se o LRANGE já respondeu; senão, a última lista conhecida. Só entram livros já resolvidos.
+    private List<BookEntity> partial(String clientId, CompletableFuture<List<String>> ids, List<String> speculativeIds,
+                                     CompletableFuture<Map<String, BookEntity>> speculative) {
+        partialCounter.increment();
+        List<String> order = ids.isDone() && !ids.isCompletedExceptionally() ? ids.join() : speculativeIds;
+        Map<String, BookEntity> found = speculative.isDone() && !speculative.isCompletedExceptionally()
+                ? speculative.join()
+                : Map.of();
+        List<BookEntity> books = order == null ? List.of() : inOrder(order, found);
+        log.warn("Visualizados recentemente do cliente '{}' não resolvidos dentro do prazo. Devolvendo {} livro(s) já disponíveis.",
+                clientId, books.size());
+        return books;
+    }
+
+    private static List<String> moveToFront(List<String> ids, String bookId) {
+        List<String> updated = new ArrayList<>(ids.size() + 1);
+        updated.add(bookId);
+        ids.stream().filter(id -> !id.equals(bookId)).forEach(updated::add);
+        return List.copyOf(updated.subList(0, Math.min(updated.size(), RedisRecentlyViewedAdapter.MAX_ITEMS)));
+    }
+
+    private static Map<String, BookEntity> byId(List<BookEntity> books) {
+        Map<String, BookEntity> booksById = new HashMap<>(books.size());
+        books.forEach(book -> booksById.put(book.id(), book));
+        return booksById;
+    }
+
+    private static List<BookEntity> inOrder(List<String> ids, Map<String, BookEntity> booksById) {
+        return ids.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.warmup;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.BookUseCaseImpl;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.WarmupProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Aquece os caches de livros antes de a instância receber tráfego, para que um deploy não comece com todas as
+ * leituras indo ao MongoDB.
+ * <p>
+ * Roda em todos os profiles, de forma síncrona: o Spring Boot só publica o {@code ReadinessState.ACCEPTING_TRAFFIC}
+ * depois dos {@link ApplicationRunner}s, então o readiness probe só fica verde ao final do aquecimento. Em paralelo,
+ * em virtual threads, são carregadas as primeiras páginas da listagem padrão ({@code booksPageSummary}, com o
+ * tamanho de página padrão e sem a descrição), os gêneros e autores com mais livros
+ * ({@code booksByGenreSummary} e {@code booksByAuthorSummary}) e os livros mais visualizados ({@code book}, em uma consulta).
+ * As leituras passam pela {@link BookRepositoryPort}, então preenchem o L1 e o Redis com as mesmas chaves das
+ * requisições. Ao fim de {@code warmup.budget} o aquecimento é abandonado e a instância sobe com o que já carregou;
+ * falhas são apenas registradas.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmupRunner implements ApplicationRunner {
+
+    private final BookRepositoryPort bookRepositoryPort;
+    private final WarmupKeys warmupKeys;
+    private final WarmupProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public CacheWarmupRunner(BookRepositoryPort bookRepositoryPort, WarmupKeys warmupKeys, WarmupProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.bookRepositoryPort = bookRepositoryPort;
+        this.warmupKeys = warmupKeys;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Aquecendo os caches de livros (limite de {})", properties.budget());
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        String outcome = "completed";
+        try {
+            CompletableFuture<Void> warmup = CompletableFuture.allOf(
+                    phase("pages", executor, this::loadFirstPages),
+                    // As listagens por gênero e autor respondem com o resumo quando o cliente não pede a descrição.
+                    phase("genres", executor, () -> loadEach(executor, "booksByGenreSummary",
+                            warmupKeys.topGenres(properties.topGenres()), bookRepositoryPort::findSummariesByGenre)),
+                    phase("authors", executor, () -> loadEach(executor, "booksByAuthorSummary",
+                            warmupKeys.topAuthors(properties.topAuthors()), bookRepositoryPort::findSummariesByAuthor)),
+                    phase("mostViewed", executor, () -> {
+                        List<String> ids = warmupKeys.mostViewedBookIds(properties.mostViewedBooks(), properties.maxViewedLists());
+                        if (!ids.isEmpty()) {
+                            // Uma única consulta $in, gravando cada livro no cache "book".
+                            entries("book").increment(bookRepositoryPort.findAllByIds(ids).size());
+                        }
+                    }));
+            warmup.get(properties.budget().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            outcome = "budget_exceeded";
+            log.warn("Aquecimento dos caches excedeu o limite de {}. Seguindo com os caches parcialmente carregados.", properties.budget());
+        } catch (ExecutionException e) {
+            outcome = "failed";
+            log.warn("Falha no aquecimento dos caches. Seguindo com os caches parcialmente carregados.", e.getCause());
+        } catch (InterruptedException e) {
+            outcome = "interrupted";
+            Thread.currentThread().interrupt();
+        } finally {
+            // Interrompe as cargas que passaram do limite, sem esperá-las.
+            executor.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("cache.warmup")
+                .description("Duração do aquecimento dos caches na inicialização")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Aquecimento dos caches finalizado em {} ms ({})", TimeUnit.NANOSECONDS.toMillis(elapsed), outcome);
+    }
+
+    private CompletableFuture<Void> phase(String name, ExecutorService executor, Runnable task) {
+        return CompletableFuture.runAsync(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // Uma etapa com falha não interrompe as demais.
+                outcome = "error";
+                log.warn("Falha na etapa '{}' do aquecimento dos caches", name, e);
+            } finally {
+                sample.stop(Timer.builder("cache.warmup.phase")
+                        .description("Duração de cada etapa do aquecimento dos caches")
+                        .tag("phase", name)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        }, executor);
+    }
+
+    // As páginas seguintes dependem do cursor da anterior, então são carregadas em sequência.
+    private void loadFirstPages() {
+        Counter entries = entries("booksPageSummary");
+        String afterId = null;
+        for (int page = 0; page < properties.firstPages(); page++) {
+            BookPageEntity loaded = bookRepositoryPort.findSummaryPage(afterId, BookUseCaseImpl.DEFAULT_PAGE_SIZE);
+            entries.increment();
+            afterId = loaded.nextAfterId();
+            if (afterId == null) {
+                return;
+            }
+        }
+    }
+
+    // Uma virtual thread por chave: cada carga é uma consulta independente, limitada pelo pool de conexões.
+    private void loadEach(ExecutorService executor, String cacheName, List<String> keys, Consumer<String> loader) {
+        Counter entries = entries(cacheName);
+        CompletableFuture.allOf(keys.stream()
+                        .map(key -> CompletableFuture.runAsync(() -> {
+                            loader.accept(key);
+                            entries.increment();
+                        }, executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private Counter entries(String cacheName) {
+        return Counter.builder("cache.warmup.entries")
+                .description("Entradas carregadas nos caches pelo aquecimento")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.warmup;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.redis.RedisRecentlyViewedAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Descobre as chaves mais acessadas para o aquecimento dos caches.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmupKeys {
+
+    private static final int SCAN_COUNT = 1000;
+    private static final int PIPELINE_SIZE = 500;
+    // Mesma collation das consultas por gênero e autor: valores equivalentes contam como um só.
+    private static final Collation PT_PRIMARY = Collation.of("pt").strength(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public List<String> topGenres(int limit) {
+        return mostFrequent("genres", limit);
+    }
+
+    public List<String> topAuthors(int limit) {
+        return mostFrequent("authors", limit);
+    }
+
+    /**
+     * Ranqueia os livros pela quantidade de listas de visualizados recentemente em que aparecem. As listas são
+     * percorridas com SCAN (sem bloquear o Redis como um KEYS) e lidas em pipeline, até {@code maxLists} listas.
+     */
+    public List<String> mostViewedBookIds(int limit, int maxLists) {
+        Map<String, Integer> views = new HashMap<>();
+        List<String> keys = new ArrayList<>(PIPELINE_SIZE);
+        int scanned = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(RedisRecentlyViewedAdapter.KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext() && scanned < maxLists) {
+                keys.add(cursor.next());
+                scanned++;
+                if (keys.size() == PIPELINE_SIZE) {
+                    countViews(keys, views);
+                    keys.clear();
+                }
+            }
+        }
+        countViews(keys, views);
+        log.debug("{} listas de visualizados recentemente lidas, com {} livros distintos", scanned, views.size());
+
+        return views.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private List<String> mostFrequent(String field, int limit) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                        Aggregation.unwind(field),
+                        Aggregation.group(field).count().as("count"),
+                        Aggregation.sort(Sort.Direction.DESC, "count"),
+                        Aggregation.limit(limit))
+                .withOptions(AggregationOptions.builder().collation(PT_PRIMARY).build());
+        return mongoTemplate.aggregate(aggregation, BookDocument.class, Document.class).getMappedResults().stream()
+                .map(result -> result.getString("_id"))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void countViews(List<String> keys, Map<String, Integer> views) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object> lists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.listCommands().lRange(key.getBytes(StandardCharsets.UTF_8), 0, -1));
+            return null;
+        });
+        for (Object list : lists) {
+            if (list instanceof List<?> bookIds) {
+                ((List<String>) bookIds).forEach(bookId -> views.merge(bookId, 1, Integer::sum));
+            }
+        }
+    }
+}
@@ -2,20 +2,37 @@ package br.com.livraria.catalogodosabioapi.infrastructure.web.controller;
 
 import br.com.livraria.catalogodosabioapi.api.BooksApi;
 import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.RecentlyViewedUseCase;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.ContentTags;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.HttpCacheProperties;
 import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapper;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.pagination.PageCursor;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.projection.BookFields;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.response.SerializedResponse;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.response.SerializedResponseCache;
 import br.com.livraria.catalogodosabioapi.model.Book;
+import br.com.livraria.catalogodosabioapi.model.BookPage;
+import br.com.livraria.catalogodosabioapi.model.BookSearchPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Slf4j
 @RequiredArgsConstructor
 @RequestMapping("/v1")
@@ -24,6 +41,9 @@ public class BookController implements BooksApi {
     private final BookUseCase bookUseCase;
     private final RecentlyViewedUseCase recentlyViewedUseCase;
     private final BookApiMapper bookApiMapper;
+    private final ContentTags contentTags;
+    private final HttpCacheProperties httpCacheProperties;
+    private final SerializedResponseCache serializedResponseCache;
 
     @Override
     public ResponseEntity<Book> booksIdGet(String id, String xClientID) {
@@ -32,42 +52,123 @@ public class BookController implements BooksApi {
         Book book = bookApiMapper.toApi(bookEntity);
         recentlyViewedUseCase.track(xClientID, id);
         log.info("Busca por ID {} finalizada com sucesso.", id);
-        return ResponseEntity.ok(book);
+        return conditionalOk("book", bookEntity, book);
     }
 
     @Override
-    public ResponseEntity<List<Book>> booksGet() {
-        log.info("Buscando todos os livros.");
-        List<BookEntity> bookEntityList = bookUseCase.findAll();
-        List<Book> bookList = bookApiMapper.toApi(bookEntityList);
-        log.info("Busca por todos os livros finalizada. {} livros encontrados.", bookList.size());
-        return ResponseEntity.ok(bookList);
+    public ResponseEntity<BookPage> booksGet(String cursor, Integer limit, String fields) {
+        log.info("Buscando página de livros. Cursor: '{}', limite: {}, campos: '{}'", cursor, limit, fields);
+        BookFields bookFields = BookFields.parse(fields);
+        String afterId = PageCursor.decode(cursor);
+        BookPageEntity bookPageEntity = bookFields.includesDescription()
+                ? bookUseCase.findPage(afterId, limit)
+                : bookUseCase.findSummaryPage(afterId, limit);
+        log.info("Busca paginada de livros finalizada. {} livros encontrados.", bookPageEntity.books().size());
+        Supplier<BookPage> body = () -> new BookPage()
+                .items(bookApiMapper.toApi(bookPageEntity.books()))
+                .nextCursor(PageCursor.encode(bookPageEntity.nextAfterId()));
+        return projectedOk("booksPage", bookFields, bookPageEntity, body, () -> bookFields.select(body.get()));
     }
 
     @Override
-    public ResponseEntity<List<Book>> booksAuthorAuthorGet(String author) {
-        log.info("Buscando livros por autor: '{}'", author);
-        List<BookEntity> bookEntityList = bookUseCase.findByAuthor(author);
-        List<Book> bookList = bookApiMapper.toApi(bookEntityList);
-        log.info("Busca por autor '{}' finalizada. {} livros encontrados.", author, bookList.size());
-        return ResponseEntity.ok(bookList);
+    public ResponseEntity<BookSearchPage> booksSearchGet(String q, Integer page, Integer limit) {
+        log.info("Buscando livros pelo termo '{}'. Página: {}, limite: {}", q, page, limit);
+        BookSearchPageEntity bookSearchPageEntity = bookUseCase.search(q, page, limit);
+        BookSearchPage bookSearchPage = new BookSearchPage()
+                .items(bookApiMapper.toApi(bookSearchPageEntity.books()))
+                .page(bookSearchPageEntity.page())
+                .hasNext(bookSearchPageEntity.hasNext());
+        log.info("Busca pelo termo '{}' finalizada. {} livros encontrados.", q, bookSearchPage.getItems().size());
+        return conditionalOk("booksSearch", bookSearchPageEntity, bookSearchPage);
     }
 
     @Override
-    public ResponseEntity<List<Book>> booksGenreGenreGet(String genre) {
-        log.info("Buscando livros por gênero: '{}'", genre);
-        List<BookEntity> bookEntityList = bookUseCase.findByGenre(genre);
-        List<Book> bookList = bookApiMapper.toApi(bookEntityList);
-        log.info("Busca por gênero '{}' finalizada. {} livros encontrados.", genre, bookList.size());
-        return ResponseEntity.ok(bookList);
+    public ResponseEntity<List<Book>> booksAuthorAuthorGet(String author, String fields) {
+        log.info("Buscando livros por autor: '{}', campos: '{}'", author, fields);
+        BookFields bookFields = BookFields.parse(fields);
+        List<BookEntity> bookEntityList = bookFields.includesDescription()
+                ? bookUseCase.findByAuthor(author)
+                : bookUseCase.findSummariesByAuthor(author);
+        log.info("Busca por autor '{}' finalizada. {} livros encontrados.", author, bookEntityList.size());
+        return projectedOk("booksByAuthor", bookFields, bookEntityList, () -> bookApiMapper.toApi(bookEntityList),
+                () -> bookFields.select(bookApiMapper.toApi(bookEntityList)));
+    }
+
+    @Override
+    public ResponseEntity<List<Book>> booksGenreGenreGet(String genre, String fields) {
+        log.info("Buscando livros por gênero: '{}', campos: '{}'", genre, fields);
+        BookFields bookFields = BookFields.parse(fields);
+        List<BookEntity> bookEntityList = bookFields.includesDescription()
+                ? bookUseCase.findByGenre(genre)
+                : bookUseCase.findSummariesByGenre(genre);
+        log.info("Busca por gênero '{}' finalizada. {} livros encontrados.", genre, bookEntityList.size());
+        return projectedOk("booksByGenre", bookFields, bookEntityList, () -> bookApiMapper.toApi(bookEntityList),
+                () -> bookFields.select(bookApiMapper.toApi(bookEntityList)));
     }
 
+    // Os recentes são lidos do cache de resumos (bookSummary), ou do cache de livros (book) quando fields pede a descrição.
     @Override
-    public ResponseEntity<List<Book>> booksRecentlyViewedGet(String xClientID) {
+    @SuppressWarnings("unchecked")
+    public ResponseEntity<List<Book>> booksRecentlyViewedGet(String xClientID, String fields) {
         log.info("Buscando livros vistos recentemente para o usuario: '{}'", xClientID);
-        List<BookEntity> bookEntityList = recentlyViewedUseCase.find(xClientID);
+        BookFields bookFields = BookFields.parse(fields);
+        List<BookEntity> bookEntityList = bookFields.includesDescription()
+                ? recentlyViewedUseCase.findWithDescription(xClientID)
+                : recentlyViewedUseCase.find(xClientID);
         List<Book> bookList = bookApiMapper.toApi(bookEntityList);
         log.info("Busca por recentes do usuario '{}' finalizada. {} livros encontrados.", xClientID, bookList.size());
-        return ResponseEntity.ok(bookList);
+        if (bookFields.isStandard()) {
+            return ResponseEntity.ok(bookList);
+        }
+        return (ResponseEntity<List<Book>>) (ResponseEntity<?>) ResponseEntity.ok(bookFields.select(bookList));
+    }
+
+    // A ETag vem do valor de domínio devolvido pelo cache. Com ela na resposta, o Spring MVC responde 304 a um
+    // If-None-Match igual sem serializar o corpo.
+    private <T> ResponseEntity<T> conditionalOk(String endpoint, Object cachedValue, T body) {
+        return ResponseEntity.ok()
+                .eTag(contentTags.tagOf(cachedValue))
+                .cacheControl(httpCacheProperties.cacheControl(endpoint))
+                .body(body);
+    }
+
+    // Resumo e livro completo saem do SerializedResponseCache, que guarda um corpo por valor em cache. Os demais
+    // subconjuntos de fields são montados por requisição a partir do mesmo valor e seguem a mesma ETag: a URL,
+    // com o fields, já distingue as representações no cache do cliente.
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> projectedOk(String endpoint, BookFields fields, Object cachedValue, Supplier<T> body,
+                                              Supplier<Object> sparseBody) {
+        if (fields.isStandard()) {
+            return preSerializedOk(endpoint, cachedValue, body);
+        }
+        return (ResponseEntity<T>) conditionalOk(endpoint, cachedValue, sparseBody.get());
+    }
+
+    // Nas listagens, o corpo sai do SerializedResponseCache. O BooksApi fixa o tipo do corpo, mas o MVC escolhe o
+    // conversor pela classe do objeto: o byte[] vai direto para o ByteArrayHttpMessageConverter, sem Jackson.
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> preSerializedOk(String endpoint, Object cachedValue, Supplier<T> body) {
+        if (!serializedResponseCache.enabled()) {
+            return conditionalOk(endpoint, cachedValue, body.get());
+        }
+
+        SerializedResponse serialized = serializedResponseCache.get(cachedValue, body);
+        String eTag = contentTags.tagOf(cachedValue);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(httpCacheProperties.cacheControl(endpoint));
+        if (serialized.compressible()) {
+            response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip()) {
+                response.eTag(SerializedResponse.gzipTag(eTag)).header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                return (ResponseEntity<T>) response.body(serialized.gzip());
+            }
+        }
+        return (ResponseEntity<T>) response.eTag(eTag).body(serialized.json());
+    }
+
+    private static boolean acceptsGzip() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && SerializedResponse.acceptsGzip(attributes.getRequest().getHeader(HttpHeaders.ACCEPT_ENCODING));
     }
-}
\ No newline at end of file
+}
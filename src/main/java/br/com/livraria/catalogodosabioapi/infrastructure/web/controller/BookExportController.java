@@ -0,0 +1,78 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.controller;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.ExportProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportação do catálogo completo em NDJSON (um livro por linha). Fica fora do openapi.yaml porque
+ * o gerador não suporta corpos em streaming; a resposta é escrita incrementalmente a partir de um
+ * cursor do MongoDB, sem materializar o catálogo em memória.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/v1")
+public class BookExportController {
+
+    private final BookUseCase bookUseCase;
+    private final BookApiMapper bookApiMapper;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties exportProperties;
+
+    @GetMapping(value = "/books/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> booksExportGet(HttpServletRequest request) {
+        log.info("Iniciando exportação do catálogo em NDJSON.");
+        // A exportação pode levar minutos: o timeout assíncrono é estendido só para esta requisição.
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(exportProperties.timeout().toMillis());
+        }
+        int batchSize = exportProperties.batchSize();
+        // Sem flush a cada livro: o flush acontece a cada lote, e a escrita bloqueante no socket
+        // segura a leitura do cursor quando o cliente consome mais devagar que o MongoDB entrega.
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            long exported = 0;
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            try (generator; Stream<BookEntity> books = bookUseCase.streamAll(batchSize)) {
+                Iterator<BookEntity> iterator = books.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, bookApiMapper.toApi(iterator.next()));
+                    generator.writeRaw('\n');
+                    if (++exported % batchSize == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+            log.info("Exportação do catálogo finalizada. {} livros exportados.", exported);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
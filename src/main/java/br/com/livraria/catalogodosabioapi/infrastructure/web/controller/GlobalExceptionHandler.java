@@ -2,6 +2,9 @@ package br.com.livraria.catalogodosabioapi.infrastructure.web.controller;
 
 
 import br.com.livraria.catalogodosabioapi.core.domain.exception.BookNotFoundException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidCursorException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidFieldsException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidSearchQueryException;
 import br.com.livraria.catalogodosabioapi.model.ApiError;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -29,6 +32,45 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(apiError, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiError> handleInvalidCursorException(InvalidCursorException ex){
+        log.warn("Cursor de paginação inválido recebido: {}", ex.getCursor());
+
+        ApiError apiError = new ApiError()
+                .timestamp(ex.getTimestamp().atOffset(ZoneOffset.UTC))
+                .message(ex.getMessage())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .status(HttpStatus.BAD_REQUEST.value());
+
+        return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<ApiError> handleInvalidSearchQueryException(InvalidSearchQueryException ex){
+        log.warn("Busca recebida sem termo de pesquisa");
+
+        ApiError apiError = new ApiError()
+                .timestamp(ex.getTimestamp().atOffset(ZoneOffset.UTC))
+                .message(ex.getMessage())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .status(HttpStatus.BAD_REQUEST.value());
+
+        return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ApiError> handleInvalidFieldsException(InvalidFieldsException ex){
+        log.warn("Parâmetro fields inválido recebido: {}", ex.getFields());
+
+        ApiError apiError = new ApiError()
+                .timestamp(ex.getTimestamp().atOffset(ZoneOffset.UTC))
+                .message(ex.getMessage())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .status(HttpStatus.BAD_REQUEST.value());
+
+        return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleGlobalException(Exception ex) {
         log.error("Erro inesperado processando a requisição: {}", ex.getMessage());
@@ -0,0 +1,33 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.pagination;
+
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica o id do último livro de uma página em um cursor opaco (Base64 URL-safe) exposto na API.
+ */
+public final class PageCursor {
+
+    private PageCursor() {
+    }
+
+    public static String encode(String afterId) {
+        if (afterId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(afterId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
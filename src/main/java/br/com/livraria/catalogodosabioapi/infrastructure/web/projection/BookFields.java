@@ -0,0 +1,107 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.projection;
+
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidFieldsException;
+import br.com.livraria.catalogodosabioapi.model.Book;
+import br.com.livraria.catalogodosabioapi.model.BookPage;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Propriedades de {@link Book} pedidas no parâmetro {@code fields} das listagens.
+ * <p>
+ * Sem o parâmetro a listagem usa o {@link #SUMMARY}, lido do MongoDB sem a descrição e guardado nos caches de
+ * resumo; a projeção completa só é consultada quando {@code description} é pedida. Os dois conjuntos padrão são
+ * servidos pelo {@code SerializedResponseCache}; qualquer outro subconjunto tem o corpo montado por requisição,
+ * com apenas as propriedades pedidas.
+ */
+public record BookFields(Set<String> names) {
+
+    private static final Map<String, Function<Book, Object>> PROPERTIES = properties();
+
+    public static final BookFields FULL = new BookFields(PROPERTIES.keySet());
+    public static final BookFields SUMMARY = new BookFields(PROPERTIES.keySet().stream()
+            .filter(name -> !name.equals("description"))
+            .collect(Collectors.toUnmodifiableSet()));
+
+    public BookFields {
+        names = Set.copyOf(names);
+    }
+
+    /**
+     * @throws InvalidFieldsException quando alguma propriedade não existe em {@link Book}.
+     */
+    public static BookFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return SUMMARY;
+        }
+
+        Set<String> names = new HashSet<>();
+        // O id identifica o livro nas chamadas seguintes e acompanha qualquer seleção.
+        names.add("id");
+        for (String name : fields.split(",")) {
+            String property = name.strip();
+            if (property.isEmpty()) {
+                continue;
+            }
+            if (!PROPERTIES.containsKey(property)) {
+                throw new InvalidFieldsException(fields);
+            }
+            names.add(property);
+        }
+        return new BookFields(names);
+    }
+
+    public boolean includesDescription() {
+        return names.contains("description");
+    }
+
+    // Resumo e livro completo têm o corpo pré-serializado; os demais conjuntos passam por select.
+    public boolean isStandard() {
+        return equals(SUMMARY) || equals(FULL);
+    }
+
+    /**
+     * @return um mapa com as propriedades pedidas, na ordem do schema, sem as nulas.
+     */
+    public Map<String, Object> select(Book book) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        PROPERTIES.forEach((name, getter) -> {
+            Object value = names.contains(name) ? getter.apply(book) : null;
+            if (value != null) {
+                selected.put(name, value);
+            }
+        });
+        return selected;
+    }
+
+    public List<Map<String, Object>> select(List<Book> books) {
+        return books.stream().map(this::select).toList();
+    }
+
+    public Map<String, Object> select(BookPage page) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        selected.put("items", select(page.getItems()));
+        if (page.getNextCursor() != null) {
+            selected.put("nextCursor", page.getNextCursor());
+        }
+        return selected;
+    }
+
+    private static Map<String, Function<Book, Object>> properties() {
+        Map<String, Function<Book, Object>> properties = new LinkedHashMap<>();
+        properties.put("id", Book::getId);
+        properties.put("title", Book::getTitle);
+        properties.put("authors", Book::getAuthors);
+        properties.put("genres", Book::getGenres);
+        properties.put("description", Book::getDescription);
+        properties.put("price", Book::getPrice);
+        properties.put("stock", Book::getStock);
+        return properties;
+    }
+}
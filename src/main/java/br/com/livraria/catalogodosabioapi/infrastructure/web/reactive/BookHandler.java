@@ -0,0 +1,203 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.reactive;
+
+import br.com.livraria.catalogodosabioapi.core.domain.exception.BookNotFoundException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidCursorException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidFieldsException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidSearchQueryException;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.ReactiveBookUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.ReactiveRecentlyViewedUseCase;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.ContentTags;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.HttpCacheProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.controller.GlobalExceptionHandler;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapper;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.pagination.PageCursor;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.projection.BookFields;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.response.SerializedResponse;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.response.SerializedResponseCache;
+import br.com.livraria.catalogodosabioapi.model.ApiError;
+import br.com.livraria.catalogodosabioapi.model.BookPage;
+import br.com.livraria.catalogodosabioapi.model.BookSearchPage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Handlers WebFlux dos endpoints de leitura do openapi.yaml, equivalentes ao {@code BookController}.
+ * Os erros são convertidos pelo mesmo {@link GlobalExceptionHandler} da pilha servlet.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class BookHandler {
+
+    static final String CLIENT_ID_HEADER = "X-Client-ID";
+
+    private final ReactiveBookUseCase bookUseCase;
+    private final ReactiveRecentlyViewedUseCase recentlyViewedUseCase;
+    private final BookApiMapper bookApiMapper;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ContentTags contentTags;
+    private final HttpCacheProperties httpCacheProperties;
+    private final SerializedResponseCache serializedResponseCache;
+
+    public Mono<ServerResponse> booksIdGet(ServerRequest request) {
+        String id = request.pathVariable("id");
+        String clientId = request.headers().firstHeader(CLIENT_ID_HEADER);
+        log.info("Buscando livro por ID: {}", id);
+        return bookUseCase.findById(id)
+                .flatMap(bookEntity -> recentlyViewedUseCase.track(clientId, id).thenReturn(bookEntity))
+                .doOnNext(bookEntity -> log.info("Busca por ID {} finalizada com sucesso.", id))
+                .flatMap(bookEntity -> conditionalOk(request, "book", bookEntity, () -> bookApiMapper.toApi(bookEntity)));
+    }
+
+    public Mono<ServerResponse> booksGet(ServerRequest request) {
+        return fields(request).flatMap(bookFields -> Mono.defer(() -> {
+                    String cursor = request.queryParam("cursor").orElse(null);
+                    Integer limit = intParam(request, "limit");
+                    log.info("Buscando página de livros. Cursor: '{}', limite: {}", cursor, limit);
+                    String afterId = PageCursor.decode(cursor);
+                    return bookFields.includesDescription()
+                            ? bookUseCase.findPage(afterId, limit)
+                            : bookUseCase.findSummaryPage(afterId, limit);
+                })
+                .doOnNext(bookPageEntity -> log.info("Busca paginada de livros finalizada. {} livros encontrados.", bookPageEntity.books().size()))
+                .flatMap(bookPageEntity -> {
+                    Supplier<BookPage> body = () -> new BookPage()
+                            .items(bookApiMapper.toApi(bookPageEntity.books()))
+                            .nextCursor(PageCursor.encode(bookPageEntity.nextAfterId()));
+                    return projectedOk(request, "booksPage", bookFields, bookPageEntity, body::get, () -> bookFields.select(body.get()));
+                }));
+    }
+
+    public Mono<ServerResponse> booksSearchGet(ServerRequest request) {
+        String q = request.queryParam("q").orElse(null);
+        return Mono.defer(() -> {
+                    Integer page = intParam(request, "page");
+                    Integer limit = intParam(request, "limit");
+                    log.info("Buscando livros pelo termo '{}'. Página: {}, limite: {}", q, page, limit);
+                    return bookUseCase.search(q, page, limit);
+                })
+                .doOnNext(searchPageEntity -> log.info("Busca pelo termo '{}' finalizada. {} livros encontrados.", q, searchPageEntity.books().size()))
+                .flatMap(searchPageEntity -> conditionalOk(request, "booksSearch", searchPageEntity, () -> new BookSearchPage()
+                        .items(bookApiMapper.toApi(searchPageEntity.books()))
+                        .page(searchPageEntity.page())
+                        .hasNext(searchPageEntity.hasNext())));
+    }
+
+    public Mono<ServerResponse> booksAuthorAuthorGet(ServerRequest request) {
+        String author = request.pathVariable("author");
+        log.info("Buscando livros por autor: '{}'", author);
+        return fields(request).flatMap(bookFields -> (bookFields.includesDescription()
+                        ? bookUseCase.findByAuthor(author)
+                        : bookUseCase.findSummariesByAuthor(author))
+                .doOnNext(books -> log.info("Busca por autor '{}' finalizada. {} livros encontrados.", author, books.size()))
+                .flatMap(books -> projectedOk(request, "booksByAuthor", bookFields, books, () -> bookApiMapper.toApi(books),
+                        () -> bookFields.select(bookApiMapper.toApi(books)))));
+    }
+
+    public Mono<ServerResponse> booksGenreGenreGet(ServerRequest request) {
+        String genre = request.pathVariable("genre");
+        log.info("Buscando livros por gênero: '{}'", genre);
+        return fields(request).flatMap(bookFields -> (bookFields.includesDescription()
+                        ? bookUseCase.findByGenre(genre)
+                        : bookUseCase.findSummariesByGenre(genre))
+                .doOnNext(books -> log.info("Busca por gênero '{}' finalizada. {} livros encontrados.", genre, books.size()))
+                .flatMap(books -> projectedOk(request, "booksByGenre", bookFields, books, () -> bookApiMapper.toApi(books),
+                        () -> bookFields.select(bookApiMapper.toApi(books)))));
+    }
+
+    public Mono<ServerResponse> booksRecentlyViewedGet(ServerRequest request) {
+        String clientId = request.headers().firstHeader(CLIENT_ID_HEADER);
+        log.info("Buscando livros vistos recentemente para o usuario: '{}'", clientId);
+        return fields(request).flatMap(bookFields -> (bookFields.includesDescription()
+                        ? recentlyViewedUseCase.findWithDescription(clientId)
+                        : recentlyViewedUseCase.find(clientId))
+                .map(bookApiMapper::toApi)
+                .doOnNext(books -> log.info("Busca por recentes do usuario '{}' finalizada. {} livros encontrados.", clientId, books.size()))
+                .flatMap(books -> ServerResponse.ok().bodyValue(bookFields.isStandard() ? books : bookFields.select(books))));
+    }
+
+    public Mono<ServerResponse> handleError(Throwable error, ServerRequest request) {
+        ResponseEntity<ApiError> response = switch (error) {
+            case BookNotFoundException e -> exceptionHandler.handleBookNotFoundException(e);
+            case InvalidCursorException e -> exceptionHandler.handleInvalidCursorException(e);
+            case InvalidSearchQueryException e -> exceptionHandler.handleInvalidSearchQueryException(e);
+            case InvalidFieldsException e -> exceptionHandler.handleInvalidFieldsException(e);
+            case Exception e -> exceptionHandler.handleGlobalException(e);
+            default -> exceptionHandler.handleGlobalException(new RuntimeException(error));
+        };
+        return ServerResponse.status(response.getStatusCode()).bodyValue(response.getBody());
+    }
+
+    // Mesma regra do BookController: com um If-None-Match igual à ETag do valor em cache, a resposta é 304 e o corpo
+    // nem chega a ser montado.
+    private Mono<ServerResponse> conditionalOk(ServerRequest request, String endpoint, Object cachedValue, Supplier<Object> body) {
+        return conditional(request, endpoint, contentTags.tagOf(cachedValue), response -> response.bodyValue(body.get()));
+    }
+
+    // Mesma regra do BookController: só resumo e livro completo passam pelo SerializedResponseCache.
+    private Mono<ServerResponse> projectedOk(ServerRequest request, String endpoint, BookFields fields, Object cachedValue,
+                                             Supplier<Object> body, Supplier<Object> sparseBody) {
+        if (fields.isStandard()) {
+            return preSerializedOk(request, endpoint, cachedValue, body);
+        }
+        return conditionalOk(request, endpoint, cachedValue, sparseBody);
+    }
+
+    // Nas listagens, o corpo sai do SerializedResponseCache e é escrito pelo ByteArrayEncoder, sem Jackson.
+    private Mono<ServerResponse> preSerializedOk(ServerRequest request, String endpoint, Object cachedValue, Supplier<Object> body) {
+        if (!serializedResponseCache.enabled()) {
+            return conditionalOk(request, endpoint, cachedValue, body);
+        }
+
+        SerializedResponse serialized = serializedResponseCache.get(cachedValue, body);
+        String eTag = contentTags.tagOf(cachedValue);
+        if (!serialized.compressible()) {
+            return conditional(request, endpoint, eTag, response -> response
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(serialized.json()));
+        }
+        if (!SerializedResponse.acceptsGzip(request.headers().firstHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return conditional(request, endpoint, eTag, response -> response
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .bodyValue(serialized.json()));
+        }
+        return conditional(request, endpoint, SerializedResponse.gzipTag(eTag), response -> response
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .bodyValue(serialized.gzip()));
+    }
+
+    private Mono<ServerResponse> conditional(ServerRequest request, String endpoint, String eTag,
+                                             Function<ServerResponse.BodyBuilder, Mono<ServerResponse>> body) {
+        CacheControl cacheControl = httpCacheProperties.cacheControl(endpoint);
+        return request.checkNotModified(eTag)
+                .flatMap(notModified -> ServerResponse.from(notModified).cacheControl(cacheControl).build())
+                .switchIfEmpty(Mono.defer(() -> body.apply(ServerResponse.ok().eTag(eTag).cacheControl(cacheControl))));
+    }
+
+    // Um fields inválido vira um Mono com erro, tratado pelo onError das rotas como os demais 400.
+    private static Mono<BookFields> fields(ServerRequest request) {
+        return Mono.fromCallable(() -> BookFields.parse(request.queryParam("fields").orElse(null)));
+    }
+
+    // Assim como no Spring MVC, um valor que não é número cai no tratamento genérico de erros.
+    // Por isso a conversão acontece dentro do Mono, onde o onError das rotas alcança a exceção.
+    private static Integer intParam(ServerRequest request, String name) {
+        return request.queryParam(name).filter(value -> !value.isBlank()).map(Integer::valueOf).orElse(null);
+    }
+}
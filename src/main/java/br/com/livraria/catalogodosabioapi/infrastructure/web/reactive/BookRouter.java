@@ -0,0 +1,31 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Rotas do modo reativo, com os mesmos caminhos do openapi.yaml implementados pelo {@code BookController}.
+ * A exportação NDJSON ({@code /v1/books/export}) fica apenas na pilha servlet.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class BookRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> bookRoutes(BookHandler bookHandler) {
+        return RouterFunctions.route()
+                .path("/v1/books", books -> books
+                        .GET("/", bookHandler::booksGet)
+                        .GET("/search", bookHandler::booksSearchGet)
+                        .GET("/recently-viewed", bookHandler::booksRecentlyViewedGet)
+                        .GET("/genre/{genre}", bookHandler::booksGenreGenreGet)
+                        .GET("/author/{author}", bookHandler::booksAuthorAuthorGet)
+                        .GET("/{id}", bookHandler::booksIdGet))
+                .onError(Throwable.class, bookHandler::handleError)
+                .build();
+    }
+}
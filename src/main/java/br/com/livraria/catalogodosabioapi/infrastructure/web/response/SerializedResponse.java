@@ -0,0 +1,68 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Corpo JSON já serializado de uma resposta, com a versão em gzip calculada na primeira vez que é pedida.
+ */
+public final class SerializedResponse {
+
+    private final byte[] json;
+    private final boolean compressible;
+    private volatile byte[] gzip;
+
+    SerializedResponse(byte[] json, boolean compressible) {
+        this.json = json;
+        this.compressible = compressible;
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    /**
+     * @return {@code true} quando o corpo atinge o tamanho mínimo para ser servido em gzip.
+     */
+    public boolean compressible() {
+        return compressible;
+    }
+
+    public byte[] gzip() {
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            compressed = compress(json);
+            gzip = compressed;
+        }
+        return compressed;
+    }
+
+    /**
+     * ETag da representação em gzip. Uma ETag forte identifica os bytes exatos da resposta, então cada
+     * codificação precisa da sua.
+     */
+    public static String gzipTag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    int weight() {
+        return json.length;
+    }
+
+    private static byte[] compress(byte[] content) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
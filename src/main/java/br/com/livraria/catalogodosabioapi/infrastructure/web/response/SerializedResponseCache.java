@@ -0,0 +1,58 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.response;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.HttpCacheProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Respostas JSON já serializadas dos endpoints de listagem.
+ * <p>
+ * O corpo fica associado, por identidade, ao valor de domínio devolvido pelo cache de livros, que é o mesmo objeto
+ * guardado no L1. Enquanto o valor estiver no L1, as requisições seguintes escrevem esses bytes direto na resposta,
+ * sem passar pelo {@code BookApiMapper} nem pelo Jackson. Quando o L1 descarta ou invalida o valor, o corpo é
+ * descartado junto, então não há uma invalidação própria a manter.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final HttpCacheProperties.ResponseCache properties;
+    private final Cache<Object, SerializedResponse> responses;
+
+    public SerializedResponseCache(ObjectMapper objectMapper, HttpCacheProperties httpCacheProperties) {
+        this.objectMapper = objectMapper;
+        this.properties = httpCacheProperties.responseCache();
+        this.responses = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumWeight(properties.maximumSize().toBytes())
+                .weigher((Object value, SerializedResponse response) -> response.weight())
+                .build();
+    }
+
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * @param cachedValue valor de domínio que originou a resposta.
+     * @param body        monta o modelo da API; só é chamado quando o valor ainda não tem corpo serializado.
+     */
+    public SerializedResponse get(Object cachedValue, Supplier<?> body) {
+        return responses.get(cachedValue, value -> serialize(body.get()));
+    }
+
+    private SerializedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new SerializedResponse(json, properties.gzip() && json.length >= properties.gzipMinSize().toBytes());
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Não foi possível serializar a resposta", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- Registra visualizações na lista de recentes de um cliente em uma única ida ao Redis.
+-- KEYS[1]: chave da lista (recently_viewed:<clientId>)
+-- ARGV[1]: quantidade máxima de itens mantidos na lista
+-- ARGV[2]: TTL da lista em segundos
+-- ARGV[3..n]: ids dos livros na ordem em que foram visualizados (o último é o mais recente)
+local key = KEYS[1]
+for i = 3, #ARGV do
+    redis.call('LREM', key, 0, ARGV[i])
+    redis.call('LPUSH', key, ARGV[i])
+end
+redis.call('LTRIM', key, 0, tonumber(ARGV[1]) - 1)
+redis.call('EXPIRE', key, tonumber(ARGV[2]))
+return redis.call('LLEN', key)
@@ -0,0 +1,7 @@
+-- Libera o lock de carregamento apenas se ele ainda pertence a quem o adquiriu.
+-- KEYS[1]: chave do lock
+-- ARGV[1]: token gravado na aquisição
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -2,7 +2,10 @@ package br.com.livraria.catalogodosabioapi.core.usecase;
 
 
 import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
 import br.com.livraria.catalogodosabioapi.core.domain.exception.BookNotFoundException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidSearchQueryException;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -48,6 +51,80 @@ class BookUseCaseImplTest {
         assertEquals(2, actualBooks.size(), "A lista deve conter 2 livros.");
     }
 
+    @Test
+    @DisplayName("Deve repassar o cursor e o limite ao repositório quando findPage é chamado")
+    void shouldDelegateToRepositoryWhenFindPageIsCalled() {
+        // Arrange
+        BookPageEntity expectedPage = new BookPageEntity(
+                List.of(new BookEntity("2", "Title 2", List.of("Author 2"), List.of("Genre 2"), "Desc 2", 20.0, 10)), "2");
+        when(bookRepositoryPort.findPage("1", 1)).thenReturn(expectedPage);
+
+        // Act
+        BookPageEntity actualPage = bookUseCase.findPage("1", 1);
+
+        // Assert
+        verify(bookRepositoryPort, times(1)).findPage("1", 1);
+        assertEquals(expectedPage, actualPage, "A página deve ser a mesma que a retornada pelo repositório.");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o tamanho padrão e o máximo de página quando findPage recebe limites fora da faixa")
+    void shouldApplyDefaultAndMaxPageSizeWhenFindPageIsCalledWithOutOfRangeLimit() {
+        // Arrange
+        BookPageEntity emptyPage = new BookPageEntity(Collections.emptyList(), null);
+        when(bookRepositoryPort.findPage(null, BookUseCaseImpl.DEFAULT_PAGE_SIZE)).thenReturn(emptyPage);
+        when(bookRepositoryPort.findPage(null, BookUseCaseImpl.MAX_PAGE_SIZE)).thenReturn(emptyPage);
+
+        // Act
+        bookUseCase.findPage(null, null);
+        bookUseCase.findPage(null, 10_000);
+
+        // Assert
+        verify(bookRepositoryPort, times(1)).findPage(null, BookUseCaseImpl.DEFAULT_PAGE_SIZE);
+        verify(bookRepositoryPort, times(1)).findPage(null, BookUseCaseImpl.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Deve normalizar o termo e repassar página e limite ao repositório quando search é chamado")
+    void shouldNormalizeQueryAndDelegateToRepositoryWhenSearchIsCalled() {
+        // Arrange
+        BookSearchPageEntity expectedPage = new BookSearchPageEntity(
+                List.of(new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Romance"), "Desc 1", 10.0, 5)), 0, false);
+        when(bookRepositoryPort.search("dom casmurro", 0, BookUseCaseImpl.DEFAULT_PAGE_SIZE)).thenReturn(expectedPage);
+
+        // Act
+        BookSearchPageEntity actualPage = bookUseCase.search("  Dom   Casmurro ", null, null);
+
+        // Assert
+        verify(bookRepositoryPort, times(1)).search("dom casmurro", 0, BookUseCaseImpl.DEFAULT_PAGE_SIZE);
+        assertEquals(expectedPage, actualPage, "A página deve ser a mesma que a retornada pelo repositório.");
+    }
+
+    @Test
+    @DisplayName("Deve limitar a página da busca e não indicar próxima página além do limite")
+    void shouldCapSearchPageAndReportNoNextPageBeyondIt() {
+        // Arrange
+        BookSearchPageEntity lastPage = new BookSearchPageEntity(List.of(), BookUseCaseImpl.MAX_SEARCH_PAGE, true);
+        when(bookRepositoryPort.search("duna", BookUseCaseImpl.MAX_SEARCH_PAGE, 10)).thenReturn(lastPage);
+
+        // Act
+        BookSearchPageEntity actualPage = bookUseCase.search("duna", 1_000_000, 10);
+
+        // Assert
+        verify(bookRepositoryPort, times(1)).search("duna", BookUseCaseImpl.MAX_SEARCH_PAGE, 10);
+        assertEquals(BookUseCaseImpl.MAX_SEARCH_PAGE, actualPage.page());
+        assertFalse(actualPage.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve lançar InvalidSearchQueryException quando search é chamado sem termo")
+    void shouldThrowInvalidSearchQueryExceptionWhenSearchIsCalledWithBlankQuery() {
+        // Act & Assert
+        assertThrows(InvalidSearchQueryException.class, () -> bookUseCase.search(null, 0, 10));
+        assertThrows(InvalidSearchQueryException.class, () -> bookUseCase.search("   ", 0, 10));
+        verifyNoInteractions(bookRepositoryPort);
+    }
+
     @Test
     @DisplayName("Deve retornar um livro quando findById é chamado com um ID existente")
     void shouldReturnBookWhenFindByIdIsCalledWithExistingId() {
@@ -181,4 +258,23 @@ class BookUseCaseImplTest {
         verify(bookRepositoryPort, times(1)).findAllByIds(bookIds);
         assertTrue(actualBooks.isEmpty(), "A lista de livros por IDs deve ser vazia.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve retornar resumos de livros por lista de IDs quando findSummariesByIds é chamado")
+    void shouldReturnBookSummariesByIdsWhenFindSummariesByIdsIsCalled() {
+        // Arrange
+        List<String> bookIds = Arrays.asList("id2", "id1");
+        List<BookEntity> expectedBooks = Arrays.asList(
+                new BookEntity("id2", "Book Two", List.of("Author Y"), List.of("Genre B"), null, 20.0, 10),
+                new BookEntity("id1", "Book One", List.of("Author X"), List.of("Genre A"), null, 10.0, 5)
+        );
+        when(bookRepositoryPort.findSummariesByIds(bookIds)).thenReturn(expectedBooks);
+
+        // Act
+        List<BookEntity> actualBooks = bookUseCase.findSummariesByIds(bookIds);
+
+        // Assert
+        verify(bookRepositoryPort, times(1)).findSummariesByIds(bookIds);
+        assertEquals(expectedBooks, actualBooks, "A lista de resumos deve ser a mesma que a retornada pelo repositório.");
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.livraria.catalogodosabioapi.core.usecase;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.BookNotFoundException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidSearchQueryException;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.ReactiveBookRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveBookUseCaseImplTest {
+
+    @Mock
+    private ReactiveBookRepositoryPort bookRepositoryPort;
+
+    @InjectMocks
+    private ReactiveBookUseCaseImpl bookUseCase;
+
+    private final BookEntity book = new BookEntity("1", "Title 1", List.of("Author 1"), List.of("Genre 1"), "Desc 1", 10.0, 5);
+
+    @Test
+    @DisplayName("Deve retornar o livro quando findById encontra o id")
+    void shouldReturnBookWhenFound() {
+        // Arrange
+        when(bookRepositoryPort.findById("1")).thenReturn(Mono.just(book));
+
+        // Act
+        BookEntity actualBook = bookUseCase.findById("1").block();
+
+        // Assert
+        assertEquals(book, actualBook);
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar BookNotFoundException quando findById não encontra o id")
+    void shouldSignalBookNotFoundExceptionWhenBookIsMissing() {
+        // Arrange
+        when(bookRepositoryPort.findById("99")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        BookNotFoundException exception = assertThrows(BookNotFoundException.class, () -> bookUseCase.findById("99").block());
+        assertEquals("99", exception.getId());
+    }
+
+    @Test
+    @DisplayName("Deve normalizar o termo e aplicar os limites de página como o caso de uso bloqueante")
+    void shouldNormalizeQueryAndClampPageSize() {
+        // Arrange
+        BookSearchPageEntity expectedPage = new BookSearchPageEntity(List.of(book), 0, false);
+        when(bookRepositoryPort.search("dom casmurro", 0, BookUseCaseImpl.MAX_PAGE_SIZE)).thenReturn(Mono.just(expectedPage));
+
+        // Act
+        BookSearchPageEntity actualPage = bookUseCase.search("  Dom   Casmurro ", -1, 1000).block();
+
+        // Assert
+        assertEquals(expectedPage, actualPage);
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar InvalidSearchQueryException sem consultar o repositório quando o termo está vazio")
+    void shouldSignalInvalidSearchQueryExceptionForBlankQuery() {
+        // Act & Assert
+        assertThrows(InvalidSearchQueryException.class, () -> bookUseCase.search("   ", null, null).block());
+        verifyNoInteractions(bookRepositoryPort);
+    }
+}
@@ -84,7 +84,7 @@ class RecentlyViewedUseCaseImplTest {
         // Assert
         assertTrue(result.isEmpty(), "A lista deve ser vazia para clientId nulo.");
         verify(recentlyViewedPort, never()).findByClientId(anyString());
-        verify(bookUseCase, never()).findAllByIds(anyList());
+        verify(bookUseCase, never()).findSummariesByIds(anyList());
     }
 
     @Test
@@ -99,7 +99,7 @@ class RecentlyViewedUseCaseImplTest {
         // Assert
         assertTrue(result.isEmpty(), "A lista deve ser vazia para clientId vazio.");
         verify(recentlyViewedPort, never()).findByClientId(anyString());
-        verify(bookUseCase, never()).findAllByIds(anyList());
+        verify(bookUseCase, never()).findSummariesByIds(anyList());
     }
 
     @Test
@@ -115,7 +115,7 @@ class RecentlyViewedUseCaseImplTest {
         // Assert
         verify(recentlyViewedPort, times(1)).findByClientId(clientId);
         assertTrue(result.isEmpty(), "A lista deve ser vazia se a porta não retornar IDs.");
-        verify(bookUseCase, never()).findAllByIds(anyList());
+        verify(bookUseCase, never()).findSummariesByIds(anyList());
     }
 
     @Test
@@ -130,15 +130,35 @@ class RecentlyViewedUseCaseImplTest {
         );
 
         when(recentlyViewedPort.findByClientId(clientId)).thenReturn(bookIds);
-        when(bookUseCase.findAllByIds(bookIds)).thenReturn(expectedBooks);
+        when(bookUseCase.findSummariesByIds(bookIds)).thenReturn(expectedBooks);
 
         // Act
         List<BookEntity> result = recentlyViewedUseCase.find(clientId);
 
         // Assert
         verify(recentlyViewedPort, times(1)).findByClientId(clientId);
-        verify(bookUseCase, times(1)).findAllByIds(bookIds);
+        verify(bookUseCase, times(1)).findSummariesByIds(bookIds);
         assertEquals(expectedBooks, result, "A lista de livros retornada deve ser a esperada.");
         assertEquals(2, result.size(), "A lista deve conter 2 livros.");
     }
+
+    @Test
+    @DisplayName("Deve resolver os livros completos pelo findAllByIds quando a descrição é pedida")
+    void shouldResolveFullBooksWhenFindWithDescriptionIsCalled() {
+        // Arrange
+        String clientId = "client-789";
+        List<String> bookIds = List.of("book-id-1");
+        List<BookEntity> expectedBooks = List.of(
+                new BookEntity("book-id-1", "Book One", List.of("Author A"), List.of("Genre X"), "Desc X", 10.0, 5));
+
+        when(recentlyViewedPort.findByClientId(clientId)).thenReturn(bookIds);
+        when(bookUseCase.findAllByIds(bookIds)).thenReturn(expectedBooks);
+
+        // Act
+        List<BookEntity> result = recentlyViewedUseCase.findWithDescription(clientId);
+
+        // Assert
+        verify(bookUseCase, never()).findSummariesByIds(anyList());
+        assertEquals(expectedBooks, result);
+    }
 }
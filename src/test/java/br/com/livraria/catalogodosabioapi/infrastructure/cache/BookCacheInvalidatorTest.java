@@ -0,0 +1,140 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream.BookChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BookCacheInvalidatorTest {
+
+    private final BookEntity book = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Romance"), "Desc", 10.0, 5);
+
+    private CacheManager cacheManager;
+    private BookCacheInvalidator bookCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        bookCacheInvalidator = new BookCacheInvalidator(cacheManager, Duration.ZERO);
+
+        cacheManager.getCache("book").put("1", book);
+        cacheManager.getCache("book").put("2", book);
+        cacheManager.getCache("bookSummary").put("1", book);
+        cacheManager.getCache("booksPage").put(":20", List.of(book));
+        cacheManager.getCache("booksByGenre").put("romance", List.of(book));
+        cacheManager.getCache("booksByGenre").put("terror", List.of());
+        cacheManager.getCache("booksByAuthor").put("machado de assis", List.of(book));
+        cacheManager.getCache("booksByAuthor").put("jose de alencar", List.of());
+        cacheManager.getCache("booksPageSummary").put(":20", List.of(book));
+        cacheManager.getCache("booksByGenreSummary").put("romance", List.of(book));
+        cacheManager.getCache("booksByGenreSummary").put("terror", List.of());
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas as entradas do livro quando o update não altera gêneros nem autores")
+    void shouldEvictOnlyAffectedEntriesWhenUpdateKeepsGenresAndAuthors() {
+        // Arrange
+        BookEntity updated = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Romance"), "Desc", 12.0, 3);
+
+        // Act
+        bookCacheInvalidator.onChange(new BookChange(BookChange.Operation.UPDATE, "1", updated, null, Set.of("price", "stock")));
+
+        // Assert
+        assertNull(cacheManager.getCache("book").get("1"));
+        assertNotNull(cacheManager.getCache("book").get("2"));
+        assertNull(cacheManager.getCache("bookSummary").get("1"));
+        assertNull(cacheManager.getCache("booksPage").get(":20"));
+        assertNull(cacheManager.getCache("booksByGenre").get("romance"));
+        assertNotNull(cacheManager.getCache("booksByGenre").get("terror"));
+        assertNull(cacheManager.getCache("booksByAuthor").get("machado de assis"));
+        assertNotNull(cacheManager.getCache("booksByAuthor").get("jose de alencar"));
+        assertNull(cacheManager.getCache("booksPageSummary").get(":20"));
+        assertNull(cacheManager.getCache("booksByGenreSummary").get("romance"));
+        assertNotNull(cacheManager.getCache("booksByGenreSummary").get("terror"));
+    }
+
+    @Test
+    @DisplayName("Deve usar a pre-image para remover as chaves dos gêneros anteriores")
+    void shouldEvictPreviousKeysFromPreImage() {
+        // Arrange
+        BookEntity updated = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Terror"), "Desc", 10.0, 5);
+
+        // Act
+        bookCacheInvalidator.onChange(new BookChange(BookChange.Operation.UPDATE, "1", updated, book, Set.of("genres")));
+
+        // Assert
+        assertNull(cacheManager.getCache("booksByGenre").get("romance"));
+        assertNull(cacheManager.getCache("booksByGenre").get("terror"));
+        assertNull(cacheManager.getCache("booksByAuthor").get("machado de assis"));
+        assertNotNull(cacheManager.getCache("booksByAuthor").get("jose de alencar"));
+    }
+
+    @Test
+    @DisplayName("Deve limpar o cache de gêneros quando um livro removido não tem pre-image")
+    void shouldClearLookupCachesOnDeleteWithoutPreImage() {
+        // Act
+        bookCacheInvalidator.onChange(new BookChange(BookChange.Operation.DELETE, "1", null, null, null));
+
+        // Assert
+        assertNull(cacheManager.getCache("book").get("1"));
+        assertNull(cacheManager.getCache("booksByGenre").get("terror"));
+        assertNull(cacheManager.getCache("booksByAuthor").get("jose de alencar"));
+    }
+
+    @Test
+    @DisplayName("Deve limpar todos os caches de livros apenas quando o change stream é reaberto sem continuidade")
+    void shouldClearAllCachesOnlyOnSubsequentResets() {
+        // Act
+        bookCacheInvalidator.onReset();
+
+        // Assert
+        assertNotNull(cacheManager.getCache("book").get("2"));
+
+        // Act
+        bookCacheInvalidator.onReset();
+
+        // Assert
+        assertNull(cacheManager.getCache("book").get("2"));
+        assertNull(cacheManager.getCache("booksByGenre").get("terror"));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar em uma limpeza as listas invalidadas por vários eventos dentro da janela")
+    void shouldCoalesceListClearsWithinDelay() {
+        // Arrange
+        Cache booksPage = spy(new ConcurrentMapCache("booksPage"));
+        CacheManager spyingCacheManager = mock(CacheManager.class);
+        when(spyingCacheManager.getCache(anyString())).thenReturn(null);
+        when(spyingCacheManager.getCache("booksPage")).thenReturn(booksPage);
+        BookCacheInvalidator coalescingInvalidator = new BookCacheInvalidator(spyingCacheManager, Duration.ofSeconds(1));
+        booksPage.put(":20", List.of(book));
+
+        try {
+            // Act
+            for (int i = 0; i < 100; i++) {
+                coalescingInvalidator.onChange(new BookChange(BookChange.Operation.UPDATE, "1", book, null, Set.of("stock")));
+            }
+
+            // Assert
+            assertNotNull(booksPage.get(":20"));
+            verify(booksPage, timeout(5_000)).clear();
+            verify(booksPage, after(1_500).times(1)).clear();
+            assertNull(booksPage.get(":20"));
+        } finally {
+            coalescingInvalidator.destroy();
+        }
+    }
+}
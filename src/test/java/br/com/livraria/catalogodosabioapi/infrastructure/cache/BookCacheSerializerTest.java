@@ -0,0 +1,118 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookCacheSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final BookCacheSerializer binarySerializer = new BookCacheSerializer(jsonSerializer, true, 1024);
+
+    private final BookEntity book = new BookEntity("1", "Memórias Póstumas", List.of("Machado de Assis"), List.of("Romance"), "Desc", 10.5, 5);
+    private final BookEntity bookWithNulls = new BookEntity("2", "Sem preço", null, List.of(), null, null, null);
+
+    @Test
+    @DisplayName("Deve fazer a ida e volta de livros, listas e páginas no formato binário")
+    void shouldRoundTripSupportedTypes() {
+        // Arrange
+        BookPageEntity page = new BookPageEntity(List.of(book, bookWithNulls), "2");
+        BookSearchPageEntity searchPage = new BookSearchPageEntity(List.of(book), 3, true);
+
+        // Act & Assert
+        assertEquals(book, binarySerializer.deserialize(binarySerializer.serialize(book)));
+        assertEquals(bookWithNulls, binarySerializer.deserialize(binarySerializer.serialize(bookWithNulls)));
+        assertEquals(List.of(book, bookWithNulls), binarySerializer.deserialize(binarySerializer.serialize(List.of(book, bookWithNulls))));
+        assertEquals(List.of(), binarySerializer.deserialize(binarySerializer.serialize(List.of())));
+        assertEquals(page, binarySerializer.deserialize(binarySerializer.serialize(page)));
+        assertEquals(searchPage, binarySerializer.deserialize(binarySerializer.serialize(searchPage)));
+    }
+
+    @Test
+    @DisplayName("Deve preservar o instante de refresh dos valores com refresh antecipado")
+    void shouldRoundTripRefreshableValues() {
+        // Arrange
+        RefreshableValue refreshable = new RefreshableValue(List.of(book, bookWithNulls), 1_700_000_000_000L);
+
+        // Act
+        Object roundTrip = binarySerializer.deserialize(binarySerializer.serialize(refreshable));
+
+        // Assert
+        assertEquals(refreshable, roundTrip);
+    }
+
+    @Test
+    @DisplayName("Deve gerar valores menores que o JSON do Jackson")
+    void shouldBeSmallerThanJackson() {
+        // Arrange
+        List<BookEntity> books = List.of(book, bookWithNulls);
+
+        // Act
+        byte[] binary = binarySerializer.serialize(books);
+        byte[] json = jsonSerializer.serialize(books);
+
+        // Assert
+        assertEquals(BookCacheSerializer.MAGIC, binary[0]);
+        assertTrue(binary.length < json.length, "binário: " + binary.length + " bytes, JSON: " + json.length + " bytes");
+    }
+
+    @Test
+    @DisplayName("Deve comprimir listas grandes acima do limite configurado")
+    void shouldCompressLargeValues() {
+        // Arrange
+        List<BookEntity> books = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            books.add(new BookEntity(String.valueOf(i), "Livro " + i, List.of("Machado de Assis"), List.of("Romance"), "Uma descrição repetida.", 10.0, i));
+        }
+        BookCacheSerializer uncompressedSerializer = new BookCacheSerializer(jsonSerializer, true, -1);
+
+        // Act
+        byte[] compressed = binarySerializer.serialize(books);
+        byte[] uncompressed = uncompressedSerializer.serialize(books);
+
+        // Assert
+        assertTrue(compressed.length < uncompressed.length);
+        assertEquals(books, binarySerializer.deserialize(compressed));
+        assertEquals(books, uncompressedSerializer.deserialize(compressed));
+    }
+
+    @Test
+    @DisplayName("Deve ler entradas JSON gravadas antes da troca de formato e delegar tipos não suportados ao JSON")
+    void shouldReadLegacyJsonAndFallBackToJsonForOtherTypes() {
+        // Arrange
+        byte[] legacy = jsonSerializer.serialize(book);
+        Map<String, String> other = new HashMap<>(Map.of("chave", "valor"));
+
+        // Act
+        Object fromLegacy = binarySerializer.deserialize(legacy);
+        Object otherRoundTrip = binarySerializer.deserialize(binarySerializer.serialize(other));
+
+        // Assert
+        assertEquals(book, fromLegacy);
+        assertEquals(other, otherRoundTrip);
+    }
+
+    @Test
+    @DisplayName("Deve gravar JSON puro quando o cache usa o formato JSON, continuando a ler entradas binárias")
+    void shouldWriteJsonWhenBinaryIsDisabled() {
+        // Arrange
+        BookCacheSerializer jsonCacheSerializer = new BookCacheSerializer(jsonSerializer, false, 1024);
+
+        // Act
+        byte[] json = jsonCacheSerializer.serialize(book);
+
+        // Assert
+        assertArrayEquals(jsonSerializer.serialize(book), json);
+        assertEquals(book, jsonCacheSerializer.deserialize(binarySerializer.serialize(book)));
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentTagsTest {
+
+    private final ContentTags contentTags = new ContentTags();
+    private final BookCacheSerializer serializer =
+            new BookCacheSerializer(new GenericJackson2JsonRedisSerializer(), true, 1024, contentTags);
+
+    private final BookEntity book = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Romance"), "Desc", 10.0, 5);
+
+    @Test
+    @DisplayName("Deve registrar na leitura do Redis a mesma ETag calculada para o valor original")
+    void shouldRegisterSameTagOnDeserialize() {
+        // Arrange
+        BookPageEntity page = new BookPageEntity(IntStream.range(0, 50)
+                .mapToObj(i -> new BookEntity(String.valueOf(i), "Livro " + i, List.of("Autor"), List.of("Romance"), "Descrição longa", 10.0, i))
+                .toList(), "49");
+        String expected = new ContentTags().tagOf(page);
+
+        // Act
+        Object deserialized = serializer.deserialize(serializer.serialize(page));
+
+        // Assert
+        assertNotSame(page, deserialized);
+        assertEquals(expected, contentTags.tagOf(deserialized));
+        assertEquals(expected, contentTags.tagOf(page));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o instante de refresh ao calcular a ETag de um RefreshableValue")
+    void shouldIgnoreRefreshInstantInTag() {
+        // Act
+        RefreshableValue first = (RefreshableValue) serializer.deserialize(serializer.serialize(new RefreshableValue(book, 1_000L)));
+        RefreshableValue second = (RefreshableValue) serializer.deserialize(serializer.serialize(new RefreshableValue(book, 2_000L)));
+
+        // Assert
+        assertEquals(contentTags.tagOf(book), contentTags.tagOf(first.value()));
+        assertEquals(contentTags.tagOf(first.value()), contentTags.tagOf(second.value()));
+    }
+
+    @Test
+    @DisplayName("Deve gerar ETags diferentes para conteúdos diferentes")
+    void shouldChangeTagWhenContentChanges() {
+        // Arrange
+        BookEntity updated = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Romance"), "Desc", 12.0, 5);
+
+        // Act & Assert
+        assertNotEquals(contentTags.tagOf(book), contentTags.tagOf(updated));
+        assertNotEquals(contentTags.tagOf(List.of(book)), contentTags.tagOf(book));
+        assertNull(contentTags.tagOf(null));
+    }
+}
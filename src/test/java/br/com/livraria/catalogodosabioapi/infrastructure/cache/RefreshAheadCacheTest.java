@@ -0,0 +1,194 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshAheadCacheTest {
+
+    private final ConcurrentMapCache delegate = new ConcurrentMapCache("booksByGenre");
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private Function<Object, Object> source = key -> "v" + loads.incrementAndGet();
+
+    private Instant now;
+    private RefreshAheadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2026-01-01T00:00:00Z");
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        cache = new RefreshAheadCache(delegate, key -> source.apply(key), Duration.ofMinutes(10), Duration.ZERO, scheduled::add, clock);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o valor com o instante de refresh e devolvê-lo sem o envelope")
+    void shouldStoreRefreshableValueOnMiss() {
+        // Act
+        String value = cache.get("romance", () -> "v" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("v1", value);
+        RefreshableValue stored = (RefreshableValue) delegate.get("romance").get();
+        assertEquals("v1", stored.value());
+        assertEquals(now.plus(Duration.ofMinutes(10)).toEpochMilli(), stored.refreshAt());
+        assertEquals("v1", cache.get("romance").get());
+    }
+
+    @Test
+    @DisplayName("Não deve recarregar antes do TTL suave")
+    void shouldNotRefreshBeforeSoftTtl() {
+        // Arrange
+        cache.get("romance", () -> "v" + loads.incrementAndGet());
+        now = now.plus(Duration.ofMinutes(9));
+
+        // Act
+        String value = cache.get("romance", () -> "v" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("v1", value);
+        assertEquals(1, loads.get());
+        assertTrue(scheduled.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve servir o valor antigo e agendar um único refresh depois do TTL suave")
+    void shouldServeStaleValueAndRefreshOnceAfterSoftTtl() {
+        // Arrange
+        cache.get("romance", () -> "v" + loads.incrementAndGet());
+        now = now.plus(Duration.ofMinutes(11));
+
+        // Act
+        String first = cache.get("romance", () -> "v" + loads.incrementAndGet());
+        String second = cache.get("romance", () -> "v" + loads.incrementAndGet());
+        scheduled.forEach(Runnable::run);
+        String refreshed = cache.get("romance", () -> "v" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("v1", first);
+        assertEquals("v1", second);
+        assertEquals(1, scheduled.size());
+        assertEquals("v2", refreshed);
+        assertEquals(0, cache.refreshingCount());
+    }
+
+    @Test
+    @DisplayName("Deve manter o valor atual quando o refresh em segundo plano falha")
+    void shouldKeepCurrentValueWhenRefreshFails() {
+        // Arrange
+        cache.get("romance", () -> "v1");
+        now = now.plus(Duration.ofMinutes(11));
+
+        source = key -> { throw new IllegalStateException("MongoDB indisponível"); };
+
+        // Act
+        cache.get("romance", () -> "v2");
+        scheduled.forEach(Runnable::run);
+
+        // Assert
+        assertEquals("v1", cache.get("romance").get());
+        assertEquals(0, cache.refreshingCount());
+    }
+
+    @Test
+    @DisplayName("Deve devolver entradas gravadas sem envelope antes de o refresh antecipado ser habilitado")
+    void shouldReturnLegacyValuesAsIs() {
+        // Arrange
+        delegate.put("romance", "legado");
+
+        // Act
+        String value = cache.get("romance", () -> "v" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("legado", value);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar pela fonte do cache, e não pelo Callable da requisição que disparou o refresh")
+    void shouldRefreshThroughCacheLoaderInsteadOfRequestCallable() {
+        // Arrange
+        cache.get("romance", () -> "v1");
+        now = now.plus(Duration.ofMinutes(11));
+        AtomicInteger requestLoads = new AtomicInteger();
+
+        // Act
+        cache.get("romance", () -> "requisição" + requestLoads.incrementAndGet());
+        scheduled.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(0, requestLoads.get());
+        assertEquals("v1", cache.get("romance").get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o valor recarregado quando a chave é invalidada durante o refresh")
+    void shouldDiscardRefreshedValueWhenKeyIsEvictedDuringRefresh() {
+        // Arrange
+        cache.get("romance", () -> "v1");
+        now = now.plus(Duration.ofMinutes(11));
+        source = key -> {
+            // Leitura anterior à escrita que motivou a invalidação, que chega enquanto o MongoDB responde.
+            cache.evict(key);
+            return "v-antigo";
+        };
+
+        // Act
+        cache.get("romance", () -> "v1");
+        scheduled.forEach(Runnable::run);
+
+        // Assert
+        assertNull(delegate.get("romance"));
+        assertEquals(0, cache.refreshingCount());
+        assertEquals("v2", cache.get("romance", () -> "v2"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar o valor recarregado quando o cache é limpo durante o refresh")
+    void shouldDiscardRefreshedValueWhenCacheIsClearedDuringRefresh() {
+        // Arrange
+        cache.get("romance", () -> "v1");
+        now = now.plus(Duration.ofMinutes(11));
+        source = key -> {
+            cache.clear();
+            return "v-antigo";
+        };
+
+        // Act
+        cache.get("romance", () -> "v1");
+        scheduled.forEach(Runnable::run);
+
+        // Assert
+        assertNull(delegate.get("romance"));
+        assertEquals(0, cache.refreshingCount());
+    }
+}
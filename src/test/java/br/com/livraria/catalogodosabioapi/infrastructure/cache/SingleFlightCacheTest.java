@@ -0,0 +1,155 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightCacheTest {
+
+    @Mock
+    private RedisLoadLock redisLoadLock;
+
+    private final ConcurrentMapCache delegate = new ConcurrentMapCache("booksByGenre");
+
+    @Test
+    @DisplayName("Deve executar um único carregamento para requisições concorrentes da mesma chave")
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        // Arrange
+        SingleFlightCache cache = new SingleFlightCache(delegate, null, Duration.ofSeconds(1), Duration.ofMillis(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        int requests = 16;
+
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(requests)) {
+            results.add(executor.submit(() -> cache.get("romance", () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                releaseLoader.await(5, TimeUnit.SECONDS);
+                return "livros";
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < requests; i++) {
+                results.add(executor.submit(() -> cache.get("romance", () -> {
+                    loads.incrementAndGet();
+                    return "livros";
+                })));
+            }
+            releaseLoader.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertEquals("livros", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, loads.get());
+        assertEquals("livros", delegate.get("romance").get());
+        assertEquals(0, cache.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha do carregamento e permitir uma nova tentativa")
+    void shouldPropagateFailureAndAllowRetry() {
+        // Arrange
+        SingleFlightCache cache = new SingleFlightCache(delegate, null, Duration.ofSeconds(1), Duration.ofMillis(10));
+
+        // Act & Assert
+        Cache.ValueRetrievalException exception = assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get("romance", () -> { throw new IllegalStateException("MongoDB indisponível"); }));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals("MongoDB indisponível", exception.getCause().getMessage());
+        assertEquals("livros", cache.get("romance", () -> "livros"));
+    }
+
+    @Test
+    @DisplayName("Deve liberar quem aguarda o carregamento quando o loader lança um Error")
+    void shouldReleaseWaitersWhenLoaderThrowsError() throws Exception {
+        // Arrange
+        SingleFlightCache cache = new SingleFlightCache(delegate, null, Duration.ofSeconds(1), Duration.ofMillis(10));
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // Act
+            Future<?> loader = executor.submit(() -> cache.get("romance", () -> {
+                loaderStarted.countDown();
+                releaseLoader.await();
+                throw new StackOverflowError();
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            Future<?> waiter = executor.submit(() -> cache.get("romance", () -> "livros"));
+            releaseLoader.countDown();
+
+            // Assert
+            ExecutionException loaderFailure = assertThrows(ExecutionException.class, () -> loader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, loaderFailure.getCause());
+            try {
+                assertEquals("livros", waiter.get(5, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                assertInstanceOf(StackOverflowError.class, e.getCause());
+            }
+        }
+        assertEquals(0, cache.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Deve aguardar o valor carregado por outra instância quando o lock do Redis está ocupado")
+    void shouldWaitForValueLoadedByAnotherInstance() throws Exception {
+        // Arrange
+        SingleFlightCache cache = new SingleFlightCache(delegate, redisLoadLock, Duration.ofSeconds(2), Duration.ofMillis(10));
+        when(redisLoadLock.tryAcquire("booksByGenre", "romance")).thenReturn(null);
+
+        // Act
+        Thread otherInstance = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delegate.put("romance", "livros de outra instância");
+        });
+        String result = cache.get("romance", () -> { throw new IllegalStateException("não deveria carregar"); });
+        otherInstance.join();
+
+        // Assert
+        assertEquals("livros de outra instância", result);
+        verify(redisLoadLock, never()).release(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve carregar e liberar o lock do Redis quando o adquire")
+    void shouldLoadAndReleaseRedisLockWhenAcquired() {
+        // Arrange
+        SingleFlightCache cache = new SingleFlightCache(delegate, redisLoadLock, Duration.ofSeconds(1), Duration.ofMillis(10));
+        when(redisLoadLock.tryAcquire("booksByGenre", "romance")).thenReturn("token");
+
+        // Act
+        String result = cache.get("romance", () -> "livros");
+
+        // Assert
+        assertEquals("livros", result);
+        assertEquals("livros", delegate.get("romance").get());
+        verify(redisLoadLock, times(1)).release("booksByGenre", "romance", "token");
+    }
+}
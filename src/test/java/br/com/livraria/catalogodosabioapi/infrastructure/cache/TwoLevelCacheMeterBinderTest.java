@@ -0,0 +1,41 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TwoLevelCacheMeterBinderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BookEntity book = new BookEntity("1", "Test Book", List.of("Author A"), List.of("Genre X"), "Desc", 10.0, 5);
+
+    @Test
+    @DisplayName("Deve expor acertos, faltas e tamanho do L1 com a tag do nome do cache")
+    void shouldExposeLocalStatisticsPerCacheName() {
+        // Arrange
+        TwoLevelCache cache = new TwoLevelCache("book", new ConcurrentMapCache("book"),
+                Caffeine.newBuilder().maximumSize(100).recordStats().build(), mock(NearCacheInvalidationPublisher.class));
+        new TwoLevelCacheMeterBinder(cache, Tags.empty()).bindTo(meterRegistry);
+
+        // Act
+        cache.get("1");
+        cache.put("1", book);
+        cache.get("1");
+
+        // Assert
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "book").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "book").tag("result", "miss").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.level.gets").tag("level", "l1").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.size").tag("cache", "book").gauge().value());
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.cache;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private NearCacheInvalidationPublisher publisher;
+
+    private ConcurrentMapCache remote;
+    private TwoLevelCache twoLevelCache;
+
+    private final BookEntity book = new BookEntity("1", "Test Book", List.of("Author A"), List.of("Genre X"), "Desc", 10.0, 5);
+
+    @BeforeEach
+    void setUp() {
+        remote = spy(new ConcurrentMapCache("book"));
+        twoLevelCache = new TwoLevelCache("book", remote, Caffeine.newBuilder().maximumSize(100).build(), publisher);
+    }
+
+    @Test
+    @DisplayName("Deve servir a partir do L1 depois da primeira leitura no L2")
+    void shouldServeFromLocalCacheAfterFirstRemoteHit() {
+        // Arrange
+        remote.put("1", book);
+
+        // Act
+        Cache.ValueWrapper first = twoLevelCache.get("1");
+        Cache.ValueWrapper second = twoLevelCache.get("1");
+
+        // Assert
+        assertEquals(book, first.get());
+        assertEquals(book, second.get());
+        verify(remote, times(1)).get("1");
+    }
+
+    @Test
+    @DisplayName("Deve gravar no L2 e publicar invalidação ao fazer put")
+    void shouldWriteRemoteAndPublishInvalidationOnPut() {
+        // Act
+        twoLevelCache.put("1", book);
+
+        // Assert
+        assertEquals(book, remote.getNativeCache().get("1"));
+        assertEquals(book, twoLevelCache.get("1").get());
+        verify(publisher, times(1)).publishEvict("book", "1");
+        verify(remote, never()).get("1");
+    }
+
+    @Test
+    @DisplayName("Deve remover dos dois níveis e publicar invalidação ao fazer evict")
+    void shouldEvictBothLevelsAndPublishInvalidation() {
+        // Arrange
+        twoLevelCache.put("1", book);
+
+        // Act
+        twoLevelCache.evict("1");
+
+        // Assert
+        assertNull(twoLevelCache.get("1"));
+        verify(publisher, times(2)).publishEvict("book", "1");
+    }
+
+    @Test
+    @DisplayName("Deve descartar apenas o L1 quando a invalidação vem de outra instância")
+    void shouldDropOnlyLocalEntryOnRemoteInvalidation() {
+        // Arrange
+        twoLevelCache.put("1", book);
+        BookEntity updated = new BookEntity("1", "Updated Book", List.of("Author A"), List.of("Genre X"), "Desc", 12.0, 4);
+        remote.put("1", updated);
+
+        // Act
+        twoLevelCache.evictLocal("1");
+
+        // Assert
+        assertEquals(updated, twoLevelCache.get("1").get());
+    }
+
+    @Test
+    @DisplayName("Deve armazenar valores nulos no L1 sem consultar o L2 novamente")
+    void shouldCacheNullValuesLocally() {
+        // Act
+        Object first = twoLevelCache.get("missing", () -> null);
+        Object second = twoLevelCache.get("missing", () -> { throw new IllegalStateException("não deveria carregar"); });
+
+        // Assert
+        assertNull(first);
+        assertNull(second);
+    }
+}
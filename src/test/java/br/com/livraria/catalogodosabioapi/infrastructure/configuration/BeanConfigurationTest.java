@@ -7,6 +7,8 @@ import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.RecentlyViewedUseCase;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.RecentlyViewedPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.ContentTags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.Duration;
@@ -62,7 +65,7 @@ class BeanConfigurationTest {
     @DisplayName("Deve criar e retornar um bean BookUseCaseImpl com BookRepositoryPort injetado")
     void shouldCreateBookUseCaseBean() {
         // Act
-        BookUseCase bookUseCaseBean = beanConfiguration.bookUseCase(bookRepositoryPort);
+        BookUseCase bookUseCaseBean = beanConfiguration.bookUseCase(bookRepositoryPort, new SimpleMeterRegistry());
 
         // Assert
         assertNotNull(bookUseCaseBean, "O bean BookUseCase não deve ser nulo.");
@@ -73,7 +76,7 @@ class BeanConfigurationTest {
     @DisplayName("Deve criar e retornar um bean RecentlyViewedUseCaseImpl com RecentlyViewedPort e BookUseCase injetados")
     void shouldCreateRecentlyViewedUseCaseBean() {
         // Act
-        RecentlyViewedUseCase recentlyViewedUseCaseBean = beanConfiguration.recentlyViewedUseCase(recentlyViewedPort, bookUseCase);
+        RecentlyViewedUseCase recentlyViewedUseCaseBean = beanConfiguration.recentlyViewedUseCase(recentlyViewedPort, bookUseCase, new SimpleMeterRegistry());
 
         // Assert
         assertNotNull(recentlyViewedUseCaseBean, "O bean RecentlyViewedUseCase não deve ser nulo.");
@@ -89,6 +92,8 @@ class BeanConfigurationTest {
         ttlMap.put("books", Duration.ofMinutes(10));
 
         when(cachingProperties.ttls()).thenReturn(ttlMap);
+        when(cachingProperties.serialization()).thenReturn(new CachingProperties.Serialization(
+                CachingProperties.Format.JSON, Map.of(), true, DataSize.ofKilobytes(1)));
 
         RedisCacheManager.RedisCacheManagerBuilder builder = mock(RedisCacheManager.RedisCacheManagerBuilder.class);
         when(builder.withCacheConfiguration(anyString(), any(RedisCacheConfiguration.class))).thenReturn(builder);
@@ -97,7 +102,7 @@ class BeanConfigurationTest {
         ArgumentCaptor<RedisCacheConfiguration> cacheConfigurationCaptor = ArgumentCaptor.forClass(RedisCacheConfiguration.class);
 
         // Act
-        RedisCacheManagerBuilderCustomizer customizer = beanConfiguration.redisCacheManagerBuilderCustomizer(cachingProperties);
+        RedisCacheManagerBuilderCustomizer customizer = beanConfiguration.redisCacheManagerBuilderCustomizer(cachingProperties, new ContentTags());
         customizer.customize(builder);
 
         // Assert
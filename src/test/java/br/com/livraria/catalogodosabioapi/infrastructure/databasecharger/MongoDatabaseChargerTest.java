@@ -1,11 +1,10 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.databasecharger;
 
 import br.com.livraria.catalogodosabioapi.infrastructure.configuration.AiStudioProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.IngestionProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.ingestion.BulkBookWriter;
 import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
 import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.repository.SpringDataBookMongoRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -14,25 +13,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.Resource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.RequestBodySpec;
 import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
 import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -42,13 +40,12 @@ class MongoDatabaseChargerTest {
     @Mock
     private SpringDataBookMongoRepository bookRepository;
     @Mock
-    private WebClient webClient;
+    private BulkBookWriter bulkBookWriter;
     @Mock
-    private ObjectMapper objectMapper;
+    private WebClient webClient;
     @Mock
     private AiStudioProperties aiStudioProperties;
 
-    @InjectMocks
     private MongoDatabaseCharger mongoDatabaseCharger;
 
     @Mock
@@ -60,37 +57,83 @@ class MongoDatabaseChargerTest {
     @Mock
     private ResponseSpec responseSpec;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     private final String API_KEY = "test-api-key";
     private final String API_URL = "http://test.ai.studio/api";
     private final String SCHEMA_JSON = "{\"type\": \"ARRAY\", \"items\": {\"type\": \"OBJECT\"}}"; // Exemplo de schema
 
+    @BeforeEach
+    void setUp() {
+        IngestionProperties ingestionProperties = new IngestionProperties(null, 2, 1, null, Duration.ofSeconds(10), 100);
+        mongoDatabaseCharger = new MongoDatabaseCharger(bookRepository, bulkBookWriter, webClient, objectMapper,
+                aiStudioProperties, ingestionProperties);
+    }
 
-    void mockWebClient() throws IOException {
+    void mockWebClient(int catalogSize, int booksPerRequest) {
         // Configuração padrão para o WebClient mock
         when(webClient.post()).thenReturn(requestBodyUriSpec);
         when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(anyMap())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(JsonNode.class)).thenReturn(Mono.empty()); // Default para Mono vazio
 
         // Configuração padrão para AiStudioProperties
         when(aiStudioProperties.apiKey()).thenReturn(API_KEY);
         when(aiStudioProperties.apiUrl()).thenReturn(API_URL);
+        when(aiStudioProperties.requestSchema()).thenAnswer(invocation -> new ByteArrayResource(SCHEMA_JSON.getBytes()));
+        when(aiStudioProperties.catalogSize()).thenReturn(catalogSize);
+        when(aiStudioProperties.booksPerRequest()).thenReturn(booksPerRequest);
+    }
 
-        // Mocking do InputStream para requestSchema()
-        Resource mockResource = mock(Resource.class);
-        when(aiStudioProperties.requestSchema()).thenReturn(mockResource);
-        when(mockResource.getInputStream()).thenReturn(new ByteArrayInputStream(SCHEMA_JSON.getBytes()));
+    // Resposta no formato da API, com o JSON dos livros como texto e entregue em pedaços, como na rede.
+    void mockResponse(String text) throws Exception {
+        ObjectNode aiResponseRoot = objectMapper.createObjectNode();
+        ObjectNode partNode = objectMapper.createObjectNode();
+        if (text != null) {
+            partNode.put("text", text);
+        }
+        ArrayNode partsNode = objectMapper.createArrayNode().add(partNode);
+        ObjectNode candidatesNode = objectMapper.createObjectNode();
+        candidatesNode.set("content", objectMapper.createObjectNode().set("parts", partsNode));
+        aiResponseRoot.put("modelVersion", "gemini-2.0-flash");
+        aiResponseRoot.set("candidates", objectMapper.createArrayNode().add(candidatesNode));
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenAnswer(invocation -> chunks(objectMapper.writeValueAsBytes(aiResponseRoot)));
+    }
 
-        // Configuração padrão para ObjectMapper.readValue para o schema
-        when(objectMapper.readValue(any(InputStream.class), any(com.fasterxml.jackson.core.type.TypeReference.class)))
-                .thenReturn(Map.of("type", "ARRAY", "items", Map.of("type", "OBJECT")));
+    private static Flux<DataBuffer> chunks(byte[] body) {
+        int chunkSize = Math.max(1, body.length / 3);
+        return Flux.range(0, (body.length + chunkSize - 1) / chunkSize)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+                        Arrays.copyOfRange(body, i * chunkSize, Math.min(body.length, (i + 1) * chunkSize))));
+    }
+
+    private String booksJson(int count) throws Exception {
+        ArrayNode books = objectMapper.createArrayNode();
+        for (int i = 1; i <= count; i++) {
+            ObjectNode book = books.addObject();
+            book.put("title", "Book " + i);
+            book.set("authors", objectMapper.createArrayNode().add("Author " + i));
+            book.set("genres", objectMapper.createArrayNode().add("Genre A"));
+            book.put("description", "Descrição com \"aspas\" e acentuação");
+            book.put("price", 10.5);
+            book.put("stock", i);
+        }
+        ObjectNode root = objectMapper.createObjectNode();
+        root.set("books", books);
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private void mockWriterInsertsAll() {
+        when(bulkBookWriter.write(anyList())).thenAnswer(invocation -> {
+            List<BookDocument> books = invocation.getArgument(0);
+            return new BulkBookWriter.BulkWriteSummary(books.size(), 0, Map.of(), List.of());
+        });
     }
 
     @Test
     @DisplayName("Não deve carregar dados se o banco de dados já contém livros")
-    void shouldNotLoadDataIfDatabaseHasBooks() throws Exception {
+    void shouldNotLoadDataIfDatabaseHasBooks() {
         // Arrange
         when(bookRepository.count()).thenReturn(1L); // Simula DB com dados
 
@@ -101,12 +144,12 @@ class MongoDatabaseChargerTest {
         verify(bookRepository, times(1)).count(); // Verifica se count foi chamado
         verify(aiStudioProperties, never()).apiKey(); // Não deve tentar obter a API Key
         verify(webClient, never()).post(); // Não deve chamar a API de IA
-        verify(bookRepository, never()).saveAll(anyList()); // Não deve salvar dados
+        verify(bulkBookWriter, never()).write(anyList()); // Não deve salvar dados
     }
 
     @Test
     @DisplayName("Não deve carregar dados se a API Key do Google AI Studio não está configurada")
-    void shouldNotLoadDataIfApiKeyIsNotConfigured() throws Exception {
+    void shouldNotLoadDataIfApiKeyIsNotConfigured() {
         // Arrange
         when(bookRepository.count()).thenReturn(0L); // Simula DB vazio
         when(aiStudioProperties.apiKey()).thenReturn(null); // Simula API Key nula
@@ -118,12 +161,12 @@ class MongoDatabaseChargerTest {
         verify(bookRepository, times(1)).count();
         verify(aiStudioProperties, times(1)).apiKey(); // Deve verificar a API Key
         verify(webClient, never()).post(); // Não deve chamar a API de IA
-        verify(bookRepository, never()).saveAll(anyList());
+        verify(bulkBookWriter, never()).write(anyList());
     }
 
     @Test
     @DisplayName("Não deve carregar dados se a API Key do Google AI Studio está em branco")
-    void shouldNotLoadDataIfApiKeyIsBlank() throws Exception {
+    void shouldNotLoadDataIfApiKeyIsBlank() {
         // Arrange
         when(bookRepository.count()).thenReturn(0L);
         when(aiStudioProperties.apiKey()).thenReturn("   "); // Simula API Key em branco
@@ -135,268 +178,157 @@ class MongoDatabaseChargerTest {
         verify(bookRepository, times(1)).count();
         verify(aiStudioProperties, times(2)).apiKey();
         verify(webClient, never()).post();
-        verify(bookRepository, never()).saveAll(anyList());
+        verify(bulkBookWriter, never()).write(anyList());
     }
 
     @Test
-    @DisplayName("Deve carregar e salvar livros com sucesso da API de IA")
-    void shouldLoadAndSaveBooksSuccessfullyFromAiApi() throws Exception {
+    @DisplayName("Deve ler a resposta em streaming e salvar os livros em lotes")
+    @SuppressWarnings("unchecked")
+    void shouldStreamResponseAndSaveBooksInBatches() throws Exception {
         // Arrange
-        mockWebClient();
+        mockWebClient(80, 80);
         when(bookRepository.count()).thenReturn(0L); // DB vazio
-
-        // Simula uma resposta JSON válida da IA
-        ObjectMapper realObjectMapper = new ObjectMapper(); // Usar um ObjectMapper real para construir o JsonNode
-        ObjectNode aiResponseRoot = realObjectMapper.createObjectNode();
-        ObjectNode candidatesNode = realObjectMapper.createObjectNode();
-        ArrayNode partsNode = realObjectMapper.createArrayNode();
-        ObjectNode partNode = realObjectMapper.createObjectNode();
-
-        ObjectNode book1Node = realObjectMapper.createObjectNode();
-        book1Node.put("id", "1");
-        book1Node.put("title", "Book 1");
-        ArrayNode authors1Array = realObjectMapper.createArrayNode();
-        authors1Array.add("Author 1");
-        book1Node.set("authors", authors1Array);
-        ArrayNode genres1Array = realObjectMapper.createArrayNode();
-        genres1Array.add("Genre A");
-        book1Node.set("genres", genres1Array);
-
-        ObjectNode book2Node = realObjectMapper.createObjectNode();
-        book2Node.put("id", "2");
-        book2Node.put("title", "Book 2");
-        ArrayNode authors2Array = realObjectMapper.createArrayNode();
-        authors2Array.add("Author 2");
-        book2Node.set("authors", authors2Array);
-        ArrayNode genres2Array = realObjectMapper.createArrayNode();
-        genres2Array.add("Genre B");
-        book2Node.set("genres", genres2Array);
-
-        ArrayNode booksArrayNode = realObjectMapper.createArrayNode();
-        booksArrayNode.add(book1Node);
-        booksArrayNode.add(book2Node);
-
-        ObjectNode booksWrapperNode = realObjectMapper.createObjectNode();
-        booksWrapperNode.set("books", booksArrayNode);
-
-        String booksJsonString = realObjectMapper.writeValueAsString(booksWrapperNode);
-
-
-        partNode.put("text", booksJsonString);
-        partsNode.add(partNode);
-        candidatesNode.set("content", realObjectMapper.createObjectNode().set("parts", partsNode));
-        aiResponseRoot.set("candidates", realObjectMapper.createArrayNode().add(candidatesNode));
-
-        when(responseSpec.bodyToMono(JsonNode.class)).thenReturn(Mono.just(aiResponseRoot));
-
-        // Mock para o objectMapper.readTree e objectMapper.convertValue
-        // Quando parseApiResponse chama readTree no jsonString extraído
-        when(objectMapper.readTree(booksJsonString)).thenReturn(realObjectMapper.readTree(booksJsonString));
-        // Quando parseApiResponse chama convertValue
-        when(objectMapper.convertValue(any(JsonNode.class), any(com.fasterxml.jackson.core.type.TypeReference.class)))
-                .thenReturn
-                        (List.of(
-                        new BookDocument("1", "Book 1", List.of("Author 1"), List.of("Genre A"), null, null, null),
-                        new BookDocument("2", "Book 2", List.of("Author 2"), List.of("Genre B"), null, null, null)
-                ));
+        mockResponse(booksJson(3));
+        mockWriterInsertsAll();
 
         // Act
         mongoDatabaseCharger.run();
 
         // Assert
-        verify(bookRepository, times(1)).count();
         verify(aiStudioProperties, times(3)).apiKey();
         verify(webClient, times(1)).post(); // Garante que a chamada à API foi feita
-        verify(bookRepository, times(1)).saveAll(anyList()); // Garante que os livros foram salvos
-        // Captura o argumento passado para saveAll para inspeção detalhada
+        // Lotes de ingestion.batch-size (2) livros, gravados conforme o array é lido
         ArgumentCaptor<List<BookDocument>> captor = ArgumentCaptor.forClass(List.class);
-        verify(bookRepository).saveAll(captor.capture());
-        List<BookDocument> savedBooks = captor.getValue();
-        assertFalse(savedBooks.isEmpty());
-        assertEquals(2, savedBooks.size());
-        assertEquals("Book 1", savedBooks.get(0).getTitle());
+        verify(bulkBookWriter, times(2)).write(captor.capture());
+        assertEquals(2, captor.getAllValues().get(0).size());
+        assertEquals(1, captor.getAllValues().get(1).size());
+        BookDocument first = captor.getAllValues().get(0).get(0);
+        assertEquals("Book 1", first.getTitle());
+        assertEquals(List.of("Author 1"), first.getAuthors());
+        assertEquals("Descrição com \"aspas\" e acentuação", first.getDescription());
+        assertNotNull(first.getId()); // O schema da IA não gera ids
+    }
+
+    @Test
+    @DisplayName("Deve dividir catálogos maiores que o limite por requisição em várias chamadas")
+    @SuppressWarnings("unchecked")
+    void shouldSplitLargeCatalogsIntoChunkedRequests() throws Exception {
+        // Arrange
+        mockWebClient(5, 2);
+        when(bookRepository.count()).thenReturn(0L);
+        mockResponse(booksJson(2));
+        mockWriterInsertsAll();
+
+        // Act
+        mongoDatabaseCharger.run();
+
+        // Assert
+        ArgumentCaptor<Map<String, Object>> requestCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(webClient, times(3)).post();
+        verify(requestBodySpec, times(3)).bodyValue(requestCaptor.capture());
+        List<String> prompts = requestCaptor.getAllValues().stream()
+                .map(request -> objectMapper.valueToTree(request).at("/contents/0/parts/0/text").asText())
+                .toList();
+        assertTrue(prompts.get(0).contains("exatamente 2 livros"));
+        assertTrue(prompts.get(1).contains("exatamente 2 livros"));
+        assertTrue(prompts.get(2).contains("exatamente 1 livros"));
+        verify(bulkBookWriter, times(3)).write(anyList());
     }
 
     @Test
-    @DisplayName("Deve lidar com falha na comunicação com a API de IA")
-    void shouldHandleAiApiCommunicationFailure() throws Exception {
-        mockWebClient();
+    @DisplayName("Deve interromper o seeder quando a comunicação com a API de IA falha")
+    void shouldHandleAiApiCommunicationFailure() {
         // Arrange
+        mockWebClient(5, 2);
         when(bookRepository.count()).thenReturn(0L);
-        when(responseSpec.bodyToMono(JsonNode.class)).thenReturn(Mono.error(new RuntimeException("Network error")));
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(Flux.error(new RuntimeException("Network error")));
 
         // Act
         mongoDatabaseCharger.run();
 
         // Assert
         verify(bookRepository, times(1)).count();
-        verify(webClient, times(1)).post();
-        verify(bookRepository, never()).saveAll(anyList()); // Não deve salvar nada
+        verify(webClient, times(1)).post(); // As demais requisições não são feitas
+        verify(bulkBookWriter, never()).write(anyList()); // Não deve salvar nada
     }
 
     @Test
     @DisplayName("Deve lidar com resposta da API de IA sem o nó 'text' esperado")
     void shouldHandleAiApiMissingTextNode() throws Exception {
         // Arrange
-        mockWebClient();
+        mockWebClient(80, 80);
         when(bookRepository.count()).thenReturn(0L);
-
-        ObjectMapper realObjectMapper = new ObjectMapper();
-        ObjectNode aiResponseRoot = realObjectMapper.createObjectNode();
-        ObjectNode candidatesNode = realObjectMapper.createObjectNode();
-        ArrayNode partsNode = realObjectMapper.createArrayNode();
-        ObjectNode partNode = realObjectMapper.createObjectNode();
-        partsNode.add(partNode);
-        candidatesNode.set("content", realObjectMapper.createObjectNode().set("parts", partsNode));
-        aiResponseRoot.set("candidates", realObjectMapper.createArrayNode().add(candidatesNode));
-
-        when(responseSpec.bodyToMono(JsonNode.class)).thenReturn(Mono.just(aiResponseRoot));
+        mockResponse(null);
 
         // Act
         mongoDatabaseCharger.run();
 
         // Assert
-        verify(bookRepository, times(1)).count();
         verify(webClient, times(1)).post();
-        verify(bookRepository, never()).saveAll(anyList()); // Não deve salvar nada
+        verify(bulkBookWriter, never()).write(anyList()); // Não deve salvar nada
     }
 
     @Test
     @DisplayName("Deve lidar com resposta da API de IA com JSON malformado dentro do nó 'text'")
     void shouldHandleAiApiMalformedJsonInTextNode() throws Exception {
         // Arrange
-        mockWebClient();
+        mockWebClient(80, 80);
         when(bookRepository.count()).thenReturn(0L);
-
-        ObjectMapper realObjectMapper = new ObjectMapper();
-        ObjectNode aiResponseRoot = realObjectMapper.createObjectNode();
-        ObjectNode candidatesNode = realObjectMapper.createObjectNode();
-        ArrayNode partsNode = realObjectMapper.createArrayNode();
-        ObjectNode partNode = realObjectMapper.createObjectNode();
-        partNode.put("text", "{invalid json"); // JSON malformado
-        partsNode.add(partNode);
-        candidatesNode.set("content", realObjectMapper.createObjectNode().set("parts", partsNode));
-        aiResponseRoot.set("candidates", realObjectMapper.createArrayNode().add(candidatesNode));
-
-        when(responseSpec.bodyToMono(JsonNode.class)).thenReturn(Mono.just(aiResponseRoot));
-        doThrow(new JsonMappingException("Malformed JSON")).when(objectMapper).readTree(eq("{invalid json"));
-
+        mockResponse("{invalid json"); // JSON malformado
 
         // Act
         mongoDatabaseCharger.run();
 
         // Assert
-        verify(bookRepository, times(1)).count();
         verify(webClient, times(1)).post();
-        verify(bookRepository, never()).saveAll(anyList()); // Não deve salvar nada
+        verify(bulkBookWriter, never()).write(anyList()); // Não deve salvar nada
     }
 
     @Test
     @DisplayName("Deve lidar com resposta da API de IA sem o nó 'books' esperado")
     void shouldHandleAiApiMissingBooksNode() throws Exception {
         // Arrange
-        mockWebClient();
+        mockWebClient(80, 80);
         when(bookRepository.count()).thenReturn(0L);
-
-        ObjectMapper realObjectMapper = new ObjectMapper();
-        ObjectNode aiResponseRoot = realObjectMapper.createObjectNode();
-        ObjectNode candidatesNode = realObjectMapper.createObjectNode();
-        ArrayNode partsNode = realObjectMapper.createArrayNode();
-        ObjectNode partNode = realObjectMapper.createObjectNode();
-
-        String jsonWithoutBooks = realObjectMapper.writeValueAsString(
-                realObjectMapper.createObjectNode()
-                        .put("someOtherField", "value") // Campo diferente de "books"
-        );
-        partNode.put("text", jsonWithoutBooks);
-        partsNode.add(partNode);
-        candidatesNode.set("content", realObjectMapper.createObjectNode().set("parts", partsNode));
-        aiResponseRoot.set("candidates", realObjectMapper.createArrayNode().add(candidatesNode));
-
-        when(responseSpec.bodyToMono(JsonNode.class)).thenReturn(Mono.just(aiResponseRoot));
-        when(objectMapper.readTree(jsonWithoutBooks)).thenReturn(realObjectMapper.readTree(jsonWithoutBooks));
-
+        mockResponse("{\"someOtherField\": {\"books\": []}}"); // 'books' apenas em um nível interno
 
         // Act
         mongoDatabaseCharger.run();
 
         // Assert
-        verify(bookRepository, times(1)).count();
         verify(webClient, times(1)).post();
-        verify(bookRepository, never()).saveAll(anyList());
+        verify(bulkBookWriter, never()).write(anyList());
     }
 
     @Test
     @DisplayName("Deve lidar com resposta da API de IA com nó 'books' não sendo um array")
     void shouldHandleAiApiBooksNodeNotArray() throws Exception {
         // Arrange
-        mockWebClient();
+        mockWebClient(80, 80);
         when(bookRepository.count()).thenReturn(0L);
-
-        ObjectMapper realObjectMapper = new ObjectMapper();
-        ObjectNode aiResponseRoot = realObjectMapper.createObjectNode();
-        ObjectNode candidatesNode = realObjectMapper.createObjectNode();
-        ArrayNode partsNode = realObjectMapper.createArrayNode();
-        ObjectNode partNode = realObjectMapper.createObjectNode();
-
-        // JSON string que a IA retornaria, com "books" como objeto e não array
-        String jsonBooksNotArray = realObjectMapper.writeValueAsString(
-                realObjectMapper.createObjectNode()
-                        .set("books", realObjectMapper.createObjectNode().put("id", "single-book"))
-        );
-        partNode.put("text", jsonBooksNotArray);
-        partsNode.add(partNode);
-        candidatesNode.set("content", realObjectMapper.createObjectNode().set("parts", partsNode));
-        aiResponseRoot.set("candidates", realObjectMapper.createArrayNode().add(candidatesNode));
-
-        when(responseSpec.bodyToMono(JsonNode.class)).thenReturn(Mono.just(aiResponseRoot));
-        when(objectMapper.readTree(jsonBooksNotArray)).thenReturn(realObjectMapper.readTree(jsonBooksNotArray));
-
+        mockResponse("{\"books\": {\"id\": \"single-book\"}}");
 
         // Act
         mongoDatabaseCharger.run();
 
         // Assert
-        verify(bookRepository, times(1)).count();
         verify(webClient, times(1)).post();
-        verify(bookRepository, never()).saveAll(anyList()); // Não deve salvar nada
+        verify(bulkBookWriter, never()).write(anyList()); // Não deve salvar nada
     }
 
     @Test
     @DisplayName("Deve lidar com resposta da API de IA que retorna lista vazia de livros")
     void shouldHandleAiApiReturnsEmptyBookList() throws Exception {
         // Arrange
-        mockWebClient();
+        mockWebClient(80, 80);
         when(bookRepository.count()).thenReturn(0L);
-
-        ObjectMapper realObjectMapper = new ObjectMapper();
-        ObjectNode aiResponseRoot = realObjectMapper.createObjectNode();
-        ObjectNode candidatesNode = realObjectMapper.createObjectNode();
-        ArrayNode partsNode = realObjectMapper.createArrayNode();
-        ObjectNode partNode = realObjectMapper.createObjectNode();
-
-        // JSON string que a IA retornaria, com array "books" vazio
-        String emptyBooksJsonString = realObjectMapper.writeValueAsString(
-                realObjectMapper.createObjectNode()
-                        .set("books", realObjectMapper.createArrayNode()) // Array vazio
-        );
-        partNode.put("text", emptyBooksJsonString);
-        partsNode.add(partNode);
-        candidatesNode.set("content", realObjectMapper.createObjectNode().set("parts", partsNode));
-        aiResponseRoot.set("candidates", realObjectMapper.createArrayNode().add(candidatesNode));
-
-        when(responseSpec.bodyToMono(JsonNode.class)).thenReturn(Mono.just(aiResponseRoot));
-        when(objectMapper.readTree(emptyBooksJsonString)).thenReturn(realObjectMapper.readTree(emptyBooksJsonString));
-        // Quando convertValue é chamado para um array vazio, ele retorna uma lista vazia
-        when(objectMapper.convertValue(any(JsonNode.class), any(com.fasterxml.jackson.core.type.TypeReference.class)))
-                .thenReturn(Collections.emptyList());
+        mockResponse("{\"books\": []}"); // Array vazio
 
         // Act
         mongoDatabaseCharger.run();
 
         // Assert
-        verify(bookRepository, times(1)).count();
         verify(webClient, times(1)).post();
-        verify(bookRepository, never()).saveAll(anyList()); // Não deve salvar nada se a lista de livros estiver vazia
+        verify(bulkBookWriter, never()).write(anyList()); // Não deve salvar nada se a lista de livros estiver vazia
     }
 }
@@ -0,0 +1,108 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.index;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream.BookChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookLookupIndexTest {
+
+    private final BookEntity book1 = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Romance"), "Desc", 10.0, 5);
+    private final BookEntity book2 = new BookEntity("2", "Memórias Póstumas", List.of("Machado de Assis"), List.of("Romance", "Sátira"), "Desc2", 20.0, 10);
+
+    private BookLookupIndex bookLookupIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookLookupIndex = new BookLookupIndex(() -> Stream.of(book1, book2));
+    }
+
+    @Test
+    @DisplayName("Não deve estar pronto antes da primeira carga")
+    void shouldNotBeReadyBeforeFirstReset() {
+        // Act
+        bookLookupIndex.onChange(new BookChange(BookChange.Operation.INSERT, book1.id(), book1, null, null));
+
+        // Assert
+        assertFalse(bookLookupIndex.isReady());
+        assertEquals(0, bookLookupIndex.size());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar livros por gênero e autor ignorando acentos e maiúsculas")
+    void shouldFindByGenreAndAuthorIgnoringAccentsAndCase() {
+        // Arrange
+        bookLookupIndex.onReset();
+
+        // Act
+        List<BookEntity> byGenre = bookLookupIndex.findByGenre("satira");
+        List<BookEntity> byAuthor = bookLookupIndex.findByAuthor("MACHADO DE ASSIS");
+
+        // Assert
+        assertTrue(bookLookupIndex.isReady());
+        assertEquals(List.of(book2), byGenre);
+        assertEquals(List.of(book1, book2), byAuthor);
+        assertTrue(bookLookupIndex.findByGenre("Terror").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve mover o livro entre as chaves quando seus gêneros mudam")
+    void shouldMoveBookBetweenKeysOnUpdate() {
+        // Arrange
+        bookLookupIndex.onReset();
+        BookEntity updated = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Clássico"), "Desc", 12.0, 3);
+
+        // Act
+        bookLookupIndex.onChange(new BookChange(BookChange.Operation.UPDATE, updated.id(), updated, null, null));
+
+        // Assert
+        assertEquals(List.of(book2), bookLookupIndex.findByGenre("Romance"));
+        assertEquals(List.of(updated), bookLookupIndex.findByGenre("classico"));
+        assertEquals(List.of(updated, book2), bookLookupIndex.findByAuthor("Machado de Assis"));
+    }
+
+    @Test
+    @DisplayName("Deve remover o livro de todas as chaves e reaproveitar a posição no próximo insert")
+    void shouldRemoveBookAndReuseOrdinal() {
+        // Arrange
+        bookLookupIndex.onReset();
+        BookEntity inserted = new BookEntity("3", "Iracema", List.of("José de Alencar"), List.of("Romance"), "Desc3", 15.0, 2);
+
+        // Act
+        bookLookupIndex.onChange(new BookChange(BookChange.Operation.DELETE, "1", null, null, null));
+        bookLookupIndex.onChange(new BookChange(BookChange.Operation.INSERT, inserted.id(), inserted, null, null));
+
+        // Assert
+        assertEquals(List.of(book2), bookLookupIndex.findByAuthor("Machado de Assis"));
+        assertEquals(List.of(inserted, book2), bookLookupIndex.findByGenre("Romance"));
+        assertEquals(2, bookLookupIndex.size());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma lista até que um livro da chave seja alterado")
+    void shouldReturnSameListUntilKeyChanges() {
+        // Arrange
+        bookLookupIndex.onReset();
+        BookEntity repriced = new BookEntity("2", "Memórias Póstumas", List.of("Machado de Assis"), List.of("Romance", "Sátira"), "Desc2", 25.0, 10);
+        List<BookEntity> first = bookLookupIndex.findByGenre("Romance");
+        List<BookEntity> satira = bookLookupIndex.findByGenre("Sátira");
+
+        // Act
+        List<BookEntity> second = bookLookupIndex.findByGenre("romance");
+        bookLookupIndex.onChange(new BookChange(BookChange.Operation.UPDATE, repriced.id(), repriced, null, null));
+        List<BookEntity> afterUpdate = bookLookupIndex.findByGenre("Romance");
+
+        // Assert
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(book1));
+        assertNotSame(first, afterUpdate);
+        assertEquals(List.of(book1, repriced), afterUpdate);
+        assertNotSame(satira, bookLookupIndex.findByGenre("Sátira"));
+    }
+}
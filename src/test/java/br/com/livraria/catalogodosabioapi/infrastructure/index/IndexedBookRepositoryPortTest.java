@@ -0,0 +1,80 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.index;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndexedBookRepositoryPortTest {
+
+    @Mock
+    private BookRepositoryPort delegate;
+
+    private final BookEntity book = new BookEntity("1", "Test Book", List.of("Author A"), List.of("Genre X"), "Desc", 10.0, 5);
+
+    @Test
+    @DisplayName("Deve consultar o repositório enquanto o índice não está pronto")
+    void shouldFallBackToRepositoryWhileIndexIsNotReady() {
+        // Arrange
+        IndexedBookRepositoryPort port = new IndexedBookRepositoryPort(delegate, new BookLookupIndex(Stream::empty));
+        when(delegate.findByGenre("Genre X")).thenReturn(List.of(book));
+
+        // Act
+        List<BookEntity> result = port.findByGenre("Genre X");
+
+        // Assert
+        assertEquals(List.of(book), result);
+        verify(delegate, times(1)).findByGenre("Genre X");
+    }
+
+    @Test
+    @DisplayName("Deve responder pelo índice quando ele está pronto")
+    void shouldServeFromIndexWhenReady() {
+        // Arrange
+        BookLookupIndex bookLookupIndex = new BookLookupIndex(() -> Stream.of(book));
+        bookLookupIndex.onReset();
+        IndexedBookRepositoryPort port = new IndexedBookRepositoryPort(delegate, bookLookupIndex);
+
+        // Act
+        List<BookEntity> byGenre = port.findByGenre("genre x");
+        List<BookEntity> byAuthor = port.findByAuthor("Author A");
+
+        // Assert
+        assertEquals(List.of(book), byGenre);
+        assertEquals(List.of(book), byAuthor);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Deve montar os resumos pelo índice, sem a descrição e sem consultar o repositório")
+    void shouldServeSummariesFromIndexWithoutDescription() {
+        // Arrange
+        BookLookupIndex bookLookupIndex = new BookLookupIndex(() -> Stream.of(book));
+        bookLookupIndex.onReset();
+        IndexedBookRepositoryPort port = new IndexedBookRepositoryPort(delegate, bookLookupIndex);
+        BookEntity summary = new BookEntity("1", "Test Book", List.of("Author A"), List.of("Genre X"), null, 10.0, 5);
+
+        // Act
+        List<BookEntity> byGenre = port.findSummariesByGenre("Genre X");
+        List<BookEntity> byAuthor = port.findSummariesByAuthor("author a");
+
+        // Assert
+        assertEquals(List.of(summary), byGenre);
+        assertEquals(List.of(summary), byAuthor);
+        assertSame(byGenre, port.findSummariesByGenre("genre x"));
+        verify(delegate, never()).findSummariesByGenre(any());
+        verify(delegate, never()).findSummariesByAuthor(any());
+    }
+}
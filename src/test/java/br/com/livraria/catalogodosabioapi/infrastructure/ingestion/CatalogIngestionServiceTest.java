@@ -0,0 +1,205 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.ingestion;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.BookCacheInvalidator;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.CachingProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.IngestionProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.changestream.BookChange;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class CatalogIngestionServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BulkBookWriter bulkBookWriter;
+    private CacheManager cacheManager;
+    private ObjectProvider<BookCacheInvalidator> cacheInvalidator;
+    private CatalogIngestionService catalogIngestionService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        bulkBookWriter = mock(BulkBookWriter.class);
+        cacheManager = new ConcurrentMapCacheManager();
+        cacheInvalidator = mock(ObjectProvider.class);
+        IngestionProperties properties = new IngestionProperties(null, 2, 2, tempDir.resolve("dead-letter"), Duration.ofSeconds(10), 100);
+        catalogIngestionService = new CatalogIngestionService(bulkBookWriter,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper, cacheManager, cacheInvalidator,
+                properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Deve gravar um CSV em lotes e enviar as linhas inválidas para o arquivo de rejeitados")
+    @SuppressWarnings("unchecked")
+    void shouldWriteCsvInBatchesAndRejectInvalidRows() throws Exception {
+        // Arrange
+        Path feed = Files.writeString(tempDir.resolve("catalogo.csv"), """
+                id,title,authors,genres,description,price,stock
+                1,Dom Casmurro,Machado de Assis,Romance,Desc,10.0,5
+                2,,José de Alencar,Romance,Desc,20.0,1
+                3,Iracema,José de Alencar,Romance|Indianismo,Desc,abc,1
+                4,O Cortiço,Aluísio Azevedo,Naturalismo,Desc,30.0,2
+                5,Memórias Póstumas,Machado de Assis,Romance,Desc,15.0,0
+                """);
+        when(bulkBookWriter.write(anyList())).thenAnswer(invocation -> {
+            List<BookDocument> books = invocation.getArgument(0);
+            return new BulkBookWriter.BulkWriteSummary(books.size(), 0, Map.of(), List.of());
+        });
+
+        // Act
+        IngestionReport report = catalogIngestionService.ingest(feed);
+
+        // Assert
+        ArgumentCaptor<List<BookDocument>> batches = ArgumentCaptor.forClass(List.class);
+        verify(bulkBookWriter, times(2)).write(batches.capture());
+        List<BookDocument> written = batches.getAllValues().stream().flatMap(List::stream).toList();
+        assertEquals(List.of("1", "4", "5"), written.stream().map(BookDocument::getId).sorted().toList());
+        assertEquals(List.of("Machado de Assis"), written.stream().filter(book -> book.getId().equals("1")).findFirst().orElseThrow().getAuthors());
+
+        assertEquals(5, report.read());
+        assertEquals(3, report.inserted());
+        assertEquals(2, report.rejected());
+        List<JsonNode> rejected = readDeadLetter(report.deadLetterFile());
+        assertEquals(2, rejected.get(0).get("row").asInt());
+        assertTrue(rejected.get(0).get("reason").asText().contains("title"));
+        assertEquals(3, rejected.get(1).get("row").asInt());
+        assertEquals("Iracema", rejected.get(1).get("raw").get("title").asText());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar as operações recusadas pelo MongoDB e invalidar as chaves novas e anteriores dos caches")
+    void shouldRejectFailedOperationsAndInvalidateAffectedKeys() throws Exception {
+        // Arrange
+        Path feed = Files.writeString(tempDir.resolve("catalogo.json"), """
+                [
+                  {"id": "1", "title": "Dom Casmurro", "authors": ["Machado de Assis"], "genres": ["Romance"], "price": 12.0, "stock": 5},
+                  {"id": "2", "title": "Iracema", "authors": ["José de Alencar"], "genres": ["Romance"], "price": 20.0, "stock": 1}
+                ]
+                """);
+        BookDocument previous = new BookDocument("1", null, List.of("Machado de Assis"), List.of("Realismo"), null, null, null);
+        when(bulkBookWriter.write(anyList()))
+                .thenReturn(new BulkBookWriter.BulkWriteSummary(0, 1, Map.of(1, "E11000 duplicate key"), List.of(previous)));
+        cacheManager.getCache("book").put("1", "livro 1");
+        cacheManager.getCache("book").put("3", "livro 3");
+        cacheManager.getCache("booksPage").put(":20", "página");
+        cacheManager.getCache("booksByGenre").put("romance", "romances");
+        cacheManager.getCache("booksByGenre").put("realismo", "realistas");
+        cacheManager.getCache("booksByGenre").put("terror", "terror");
+
+        // Act
+        IngestionReport report = catalogIngestionService.ingest(feed);
+
+        // Assert
+        assertEquals(1, report.updated());
+        assertEquals(1, report.rejected());
+        List<JsonNode> rejected = readDeadLetter(report.deadLetterFile());
+        assertEquals(2, rejected.get(0).get("row").asInt());
+        assertEquals("E11000 duplicate key", rejected.get(0).get("reason").asText());
+
+        assertNull(cacheManager.getCache("book").get("1"));
+        assertNotNull(cacheManager.getCache("book").get("3"));
+        assertNull(cacheManager.getCache("booksPage").get(":20"));
+        assertNull(cacheManager.getCache("booksByGenre").get("romance"));
+        assertNull(cacheManager.getCache("booksByGenre").get("realismo"));
+        assertNotNull(cacheManager.getCache("booksByGenre").get("terror"));
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote inteiro para o arquivo de rejeitados quando a gravação falha")
+    void shouldRejectWholeBatchWhenWriteFails() throws Exception {
+        // Arrange
+        Path feed = Files.writeString(tempDir.resolve("catalogo.ndjson"), """
+                {"id": "1", "title": "Dom Casmurro", "authors": ["Machado de Assis"], "genres": ["Romance"]}
+                {"id": "2", "title": "Iracema", "authors": ["José de Alencar"], "genres": ["Romance"]}
+                """);
+        when(bulkBookWriter.write(anyList())).thenThrow(new IllegalStateException("Timeout"));
+
+        // Act
+        IngestionReport report = catalogIngestionService.ingest(feed);
+
+        // Assert
+        assertEquals(2, report.read());
+        assertEquals(2, report.rejected());
+        assertEquals(2, readDeadLetter(report.deadLetterFile()).size());
+    }
+
+    @Test
+    @DisplayName("Deve suspender a invalidação por evento durante a ingestão e aplicar os eventos acumulados uma única vez")
+    void shouldSuspendChangeInvalidationDuringIngestion() throws Exception {
+        // Arrange
+        Path feed = Files.writeString(tempDir.resolve("catalogo.ndjson"), IntStream.rangeClosed(1, 50)
+                .mapToObj(id -> "{\"id\": \"" + id + "\", \"title\": \"Livro " + id + "\", \"authors\": [\"Autor\"], \"genres\": [\"Romance\"]}")
+                .collect(Collectors.joining("\n")));
+        CacheManager invalidatorCaches = spy(new ConcurrentMapCacheManager());
+        BookCacheInvalidator invalidator = new BookCacheInvalidator(invalidatorCaches, new CachingProperties(Map.of(),
+                null, null, null, new CachingProperties.Invalidation(true, Duration.ZERO), Map.of()));
+        when(cacheInvalidator.getIfAvailable()).thenReturn(invalidator);
+        // Cada livro gravado chega ao invalidador como um evento do change stream, como em um replica set.
+        when(bulkBookWriter.write(anyList())).thenAnswer(invocation -> {
+            List<BookDocument> books = invocation.getArgument(0);
+            books.forEach(book -> invalidator.onChange(new BookChange(BookChange.Operation.REPLACE, book.getId(),
+                    new BookEntity(book.getId(), book.getTitle(), book.getAuthors(), book.getGenres(), null, null, null), null, null)));
+            return new BulkBookWriter.BulkWriteSummary(books.size(), 0, Map.of(), List.of());
+        });
+
+        try {
+            // Act
+            IngestionReport report = catalogIngestionService.ingest(feed);
+
+            // Assert
+            assertEquals(50, report.inserted());
+            verifyNoInteractions(invalidatorCaches);
+
+            // Act
+            invalidator.onCaughtUp();
+            invalidator.onCaughtUp();
+
+            // Assert
+            verify(invalidatorCaches, times(1)).getCache("booksPage");
+            verify(invalidatorCaches, times(1)).getCache("booksByGenre");
+            verify(invalidatorCaches, times(1)).getCache("book");
+        } finally {
+            invalidator.destroy();
+        }
+    }
+
+    private List<JsonNode> readDeadLetter(Path deadLetterFile) throws Exception {
+        assertNotNull(deadLetterFile);
+        return Files.readAllLines(deadLetterFile).stream()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.metrics;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.ReactiveBookRepositoryPort;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PortMetricsTest {
+
+    @Mock
+    private BookRepositoryPort bookRepositoryPort;
+    @Mock
+    private ReactiveBookRepositoryPort reactiveBookRepositoryPort;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BookEntity book = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Romance"), "Desc", 10.0, 5);
+
+    @Test
+    @DisplayName("Deve medir a chamada e devolver o resultado da porta")
+    void shouldTimeSuccessfulCall() {
+        // Arrange
+        when(bookRepositoryPort.findById("1")).thenReturn(Optional.of(book));
+        BookRepositoryPort timed = PortMetrics.timed(BookRepositoryPort.class, bookRepositoryPort, meterRegistry);
+
+        // Act
+        Optional<BookEntity> result = timed.findById("1");
+
+        // Assert
+        assertEquals(Optional.of(book), result);
+        assertEquals(1, timer("BookRepositoryPort", "findById", "success").count());
+        assertEquals(0, timer("BookRepositoryPort", "findById", "error").count());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o erro e propagar a exceção original da porta")
+    void shouldTimeFailedCallAndRethrow() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("Mongo indisponível");
+        when(bookRepositoryPort.findByGenre("Romance")).thenThrow(failure);
+        BookRepositoryPort timed = PortMetrics.timed(BookRepositoryPort.class, bookRepositoryPort, meterRegistry);
+
+        // Act
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> timed.findByGenre("Romance"));
+
+        // Assert
+        assertSame(failure, thrown);
+        assertEquals(1, timer("BookRepositoryPort", "findByGenre", "error").count());
+    }
+
+    @Test
+    @DisplayName("Deve medir o Mono apenas quando ele é assinado")
+    void shouldTimeMonoOnSubscription() {
+        // Arrange
+        when(reactiveBookRepositoryPort.findById("1")).thenReturn(Mono.just(book));
+        ReactiveBookRepositoryPort timed = PortMetrics.timed(ReactiveBookRepositoryPort.class, reactiveBookRepositoryPort, meterRegistry);
+
+        // Act
+        Mono<BookEntity> result = timed.findById("1");
+        long countBeforeSubscribe = timer("ReactiveBookRepositoryPort", "findById", "success").count();
+        BookEntity value = result.block();
+
+        // Assert
+        assertEquals(book, value);
+        assertEquals(0, countBeforeSubscribe);
+        assertEquals(1, timer("ReactiveBookRepositoryPort", "findById", "success").count());
+    }
+
+    private Timer timer(String port, String method, String outcome) {
+        return meterRegistry.get("port.calls").tag("port", port).tag("method", method).tag("outcome", outcome).timer();
+    }
+}
@@ -1,6 +1,9 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.repository;
 
 import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.CacheBulkLoader;
 import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
 import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.mapper.BookDocumentMapper;
 import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.mapper.BookDocumentMapperImpl;
@@ -10,13 +13,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -26,8 +37,13 @@ class MongoBookRepositoryAdapterTest {
     @Mock
     private SpringDataBookMongoRepository springDataBookMongoRepository;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     private BookDocumentMapper bookDocumentMapper = new BookDocumentMapperImpl();;
 
+    private CacheManager cacheManager;
+
     private MongoBookRepositoryAdapter mongoBookRepositoryAdapter;
 
     // Entidades de domínio e documentos mock para uso nos testes
@@ -37,7 +53,9 @@ class MongoBookRepositoryAdapterTest {
 
     @BeforeEach
     void setUp() {
-        mongoBookRepositoryAdapter = new MongoBookRepositoryAdapter( springDataBookMongoRepository, bookDocumentMapper);
+        cacheManager = new ConcurrentMapCacheManager();
+        mongoBookRepositoryAdapter = new MongoBookRepositoryAdapter( springDataBookMongoRepository, bookDocumentMapper, mongoTemplate,
+                new CacheBulkLoader(cacheManager, null));
 
         mockBookDocument = new BookDocument("1", "Test Book", List.of("Author A"), List.of("Genre X"), "Desc", 10.0, 5);
         mockBookDocument2 = new BookDocument("2", "Another Book", List.of("Author B"), List.of("Genre Y"), "Desc2", 20.0, 10);
@@ -61,6 +79,56 @@ class MongoBookRepositoryAdapterTest {
         assertEquals(2, result.size());
     }
 
+    @Test
+    @DisplayName("Deve retornar a primeira página e o id para a próxima quando há mais documentos que o limite")
+    void shouldReturnFirstPageWithNextAfterIdWhenMoreDocumentsExist() {
+        // Arrange
+        when(springDataBookMongoRepository.findAllByOrderByIdAsc(argThat(limit -> limit.max() == 2)))
+                .thenReturn(Arrays.asList(mockBookDocument, mockBookDocument2));
+
+        // Act
+        BookPageEntity result = mongoBookRepositoryAdapter.findPage(null, 1);
+
+        // Assert
+        verify(springDataBookMongoRepository, times(1)).findAllByOrderByIdAsc(argThat(limit -> limit.max() == 2));
+        assertEquals(List.of(bookDocumentMapper.toDomain(mockBookDocument)), result.books());
+        assertEquals("1", result.nextAfterId());
+    }
+
+    @Test
+    @DisplayName("Deve buscar após o id informado e não retornar próximo id na última página")
+    void shouldReturnLastPageWithoutNextAfterId() {
+        // Arrange
+        when(springDataBookMongoRepository.findByIdGreaterThanOrderByIdAsc(eq("1"), argThat(limit -> limit.max() == 3)))
+                .thenReturn(List.of(mockBookDocument2));
+
+        // Act
+        BookPageEntity result = mongoBookRepositoryAdapter.findPage("1", 2);
+
+        // Assert
+        verify(springDataBookMongoRepository, times(1)).findByIdGreaterThanOrderByIdAsc(eq("1"), argThat(limit -> limit.max() == 3));
+        assertEquals(List.of(bookDocumentMapper.toDomain(mockBookDocument2)), result.books());
+        assertNull(result.nextAfterId());
+    }
+
+    @Test
+    @DisplayName("Deve buscar a página de resumos pela consulta com projeção, sem ler os documentos completos")
+    void shouldFindSummaryPageWithProjectedQuery() {
+        // Arrange
+        BookDocument summary = new BookDocument("2", "Another Book", List.of("Author B"), List.of("Genre Y"), null, 20.0, 10);
+        when(springDataBookMongoRepository.findSummariesByIdGreaterThanOrderByIdAsc(eq("1"), argThat(limit -> limit.max() == 3)))
+                .thenReturn(List.of(summary));
+
+        // Act
+        BookPageEntity result = mongoBookRepositoryAdapter.findSummaryPage("1", 2);
+
+        // Assert
+        assertEquals(List.of("2"), result.books().stream().map(BookEntity::id).toList());
+        assertNull(result.books().get(0).description());
+        assertNull(result.nextAfterId());
+        verify(springDataBookMongoRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
     @Test
     @DisplayName("Deve retornar um livro por ID e mapeá-lo para entidade de domínio quando encontrado")
     void shouldFindBookByIdAndMapToDomainEntityWhenFound() {
@@ -170,29 +238,154 @@ class MongoBookRepositoryAdapterTest {
         List<BookDocument> documents = Arrays.asList(mockBookDocument, mockBookDocument2);
         List<BookEntity> expectedEntities = bookDocumentMapper.toDomain(documents);
 
-        when(springDataBookMongoRepository.findAllById(ids)).thenReturn(documents);
+        when(springDataBookMongoRepository.findAllById(new LinkedHashSet<>(ids))).thenReturn(documents);
 
         // Act
         List<BookEntity> result = mongoBookRepositoryAdapter.findAllByIds(ids);
 
         // Assert
-        verify(springDataBookMongoRepository, times(1)).findAllById(ids);
+        verify(springDataBookMongoRepository, times(1)).findAllById(new LinkedHashSet<>(ids));
         assertEquals(expectedEntities, result);
         assertEquals(2, result.size());
     }
 
+    @Test
+    @DisplayName("Deve reaproveitar livros do cache 'book', buscar só os ausentes e preservar a ordem solicitada")
+    void shouldReuseCachedBooksFetchOnlyMissingAndPreserveOrder() {
+        // Arrange
+        BookEntity cachedEntity = bookDocumentMapper.toDomain(mockBookDocument2);
+        cacheManager.getCache("book").put("2", cachedEntity);
+        when(springDataBookMongoRepository.findAllById(new LinkedHashSet<>(List.of("1")))).thenReturn(List.of(mockBookDocument));
+
+        // Act
+        List<BookEntity> result = mongoBookRepositoryAdapter.findAllByIds(List.of("2", "1"));
+
+        // Assert
+        assertEquals(List.of(cachedEntity, bookDocumentMapper.toDomain(mockBookDocument)), result);
+        verify(springDataBookMongoRepository, times(1)).findAllById(new LinkedHashSet<>(List.of("1")));
+        assertEquals(bookDocumentMapper.toDomain(mockBookDocument), cacheManager.getCache("book").get("1").get());
+    }
+
     @Test
     @DisplayName("Deve retornar lista vazia quando nenhum livro é encontrado por lista de IDs")
     void shouldReturnEmptyListWhenNoBooksFoundByIds() {
         // Arrange
         List<String> ids = Arrays.asList("non-existent1", "non-existent2");
-        when(springDataBookMongoRepository.findAllById(ids)).thenReturn(Collections.emptyList());
+        when(springDataBookMongoRepository.findAllById(new LinkedHashSet<>(ids))).thenReturn(Collections.emptyList());
 
         // Act
         List<BookEntity> result = mongoBookRepositoryAdapter.findAllByIds(ids);
 
         // Assert
         assertTrue(result.isEmpty());
-        verify(springDataBookMongoRepository, times(1)).findAllById(ids);
+        verify(springDataBookMongoRepository, times(1)).findAllById(new LinkedHashSet<>(ids));
+    }
+
+    @Test
+    @DisplayName("Deve buscar pelo índice de texto ordenando por relevância e indicar a próxima página")
+    void shouldSearchByTextIndexSortedByScore() {
+        // Arrange
+        when(mongoTemplate.exists(any(Query.class), eq(BookDocument.class))).thenReturn(true);
+        when(mongoTemplate.find(argThat((Query query) -> query.getQueryObject().containsKey("$text")
+                        && query.getSortObject().containsKey("score")
+                        && query.getSkip() == 1
+                        && query.getLimit() == 2), eq(BookDocument.class)))
+                .thenReturn(Arrays.asList(mockBookDocument, mockBookDocument2));
+
+        // Act
+        BookSearchPageEntity result = mongoBookRepositoryAdapter.search("book", 1, 1);
+
+        // Assert
+        assertEquals(List.of(bookDocumentMapper.toDomain(mockBookDocument)), result.books());
+        assertEquals(1, result.page());
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve indicar a última página quando a busca retorna até o limite de resultados")
+    void shouldReturnLastSearchPageWhenResultsFitInLimit() {
+        // Arrange
+        when(mongoTemplate.exists(any(Query.class), eq(BookDocument.class))).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(BookDocument.class))).thenReturn(List.of(mockBookDocument));
+
+        // Act
+        BookSearchPageEntity result = mongoBookRepositoryAdapter.search("book", 0, 20);
+
+        // Assert
+        assertEquals(1, result.books().size());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por prefixo ancorado em searchTerms quando a última palavra está incompleta")
+    void shouldSearchByPrefixWhenLastTermIsPartial() {
+        // Arrange
+        when(mongoTemplate.exists(any(Query.class), eq(BookDocument.class)))
+                .thenAnswer(invocation -> !"casm".equals(((Query) invocation.getArgument(0)).getQueryObject().get("searchTerms")));
+        when(mongoTemplate.find(argThat((Query query) -> query.getQueryObject().toJson().contains("^casm")
+                        && query.getQueryObject().toJson().contains("\"$all\": [\"dom\"]")
+                        && query.getSkip() == 20
+                        && query.getLimit() == 21), eq(BookDocument.class)))
+                .thenReturn(List.of(mockBookDocument));
+
+        // Act
+        BookSearchPageEntity result = mongoBookRepositoryAdapter.search("Dom Casm", 1, 20);
+
+        // Assert
+        assertEquals(List.of(bookDocumentMapper.toDomain(mockBookDocument)), result.books());
+        assertFalse(result.hasNext());
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(BookDocument.class));
+    }
+
+    @Test
+    @DisplayName("Deve usar o índice de texto quando nenhum livro tem palavra com o prefixo")
+    void shouldUseTextSearchWhenNoBookMatchesPrefix() {
+        // Arrange
+        when(mongoTemplate.exists(any(Query.class), eq(BookDocument.class))).thenReturn(false);
+        when(mongoTemplate.find(argThat((Query query) -> query.getQueryObject().containsKey("$text")), eq(BookDocument.class)))
+                .thenReturn(List.of(mockBookDocument));
+
+        // Act
+        BookSearchPageEntity result = mongoBookRepositoryAdapter.search("casmurros", 0, 20);
+
+        // Assert
+        assertEquals(1, result.books().size());
+        verify(mongoTemplate, times(2)).exists(any(Query.class), eq(BookDocument.class));
+    }
+
+    @Test
+    @DisplayName("Deve fazer streaming do catálogo com o tamanho de lote informado, mapeando para entidades de domínio")
+    void shouldStreamAllBooksUsingCursorBatchSize() {
+        // Arrange
+        when(mongoTemplate.stream(argThat((Query query) -> query.getMeta().getCursorBatchSize() == 100), eq(BookDocument.class)))
+                .thenReturn(Stream.of(mockBookDocument, mockBookDocument2));
+
+        // Act
+        List<BookEntity> result;
+        try (Stream<BookEntity> stream = mongoBookRepositoryAdapter.streamAll(100)) {
+            result = stream.toList();
+        }
+
+        // Assert
+        assertEquals(bookDocumentMapper.toDomain(Arrays.asList(mockBookDocument, mockBookDocument2)), result);
+    }
+
+    @Test
+    @DisplayName("Deve retornar resumos de livros sem descrição na ordem dos IDs solicitados")
+    void shouldFindSummariesByIdsInRequestedOrder() {
+        // Arrange
+        BookDocument summary1 = new BookDocument("1", "Test Book", List.of("Author A"), List.of("Genre X"), null, 10.0, 5);
+        BookDocument summary2 = new BookDocument("2", "Another Book", List.of("Author B"), List.of("Genre Y"), null, 20.0, 10);
+        List<String> ids = List.of("2", "1");
+        // O MongoDB devolve os documentos em ordem arbitrária
+        when(springDataBookMongoRepository.findSummariesByIdIn(new LinkedHashSet<>(ids))).thenReturn(List.of(summary1, summary2));
+
+        // Act
+        List<BookEntity> result = mongoBookRepositoryAdapter.findSummariesByIds(ids);
+
+        // Assert
+        assertEquals(List.of("2", "1"), result.stream().map(BookEntity::id).toList());
+        assertNull(result.get(0).description());
+        verify(springDataBookMongoRepository, never()).findAllById(any());
     }
 }
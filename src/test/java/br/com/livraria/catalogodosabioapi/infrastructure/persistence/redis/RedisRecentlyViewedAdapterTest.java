@@ -4,15 +4,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -52,10 +59,49 @@ class RedisRecentlyViewedAdapterTest {
         redisRecentlyViewedAdapter.save(clientId, bookId);
 
         // Assert
-        verify(listOps, times(1)).remove(key, 0, bookId);
-        verify(listOps, times(1)).leftPush(key, bookId);
-        verify(listOps, times(1)).trim(key, 0, MAX_ITEMS - 1);
-        verify(redisTemplate, times(1)).expire(any(String.class), any(Duration.class));
+        // Uma única execução do script Lua substitui os comandos LREM, LPUSH, LTRIM e EXPIRE
+        verify(redisTemplate, times(1)).execute(eq(RedisRecentlyViewedAdapter.SAVE_SCRIPT), eq(List.of(key)),
+                eq(String.valueOf(MAX_ITEMS)), eq(String.valueOf(Duration.ofDays(5).toSeconds())), eq(bookId));
+        verifyNoInteractions(listOps);
+    }
+
+    @Test
+    @DisplayName("Deve salvar as visualizações de vários clientes em um único pipeline")
+    @SuppressWarnings("unchecked")
+    void shouldSaveViewsOfManyClientsInSinglePipeline() {
+        // Arrange
+        Map<String, List<String>> bookIdsByClientId = new LinkedHashMap<>();
+        bookIdsByClientId.put("user-1", List.of("book-a", "book-b"));
+        bookIdsByClientId.put("user-2", List.of("book-c"));
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+        when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+
+        // Act
+        redisRecentlyViewedAdapter.saveAll(bookIdsByClientId);
+
+        ArgumentCaptor<RedisCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate, times(1)).executePipelined(callbackCaptor.capture());
+        callbackCaptor.getValue().doInRedis(connection);
+
+        // Assert
+        ArgumentCaptor<byte[][]> argsCaptor = ArgumentCaptor.forClass(byte[][].class);
+        verify(scriptingCommands, times(2)).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), argsCaptor.capture());
+        List<byte[][]> calls = argsCaptor.getAllValues();
+        assertEquals(KEY_PREFIX + "user-1", new String(calls.get(0)[0]));
+        assertEquals("book-b", new String(calls.get(0)[4]));
+        assertEquals(KEY_PREFIX + "user-2", new String(calls.get(1)[0]));
+    }
+
+    @Test
+    @DisplayName("Não deve abrir pipeline quando não há visualizações para salvar")
+    void shouldNotOpenPipelineWhenThereAreNoViews() {
+        // Act
+        redisRecentlyViewedAdapter.saveAll(Collections.emptyMap());
+
+        // Assert
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
     }
 
     @Test
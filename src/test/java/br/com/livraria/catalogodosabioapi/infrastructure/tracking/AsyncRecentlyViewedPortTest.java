@@ -0,0 +1,128 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.tracking;
+
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.RecentlyViewedPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.TrackingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncRecentlyViewedPortTest {
+
+    @Mock
+    private RecentlyViewedPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private AsyncRecentlyViewedPort newPort(int capacity, TrackingProperties.OverflowPolicy overflow) {
+        TrackingProperties properties = new TrackingProperties(TrackingProperties.Mode.ASYNC, capacity, 10, overflow, Duration.ofMillis(1));
+        return new AsyncRecentlyViewedPort(delegate, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar eventos por cliente e manter a última visualização de um livro repetido")
+    void shouldCoalesceEventsPerClientKeepingLastViewOrder() {
+        // Arrange
+        List<AsyncRecentlyViewedPort.ViewEvent> batch = List.of(
+                new AsyncRecentlyViewedPort.ViewEvent("client-1", "book-a"),
+                new AsyncRecentlyViewedPort.ViewEvent("client-2", "book-x"),
+                new AsyncRecentlyViewedPort.ViewEvent("client-1", "book-b"),
+                new AsyncRecentlyViewedPort.ViewEvent("client-1", "book-a")
+        );
+
+        // Act
+        Map<String, List<String>> result = AsyncRecentlyViewedPort.coalesce(batch);
+
+        // Assert
+        assertEquals(List.of("book-b", "book-a"), result.get("client-1"));
+        assertEquals(List.of("book-x"), result.get("client-2"));
+    }
+
+    @Test
+    @DisplayName("Não deve gravar no Redis na thread da requisição enquanto houver espaço na fila")
+    void shouldEnqueueWithoutCallingDelegate() {
+        // Arrange
+        AsyncRecentlyViewedPort port = newPort(10, TrackingProperties.OverflowPolicy.DROP);
+
+        // Act
+        port.save("client-1", "book-a");
+
+        // Assert
+        verifyNoInteractions(delegate);
+        assertEquals(1.0, meterRegistry.get("recently.viewed.tracking.queue.depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contabilizar eventos quando a fila está cheia com a política DROP")
+    void shouldDropAndCountEventsWhenQueueIsFull() {
+        // Arrange
+        AsyncRecentlyViewedPort port = newPort(1, TrackingProperties.OverflowPolicy.DROP);
+
+        // Act
+        port.save("client-1", "book-a");
+        port.save("client-1", "book-b");
+
+        // Assert
+        verifyNoInteractions(delegate);
+        assertEquals(1.0, meterRegistry.get("recently.viewed.tracking.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve gravar de forma síncrona quando a fila está cheia com a política CALLER_RUNS")
+    void shouldSaveSynchronouslyWhenQueueIsFullWithCallerRuns() {
+        // Arrange
+        AsyncRecentlyViewedPort port = newPort(1, TrackingProperties.OverflowPolicy.CALLER_RUNS);
+
+        // Act
+        port.save("client-1", "book-a");
+        port.save("client-1", "book-b");
+
+        // Assert
+        verify(delegate, times(1)).save("client-1", "book-b");
+    }
+
+    @Test
+    @DisplayName("Deve gravar os eventos pendentes ao ser encerrado")
+    void shouldFlushPendingEventsOnStop() {
+        // Arrange
+        AsyncRecentlyViewedPort port = newPort(10, TrackingProperties.OverflowPolicy.DROP);
+        port.save("client-1", "book-a");
+
+        // Act
+        port.stop();
+
+        // Assert
+        verify(delegate, times(1)).saveAll(Map.of("client-1", List.of("book-a")));
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar os eventos perdidos quando a gravação do lote falha")
+    void shouldCountFailedEventsWhenFlushFails() {
+        // Arrange
+        AsyncRecentlyViewedPort port = newPort(10, TrackingProperties.OverflowPolicy.DROP);
+        doThrow(new RuntimeException("Redis indisponível")).when(delegate).saveAll(anyMap());
+
+        // Act
+        port.flush(List.of(new AsyncRecentlyViewedPort.ViewEvent("client-1", "book-a")));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("recently.viewed.tracking.failed").counter().count());
+    }
+}
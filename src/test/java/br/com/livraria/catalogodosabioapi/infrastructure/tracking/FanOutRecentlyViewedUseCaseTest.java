@@ -0,0 +1,139 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.tracking;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.RecentlyViewedUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.RecentlyViewedPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.RecentlyViewedLookupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FanOutRecentlyViewedUseCaseTest {
+
+    @Mock
+    private RecentlyViewedUseCase delegate;
+    @Mock
+    private RecentlyViewedPort recentlyViewedPort;
+    @Mock
+    private BookUseCase bookUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FanOutRecentlyViewedUseCase useCase;
+
+    private final BookEntity book1 = new BookEntity("1", "Livro 1", List.of("Autor"), List.of("Romance"), null, 10.0, 5);
+    private final BookEntity book2 = new BookEntity("2", "Livro 2", List.of("Autor"), List.of("Romance"), null, 12.0, 3);
+    private final BookEntity book3 = new BookEntity("3", "Livro 3", List.of("Autor"), List.of("Romance"), null, 15.0, 1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RecentlyViewedLookupProperties properties = new RecentlyViewedLookupProperties(true, Duration.ofMillis(200), 100, Duration.ofMinutes(1));
+        useCase = new FanOutRecentlyViewedUseCase(delegate, recentlyViewedPort, bookUseCase, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.close();
+    }
+
+    @Test
+    @DisplayName("Deve devolver os livros na ordem do Redis com uma única busca em lote na primeira leitura")
+    void shouldResolveBooksInRedisOrder() {
+        // Arrange
+        when(recentlyViewedPort.findByClientId("cliente")).thenReturn(List.of("2", "1"));
+        when(bookUseCase.findSummariesByIds(List.of("2", "1"))).thenReturn(List.of(book1, book2));
+
+        // Act
+        List<BookEntity> books = useCase.find("cliente");
+
+        // Assert
+        assertEquals(List.of(book2, book1), books);
+        verify(bookUseCase, times(1)).findSummariesByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a busca especulativa e buscar apenas o livro visualizado depois da última leitura")
+    void shouldOnlyFetchIdsNotCoveredBySpeculation() {
+        // Arrange
+        when(recentlyViewedPort.findByClientId("cliente")).thenReturn(List.of("2", "1"), List.of("3", "2", "1"));
+        when(bookUseCase.findSummariesByIds(List.of("2", "1"))).thenReturn(List.of(book2, book1));
+        when(bookUseCase.findSummariesByIds(List.of("3"))).thenReturn(List.of(book3));
+        useCase.find("cliente");
+
+        // Act
+        List<BookEntity> books = useCase.find("cliente");
+
+        // Assert
+        assertEquals(List.of(book3, book2, book1), books);
+        verify(bookUseCase, times(2)).findSummariesByIds(List.of("2", "1"));
+        verify(bookUseCase, times(1)).findSummariesByIds(List.of("3"));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar a última lista conhecida ao registrar uma visualização")
+    void shouldMoveTrackedBookToFrontOfLastKnownList() {
+        // Arrange
+        when(recentlyViewedPort.findByClientId("cliente")).thenReturn(List.of("2", "1"), List.of("1", "2"));
+        when(bookUseCase.findSummariesByIds(List.of("2", "1"))).thenReturn(List.of(book2, book1));
+        when(bookUseCase.findSummariesByIds(List.of("1", "2"))).thenReturn(List.of(book1, book2));
+        useCase.find("cliente");
+
+        // Act
+        useCase.track("cliente", "1");
+        List<BookEntity> books = useCase.find("cliente");
+
+        // Assert
+        assertEquals(List.of(book1, book2), books);
+        verify(delegate, times(1)).track("cliente", "1");
+        verify(bookUseCase, times(1)).findSummariesByIds(List.of("1", "2"));
+    }
+
+    @Test
+    @DisplayName("Deve devolver os livros já resolvidos quando o Redis não responde dentro do prazo")
+    void shouldReturnPartialResultWhenBudgetIsExceeded() throws InterruptedException {
+        // Arrange
+        CountDownLatch releaseRedis = new CountDownLatch(1);
+        when(recentlyViewedPort.findByClientId("cliente"))
+                .thenReturn(List.of("2", "1"))
+                .thenAnswer(invocation -> {
+                    releaseRedis.await(5, TimeUnit.SECONDS);
+                    return List.of("2", "1");
+                });
+        when(bookUseCase.findSummariesByIds(List.of("2", "1"))).thenReturn(List.of(book2, book1));
+        useCase.find("cliente");
+
+        // Act
+        List<BookEntity> books = useCase.find("cliente");
+        releaseRedis.countDown();
+
+        // Assert
+        assertEquals(List.of(book2, book1), books);
+        assertEquals(1.0, meterRegistry.counter("recently.viewed.lookup.partial").count());
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia sem consultar o Redis quando o cliente não é informado")
+    void shouldReturnEmptyListWithoutClientId() {
+        // Act
+        List<BookEntity> books = useCase.find(null);
+
+        // Assert
+        assertTrue(books.isEmpty());
+        verifyNoInteractions(recentlyViewedPort, bookUseCase);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.warmup;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.out.BookRepositoryPort;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.WarmupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheWarmupRunnerTest {
+
+    private final BookEntity book = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Romance"), "Desc", 10.0, 5);
+
+    private BookRepositoryPort bookRepositoryPort;
+    private WarmupKeys warmupKeys;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        bookRepositoryPort = mock(BookRepositoryPort.class);
+        warmupKeys = mock(WarmupKeys.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private CacheWarmupRunner runner(Duration budget) {
+        return new CacheWarmupRunner(bookRepositoryPort, warmupKeys, new WarmupProperties(true, budget, 3, 2, 2, 10, 100), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve carregar as primeiras páginas, os gêneros e autores principais e os livros mais visualizados")
+    void shouldPreloadAllPhases() {
+        // Arrange
+        when(bookRepositoryPort.findSummaryPage(null, 20)).thenReturn(new BookPageEntity(List.of(book), "1"));
+        when(bookRepositoryPort.findSummaryPage("1", 20)).thenReturn(new BookPageEntity(List.of(book), null));
+        when(warmupKeys.topGenres(2)).thenReturn(List.of("Romance", "Terror"));
+        when(warmupKeys.topAuthors(2)).thenReturn(List.of("Machado de Assis"));
+        when(warmupKeys.mostViewedBookIds(10, 100)).thenReturn(List.of("1", "2"));
+        when(bookRepositoryPort.findAllByIds(List.of("1", "2"))).thenReturn(List.of(book));
+
+        // Act
+        runner(Duration.ofSeconds(5)).run(null);
+
+        // Assert
+        verify(bookRepositoryPort, never()).findAll();
+        verify(bookRepositoryPort).findSummaryPage(null, 20);
+        verify(bookRepositoryPort).findSummaryPage("1", 20);
+        verify(bookRepositoryPort, times(2)).findSummaryPage(any(), anyInt());
+        verify(bookRepositoryPort).findSummariesByGenre("Romance");
+        verify(bookRepositoryPort).findSummariesByGenre("Terror");
+        verify(bookRepositoryPort).findSummariesByAuthor("Machado de Assis");
+        verify(bookRepositoryPort).findAllByIds(List.of("1", "2"));
+        assertEquals(2, meterRegistry.get("cache.warmup.entries").tag("cache", "booksPageSummary").counter().count());
+        assertEquals(2, meterRegistry.get("cache.warmup.entries").tag("cache", "booksByGenreSummary").counter().count());
+        assertEquals(1, meterRegistry.get("cache.warmup.entries").tag("cache", "book").counter().count());
+        assertEquals(1, meterRegistry.get("cache.warmup").tag("outcome", "completed").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve seguir com as demais etapas quando uma delas falha")
+    void shouldContinueWhenPhaseFails() {
+        // Arrange
+        when(bookRepositoryPort.findSummaryPage(null, 20)).thenReturn(new BookPageEntity(List.of(), null));
+        when(warmupKeys.topGenres(2)).thenThrow(new IllegalStateException("MongoDB indisponível"));
+        when(warmupKeys.topAuthors(2)).thenReturn(List.of("Machado de Assis"));
+        when(warmupKeys.mostViewedBookIds(10, 100)).thenReturn(List.of());
+
+        // Act
+        runner(Duration.ofSeconds(5)).run(null);
+
+        // Assert
+        verify(bookRepositoryPort).findSummaryPage(null, 20);
+        verify(bookRepositoryPort).findSummariesByAuthor("Machado de Assis");
+        verify(bookRepositoryPort, never()).findAllByIds(anyList());
+        assertEquals(1, meterRegistry.get("cache.warmup.phase").tag("phase", "genres").tag("outcome", "error").timer().count());
+        assertEquals(1, meterRegistry.get("cache.warmup").tag("outcome", "completed").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a inicialização quando o aquecimento excede o limite de tempo")
+    void shouldStopWaitingWhenBudgetIsExceeded() throws Exception {
+        // Arrange
+        CountDownLatch never = new CountDownLatch(1);
+        when(bookRepositoryPort.findSummaryPage(null, 20)).thenAnswer(invocation -> {
+            never.await();
+            return new BookPageEntity(List.of(book), null);
+        });
+        when(warmupKeys.topGenres(2)).thenReturn(List.of());
+        when(warmupKeys.topAuthors(2)).thenReturn(List.of());
+        when(warmupKeys.mostViewedBookIds(10, 100)).thenReturn(List.of());
+
+        // Act
+        long start = System.nanoTime();
+        runner(Duration.ofMillis(100)).run(null);
+
+        // Assert
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+        assertEquals(1, meterRegistry.get("cache.warmup").tag("outcome", "budget_exceeded").timer().count());
+    }
+}
@@ -34,7 +34,9 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+// Os eventos do change stream gerados pelo setup chegam de forma assíncrona e invalidariam o cache no meio
+// dos cenários que verificam acertos de cache. O aquecimento guardaria no L1 o catálogo vazio anterior ao setup.
+@SpringBootTest(properties = {"caching.invalidation.enabled=false", "warmup.enabled=false"})
 @Testcontainers
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -195,7 +197,8 @@ public class BookControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id", is(bookId1)))
-                .andExpect(jsonPath("$[1].id", is(bookId2)));
+                // O livro visualizado por último vem primeiro
+                .andExpect(jsonPath("$[0].id", is(bookId2)))
+                .andExpect(jsonPath("$[1].id", is(bookId1)));
     }
 }
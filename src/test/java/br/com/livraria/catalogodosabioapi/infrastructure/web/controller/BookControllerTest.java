@@ -1,12 +1,22 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.web.controller;
 
 import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookSearchPageEntity;
 import br.com.livraria.catalogodosabioapi.core.domain.exception.BookNotFoundException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidFieldsException;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
 import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.RecentlyViewedUseCase;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.ContentTags;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.HttpCacheProperties;
 import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapper;
 import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapperImpl; // Importa a implementação real do mapper
+import br.com.livraria.catalogodosabioapi.infrastructure.web.pagination.PageCursor;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.response.SerializedResponseCache;
 import br.com.livraria.catalogodosabioapi.model.Book;
+import br.com.livraria.catalogodosabioapi.model.BookPage;
+import br.com.livraria.catalogodosabioapi.model.BookSearchPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,23 +25,33 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,7 +79,7 @@ class BookControllerTest {
                 new BookEntity("2", "Another Book", List.of("Author B"), List.of("Genre Y"), "Desc2", 20.0, 10)
         );
 
-        bookController = new BookController(bookUseCase, recentlyViewedUseCase, bookApiMapper);
+        bookController = controller(bookApiMapper, false);
     }
 
     @Test
@@ -123,39 +143,62 @@ class BookControllerTest {
     }
 
     @Test
-    @DisplayName("booksGet: Deve retornar 200 OK e uma lista de todos os livros")
-    void booksGet_shouldReturnOkAndAllBooks() {
+    @DisplayName("booksGet: Deve retornar 200 OK e a primeira página com cursor para a próxima")
+    void booksGet_shouldReturnOkAndFirstPageWithNextCursor() {
         // Arrange
-        when(bookUseCase.findAll()).thenReturn(mockBookEntityList);
+        when(bookUseCase.findSummaryPage(null, 2)).thenReturn(new BookPageEntity(mockBookEntityList, "2"));
         List<Book> expectedBookApiModelList = bookApiMapper.toApi(mockBookEntityList);
 
         // Act
-        ResponseEntity<List<Book>> response = bookController.booksGet();
+        ResponseEntity<BookPage> response = bookController.booksGet(null, 2, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(expectedBookApiModelList, response.getBody());
-        assertEquals(2, response.getBody().size());
+        assertEquals(expectedBookApiModelList, response.getBody().getItems());
+        assertEquals(PageCursor.encode("2"), response.getBody().getNextCursor());
 
-        verify(bookUseCase, times(1)).findAll();
+        verify(bookUseCase, times(1)).findSummaryPage(null, 2);
     }
 
     @Test
-    @DisplayName("booksGet: Deve retornar lista vazia se nenhum livro for encontrado")
-    void booksGet_shouldReturnEmptyListWhenNoBooksFound() {
+    @DisplayName("booksGet: Deve decodificar o cursor e não retornar próximo cursor na última página")
+    void booksGet_shouldDecodeCursorAndOmitNextCursorOnLastPage() {
         // Arrange
-        when(bookUseCase.findAll()).thenReturn(Collections.emptyList());
+        String cursor = PageCursor.encode("2");
+        when(bookUseCase.findSummaryPage("2", 20)).thenReturn(new BookPageEntity(Collections.emptyList(), null));
 
         // Act
-        ResponseEntity<List<Book>> response = bookController.booksGet();
+        ResponseEntity<BookPage> response = bookController.booksGet(cursor, 20, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertTrue(response.getBody().isEmpty());
+        assertTrue(response.getBody().getItems().isEmpty());
+        assertNull(response.getBody().getNextCursor());
 
-        verify(bookUseCase, times(1)).findAll();
+        verify(bookUseCase, times(1)).findSummaryPage("2", 20);
+    }
+
+    @Test
+    @DisplayName("booksSearchGet: Deve retornar 200 OK e a página de resultados da busca")
+    void booksSearchGet_shouldReturnOkAndSearchPage() {
+        // Arrange
+        String query = "book";
+        when(bookUseCase.search(query, 0, 2)).thenReturn(new BookSearchPageEntity(mockBookEntityList, 0, true));
+        List<Book> expectedBookApiModelList = bookApiMapper.toApi(mockBookEntityList);
+
+        // Act
+        ResponseEntity<BookSearchPage> response = bookController.booksSearchGet(query, 0, 2);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedBookApiModelList, response.getBody().getItems());
+        assertEquals(0, response.getBody().getPage());
+        assertTrue(response.getBody().getHasNext());
+
+        verify(bookUseCase, times(1)).search(query, 0, 2);
     }
 
     @Test
@@ -163,11 +206,11 @@ class BookControllerTest {
     void booksAuthorAuthorGet_shouldReturnOkAndBooksByAuthor() {
         // Arrange
         String author = "Author A";
-        when(bookUseCase.findByAuthor(author)).thenReturn(List.of(mockBookEntity));
+        when(bookUseCase.findSummariesByAuthor(author)).thenReturn(List.of(mockBookEntity));
         List<Book> expectedBookApiModelList = bookApiMapper.toApi(List.of(mockBookEntity));
 
         // Act
-        ResponseEntity<List<Book>> response = bookController.booksAuthorAuthorGet(author);
+        ResponseEntity<List<Book>> response = bookController.booksAuthorAuthorGet(author, null);
 
         // Assert
         assertNotNull(response);
@@ -175,7 +218,7 @@ class BookControllerTest {
         assertEquals(1, response.getBody().size());
         assertEquals(expectedBookApiModelList.get(0), response.getBody().get(0));
 
-        verify(bookUseCase, times(1)).findByAuthor(author);
+        verify(bookUseCase, times(1)).findSummariesByAuthor(author);
     }
 
     @Test
@@ -183,17 +226,17 @@ class BookControllerTest {
     void booksAuthorAuthorGet_shouldReturnEmptyListWhenNoBooksFoundByAuthor() {
         // Arrange
         String author = "NonExistentAuthor";
-        when(bookUseCase.findByAuthor(author)).thenReturn(Collections.emptyList());
+        when(bookUseCase.findSummariesByAuthor(author)).thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<Book>> response = bookController.booksAuthorAuthorGet(author);
+        ResponseEntity<List<Book>> response = bookController.booksAuthorAuthorGet(author, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertTrue(response.getBody().isEmpty());
 
-        verify(bookUseCase, times(1)).findByAuthor(author);
+        verify(bookUseCase, times(1)).findSummariesByAuthor(author);
     }
 
     @Test
@@ -201,11 +244,11 @@ class BookControllerTest {
     void booksGenreGenreGet_shouldReturnOkAndBooksByGenre() {
         // Arrange
         String genre = "Genre X";
-        when(bookUseCase.findByGenre(genre)).thenReturn(List.of(mockBookEntity));
+        when(bookUseCase.findSummariesByGenre(genre)).thenReturn(List.of(mockBookEntity));
         List<Book> expectedBookApiModelList = bookApiMapper.toApi(List.of(mockBookEntity));
 
         // Act
-        ResponseEntity<List<Book>> response = bookController.booksGenreGenreGet(genre);
+        ResponseEntity<List<Book>> response = bookController.booksGenreGenreGet(genre, null);
 
         // Assert
         assertNotNull(response);
@@ -213,7 +256,7 @@ class BookControllerTest {
         assertEquals(1, response.getBody().size());
         assertEquals(expectedBookApiModelList.get(0), response.getBody().get(0));
 
-        verify(bookUseCase, times(1)).findByGenre(genre);
+        verify(bookUseCase, times(1)).findSummariesByGenre(genre);
     }
 
     @Test
@@ -221,17 +264,17 @@ class BookControllerTest {
     void booksGenreGenreGet_shouldReturnEmptyListWhenNoBooksFoundByGenre() {
         // Arrange
         String genre = "NonExistentGenre";
-        when(bookUseCase.findByGenre(genre)).thenReturn(Collections.emptyList());
+        when(bookUseCase.findSummariesByGenre(genre)).thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<Book>> response = bookController.booksGenreGenreGet(genre);
+        ResponseEntity<List<Book>> response = bookController.booksGenreGenreGet(genre, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertTrue(response.getBody().isEmpty());
 
-        verify(bookUseCase, times(1)).findByGenre(genre);
+        verify(bookUseCase, times(1)).findSummariesByGenre(genre);
     }
 
     @Test
@@ -243,7 +286,7 @@ class BookControllerTest {
         List<Book> expectedBookApiModelList = bookApiMapper.toApi(mockBookEntityList);
 
         // Act
-        ResponseEntity<List<Book>> response = bookController.booksRecentlyViewedGet(clientId);
+        ResponseEntity<List<Book>> response = bookController.booksRecentlyViewedGet(clientId, null);
 
         // Assert
         assertNotNull(response);
@@ -262,7 +305,7 @@ class BookControllerTest {
         when(recentlyViewedUseCase.find(clientId)).thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<Book>> response = bookController.booksRecentlyViewedGet(clientId);
+        ResponseEntity<List<Book>> response = bookController.booksRecentlyViewedGet(clientId, null);
 
         // Assert
         assertNotNull(response);
@@ -279,7 +322,7 @@ class BookControllerTest {
         String clientId = null;
 
         // Act
-        ResponseEntity<List<Book>> response = bookController.booksRecentlyViewedGet(clientId);
+        ResponseEntity<List<Book>> response = bookController.booksRecentlyViewedGet(clientId, null);
 
         // Assert
         assertNotNull(response);
@@ -288,4 +331,126 @@ class BookControllerTest {
 
         verify(recentlyViewedUseCase, never()).find(anyString());
     }
+
+    @Test
+    @DisplayName("booksIdGet: Deve responder com ETag e Cache-Control privado com o max-age do endpoint")
+    void booksIdGet_shouldReturnETagAndCacheControl() {
+        // Arrange
+        when(bookUseCase.findById("1")).thenReturn(mockBookEntity);
+
+        // Act
+        ResponseEntity<Book> response = bookController.booksIdGet("1", null);
+
+        // Assert
+        assertNotNull(response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getETag().startsWith("\""));
+        assertEquals("max-age=300, private", response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    @DisplayName("booksGenreGenreGet: Deve manter a ETag para o mesmo conteúdo e trocá-la quando o conteúdo muda")
+    void booksGenreGenreGet_shouldDeriveETagFromContent() {
+        // Arrange
+        List<BookEntity> updatedList = List.of(
+                mockBookEntity,
+                new BookEntity("2", "Another Book", List.of("Author B"), List.of("Genre Y"), "Desc2", 25.0, 10));
+        when(bookUseCase.findSummariesByGenre("Genre X"))
+                .thenReturn(mockBookEntityList)
+                .thenReturn(List.copyOf(mockBookEntityList))
+                .thenReturn(updatedList);
+
+        // Act
+        ResponseEntity<List<Book>> first = bookController.booksGenreGenreGet("Genre X", null);
+        ResponseEntity<List<Book>> sameContent = bookController.booksGenreGenreGet("Genre X", null);
+        ResponseEntity<List<Book>> changedContent = bookController.booksGenreGenreGet("Genre X", null);
+
+        // Assert
+        assertEquals(first.getHeaders().getETag(), sameContent.getHeaders().getETag());
+        assertNotEquals(first.getHeaders().getETag(), changedContent.getHeaders().getETag());
+        assertEquals("no-cache, private", first.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    @DisplayName("booksGenreGenreGet: Deve reaproveitar o JSON serializado sem mapear de novo enquanto o valor em cache for o mesmo")
+    void booksGenreGenreGet_shouldReusePreSerializedBody() throws Exception {
+        // Arrange
+        BookApiMapper mapperSpy = spy(new BookApiMapperImpl());
+        BookController cachingController = controller(mapperSpy, true);
+        when(bookUseCase.findSummariesByGenre("Genre X")).thenReturn(mockBookEntityList);
+
+        // Act
+        ResponseEntity<List<Book>> first = cachingController.booksGenreGenreGet("Genre X", null);
+        ResponseEntity<List<Book>> second = cachingController.booksGenreGenreGet("Genre X", null);
+
+        // Assert
+        Object body = first.getBody();
+        assertArrayEquals(new ObjectMapper().writeValueAsBytes(bookApiMapper.toApi(mockBookEntityList)), (byte[]) body);
+        assertSame(body, second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        verify(mapperSpy, times(1)).toApi(mockBookEntityList);
+    }
+
+    @Test
+    @DisplayName("booksGenreGenreGet: Deve consultar os livros completos quando fields pede a descrição")
+    void booksGenreGenreGet_shouldQueryFullBooksWhenDescriptionIsRequested() {
+        // Arrange
+        when(bookUseCase.findByGenre("Genre X")).thenReturn(mockBookEntityList);
+
+        // Act
+        ResponseEntity<List<Book>> response = bookController.booksGenreGenreGet("Genre X", "title,description");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(bookUseCase, times(1)).findByGenre("Genre X");
+        verify(bookUseCase, never()).findSummariesByGenre(anyString());
+    }
+
+    @Test
+    @DisplayName("booksGet: Deve retornar apenas o id e as propriedades pedidas em fields")
+    @SuppressWarnings("unchecked")
+    void booksGet_shouldReturnOnlyRequestedFields() {
+        // Arrange
+        when(bookUseCase.findSummaryPage(null, 20)).thenReturn(new BookPageEntity(mockBookEntityList, "2"));
+
+        // Act
+        Object body = bookController.booksGet(null, 20, "title, price").getBody();
+
+        // Assert
+        Map<String, Object> page = (Map<String, Object>) body;
+        List<Map<String, Object>> items = (List<Map<String, Object>>) page.get("items");
+        assertEquals(Map.of("id", "1", "title", "Test Book", "price", 10.0), items.get(0));
+        assertEquals(PageCursor.encode("2"), page.get("nextCursor"));
+    }
+
+    @Test
+    @DisplayName("booksAuthorAuthorGet: Deve lançar InvalidFieldsException para uma propriedade desconhecida sem consultar livros")
+    void booksAuthorAuthorGet_shouldThrowInvalidFieldsExceptionForUnknownField() {
+        // Act & Assert
+        assertThrows(InvalidFieldsException.class, () -> bookController.booksAuthorAuthorGet("Author A", "title,isbn"));
+
+        verifyNoInteractions(bookUseCase);
+    }
+
+    private BookController controller(BookApiMapper mapper, boolean responseCacheEnabled) {
+        HttpCacheProperties httpCacheProperties = new HttpCacheProperties(Map.of("book", Duration.ofMinutes(5)),
+                new HttpCacheProperties.ResponseCache(responseCacheEnabled, DataSize.ofMegabytes(1), true, DataSize.ofKilobytes(1)));
+        return new BookController(bookUseCase, recentlyViewedUseCase, mapper, new ContentTags(), httpCacheProperties,
+                new SerializedResponseCache(new ObjectMapper(), httpCacheProperties));
+    }
+
+    @Test
+    @DisplayName("booksRecentlyViewedGet: Deve ler os livros completos quando fields inclui description")
+    void booksRecentlyViewedGet_shouldReadFullBooksWhenDescriptionIsRequested() {
+        // Arrange
+        String clientId = UUID.randomUUID().toString();
+        when(recentlyViewedUseCase.findWithDescription(clientId)).thenReturn(mockBookEntityList);
+
+        // Act
+        ResponseEntity<List<Book>> response = bookController.booksRecentlyViewedGet(clientId, "description");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().size());
+        verify(recentlyViewedUseCase, never()).find(anyString());
+    }
 }
@@ -0,0 +1,81 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.controller;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.BookUseCase;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.ExportProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapper;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapperImpl;
+import br.com.livraria.catalogodosabioapi.model.Book;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookExportControllerTest {
+
+    @Mock
+    private BookUseCase bookUseCase;
+
+    private final BookApiMapper bookApiMapper = new BookApiMapperImpl();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BookExportController bookExportController;
+
+    @BeforeEach
+    void setUp() {
+        bookExportController = new BookExportController(bookUseCase, bookApiMapper, objectMapper, new ExportProperties(1, Duration.ofMinutes(30)));
+    }
+
+    @Test
+    @DisplayName("booksExportGet: Deve escrever um livro por linha em NDJSON e fechar o cursor")
+    void booksExportGet_shouldWriteOneBookPerLineAndCloseStream() throws Exception {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<BookEntity> books = Stream.of(
+                new BookEntity("1", "Test Book", List.of("Author A"), List.of("Genre X"), "Desc", 10.0, 5),
+                new BookEntity("2", "Another Book", List.of("Author B"), List.of("Genre Y"), "Desc2", 20.0, 10)
+        ).onClose(() -> closed.set(true));
+        when(bookUseCase.streamAll(1)).thenReturn(books);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        AsyncWebRequest asyncWebRequest = mock(AsyncWebRequest.class);
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncWebRequest);
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = bookExportController.booksExportGet(request);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("1", objectMapper.readValue(lines[0], Book.class).getId());
+        assertEquals("Another Book", objectMapper.readValue(lines[1], Book.class).getTitle());
+        assertTrue(closed.get(), "O stream do cursor deve ser fechado ao final da exportação.");
+        verify(bookUseCase, times(1)).streamAll(1);
+        verify(asyncWebRequest).setTimeout(Duration.ofMinutes(30).toMillis());
+    }
+}
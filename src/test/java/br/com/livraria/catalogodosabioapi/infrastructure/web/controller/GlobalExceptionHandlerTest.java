@@ -1,6 +1,8 @@
 package br.com.livraria.catalogodosabioapi.infrastructure.web.controller;
 
 import br.com.livraria.catalogodosabioapi.core.domain.exception.BookNotFoundException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidCursorException;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.InvalidSearchQueryException;
 import br.com.livraria.catalogodosabioapi.model.ApiError;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -51,6 +53,45 @@ class GlobalExceptionHandlerTest {
         assertEquals(exceptionTimestamp.atOffset(ZoneOffset.UTC), apiError.getTimestamp(), "O timestamp deve corresponder ao da exceção, ajustado para UTC.");
     }
 
+    @Test
+    @DisplayName("handleInvalidCursorException: Deve retornar HttpStatus.BAD_REQUEST com ApiError correto")
+    void handleInvalidCursorException_shouldReturnBadRequestApiError() {
+        // Arrange
+        InvalidCursorException ex = new InvalidCursorException("%%%");
+
+        // Act
+        ResponseEntity<ApiError> response = globalExceptionHandler.handleInvalidCursorException(ex);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode(), "O status HTTP deve ser 400 BAD REQUEST.");
+
+        ApiError apiError = response.getBody();
+        assertNotNull(apiError, "O corpo da resposta ApiError não deve ser nulo.");
+        assertEquals(HttpStatus.BAD_REQUEST.value(), apiError.getStatus(), "O status do erro no corpo deve ser 400.");
+        assertEquals("Cursor de paginação inválido: %%%", apiError.getMessage(), "A mensagem de erro deve ser a da exceção.");
+        assertEquals(ex.getTimestamp().atOffset(ZoneOffset.UTC), apiError.getTimestamp(), "O timestamp deve corresponder ao da exceção, ajustado para UTC.");
+    }
+
+    @Test
+    @DisplayName("handleInvalidSearchQueryException: Deve retornar HttpStatus.BAD_REQUEST com ApiError correto")
+    void handleInvalidSearchQueryException_shouldReturnBadRequestApiError() {
+        // Arrange
+        InvalidSearchQueryException ex = new InvalidSearchQueryException();
+
+        // Act
+        ResponseEntity<ApiError> response = globalExceptionHandler.handleInvalidSearchQueryException(ex);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode(), "O status HTTP deve ser 400 BAD REQUEST.");
+
+        ApiError apiError = response.getBody();
+        assertNotNull(apiError, "O corpo da resposta ApiError não deve ser nulo.");
+        assertEquals(HttpStatus.BAD_REQUEST.value(), apiError.getStatus(), "O status do erro no corpo deve ser 400.");
+        assertEquals("O termo de busca deve ser informado.", apiError.getMessage(), "A mensagem de erro deve ser a da exceção.");
+    }
+
     @Test
     @DisplayName("handleGlobalException: Deve retornar HttpStatus.INTERNAL_SERVER_ERROR com ApiError correto")
     void handleGlobalException_shouldReturnInternalServerErrorApiError() {
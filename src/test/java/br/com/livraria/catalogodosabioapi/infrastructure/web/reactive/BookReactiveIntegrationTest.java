@@ -0,0 +1,154 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.reactive;
+
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.document.BookDocument;
+import br.com.livraria.catalogodosabioapi.infrastructure.persistence.mongodb.repository.SpringDataBookMongoRepository;
+import com.redis.testcontainers.RedisContainer;
+import dasniko.testcontainers.keycloak.KeycloakContainer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.springSecurity;
+
+// Sobe a aplicação inteira no profile reactive (Netty, exclusões de autoconfiguração do application-reactive.yaml e
+// ReactiveSecurityConfig). As rotas autenticadas passam pelo contexto completo com um JWT simulado, que não pode
+// ser enviado ao servidor real; o servidor na porta aleatória é exercitado sem token.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"caching.invalidation.enabled=false", "warmup.enabled=false"})
+@Testcontainers
+@ActiveProfiles({"test", "reactive"})
+public class BookReactiveIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private SpringDataBookMongoRepository bookMongoRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private WebTestClient webTestClient;
+
+    static final KeycloakContainer keycloakContainer = new KeycloakContainer("quay.io/keycloak/keycloak:25.0");
+
+    static final MongoDBContainer mongoDbContainer = new MongoDBContainer("mongo:7.0");
+    static final RedisContainer redisContainer = new RedisContainer("redis:7.2-alpine");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        keycloakContainer.start();
+        mongoDbContainer.start();
+        redisContainer.start();
+
+        registry.add("spring.security.oauth2.resourceserver.jwt.issuer-uri",
+                () -> keycloakContainer.getAuthServerUrl() + "/realms/sabio-realm");
+
+        registry.add("spring.data.mongodb.uri", mongoDbContainer::getReplicaSetUrl);
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379).toString());
+    }
+
+    @BeforeEach
+    void setUp() {
+        bookMongoRepository.deleteAll();
+        Assertions.assertNotNull(redisTemplate.getConnectionFactory());
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        webTestClient = WebTestClient.bindToApplicationContext(applicationContext)
+                .apply(springSecurity())
+                .configureClient()
+                .build()
+                .mutateWith(mockJwt());
+    }
+
+    @Test
+    @DisplayName("Deve subir no Netty com o base-path do WebFlux e exigir autenticação nas rotas do catálogo")
+    void shouldStartOnNettyAndRequireAuthentication() {
+        // Arrange
+        WebTestClient serverClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + port + "/catalogo-do-sabio")
+                .build();
+
+        // Act & Assert
+        Assertions.assertInstanceOf(ReactiveWebServerApplicationContext.class, applicationContext);
+        serverClient.get().uri("/v1/books/{id}", "123")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("Deve retornar 200 OK e um livro quando o ID existe")
+    void shouldReturnOkAndBookWhenIdExists() {
+        // Arrange
+        BookDocument book = new BookDocument();
+        book.setId("123");
+        book.setTitle("Duna");
+        book.setAuthors(List.of("Frank Herbert"));
+        book.setGenres(List.of("Ficção Científica"));
+        bookMongoRepository.save(book);
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/{id}", "123")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("123")
+                .jsonPath("$.title").isEqualTo("Duna");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 Not Found quando o ID não existe")
+    void shouldReturnNotFoundWhenIdDoesNotExist() {
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/{id}", "id-inexistente")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Not Found");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 200 OK e uma lista de livros por género")
+    void shouldReturnOkAndBookListWhenSearchingByGenre() {
+        // Arrange
+        BookDocument book1 = new BookDocument();
+        book1.setTitle("Livro de Fantasia 1");
+        book1.setGenres(List.of("Fantasia", "Aventura"));
+        bookMongoRepository.save(book1);
+
+        BookDocument book2 = new BookDocument();
+        book2.setTitle("Livro de Fantasia 2");
+        book2.setGenres(List.of("Fantasia"));
+        bookMongoRepository.save(book2);
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/genre/{genre}", "Fantasia")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].title").isEqualTo("Livro de Fantasia 1");
+    }
+}
@@ -0,0 +1,192 @@
+package br.com.livraria.catalogodosabioapi.infrastructure.web.reactive;
+
+import br.com.livraria.catalogodosabioapi.core.domain.BookEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.BookPageEntity;
+import br.com.livraria.catalogodosabioapi.core.domain.exception.BookNotFoundException;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.ReactiveBookUseCase;
+import br.com.livraria.catalogodosabioapi.core.usecase.boundary.in.ReactiveRecentlyViewedUseCase;
+import br.com.livraria.catalogodosabioapi.infrastructure.cache.ContentTags;
+import br.com.livraria.catalogodosabioapi.infrastructure.configuration.HttpCacheProperties;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.controller.GlobalExceptionHandler;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.mapper.BookApiMapperImpl;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.pagination.PageCursor;
+import br.com.livraria.catalogodosabioapi.infrastructure.web.response.SerializedResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookRouterTest {
+
+    @Mock
+    private ReactiveBookUseCase bookUseCase;
+    @Mock
+    private ReactiveRecentlyViewedUseCase recentlyViewedUseCase;
+
+    private WebTestClient webTestClient;
+    private final ContentTags contentTags = new ContentTags();
+
+    private final BookEntity book = new BookEntity("1", "Dom Casmurro", List.of("Machado de Assis"), List.of("Romance"), "Desc", 10.0, 5);
+
+    @BeforeEach
+    void setUp() {
+        HttpCacheProperties httpCacheProperties = new HttpCacheProperties(Map.of("booksByGenre", Duration.ofMinutes(5)),
+                new HttpCacheProperties.ResponseCache(true, DataSize.ofMegabytes(1), true, DataSize.ofKilobytes(1)));
+        BookHandler bookHandler = new BookHandler(bookUseCase, recentlyViewedUseCase, new BookApiMapperImpl(), new GlobalExceptionHandler(),
+                contentTags, httpCacheProperties, new SerializedResponseCache(new ObjectMapper(), httpCacheProperties));
+        webTestClient = WebTestClient.bindToRouterFunction(new BookRouter().bookRoutes(bookHandler)).build();
+    }
+
+    @Test
+    @DisplayName("Deve retornar o livro e registrar a visualização do cliente")
+    void shouldReturnBookAndTrackView() {
+        // Arrange
+        when(bookUseCase.findById("1")).thenReturn(Mono.just(book));
+        when(recentlyViewedUseCase.track("cliente-1", "1")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/1").header(BookHandler.CLIENT_ID_HEADER, "cliente-1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("1")
+                .jsonPath("$.title").isEqualTo("Dom Casmurro");
+        verify(recentlyViewedUseCase, times(1)).track("cliente-1", "1");
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 com ApiError quando o livro não existe")
+    void shouldReturnNotFoundWhenBookIsMissing() {
+        // Arrange
+        when(bookUseCase.findById("99")).thenReturn(Mono.error(new BookNotFoundException("99")));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404);
+        verifyNoInteractions(recentlyViewedUseCase);
+    }
+
+    @Test
+    @DisplayName("Deve decodificar o cursor e devolver o próximo cursor na listagem paginada")
+    void shouldDecodeCursorAndEncodeNextCursor() {
+        // Arrange
+        when(bookUseCase.findSummaryPage("0", 1)).thenReturn(Mono.just(new BookPageEntity(List.of(book), "1")));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/?cursor={cursor}&limit=1", PageCursor.encode("0"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].id").isEqualTo("1")
+                .jsonPath("$.nextCursor").isEqualTo(PageCursor.encode("1"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 quando o cursor é inválido")
+    void shouldReturnBadRequestForInvalidCursor() {
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/?cursor={cursor}", "%%%")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verifyNoInteractions(bookUseCase);
+    }
+
+    @Test
+    @DisplayName("Deve rotear as buscas por gênero sem confundir com a busca por id")
+    void shouldRouteGenreSearch() {
+        // Arrange
+        when(bookUseCase.findSummariesByGenre("Romance")).thenReturn(Mono.just(List.of(book)));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/genre/Romance")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("1");
+        verify(bookUseCase, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve devolver só as propriedades pedidas em fields, lendo os livros completos quando a descrição é pedida")
+    void shouldReturnOnlyRequestedFields() {
+        // Arrange
+        when(bookUseCase.findByAuthor("Machado de Assis")).thenReturn(Mono.just(List.of(book)));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/author/{author}?fields=description", "Machado de Assis")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("1")
+                .jsonPath("$[0].description").isEqualTo("Desc")
+                .jsonPath("$[0].title").doesNotExist();
+        verify(bookUseCase, never()).findSummariesByAuthor(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 quando fields tem uma propriedade desconhecida")
+    void shouldReturnBadRequestForUnknownField() {
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/genre/Romance?fields=isbn")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400);
+        verifyNoInteractions(bookUseCase);
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem corpo quando o If-None-Match coincide com a ETag do conteúdo")
+    void shouldReturnNotModifiedWhenETagMatches() {
+        // Arrange
+        List<BookEntity> books = List.of(book);
+        when(bookUseCase.findSummariesByGenre("Romance")).thenReturn(Mono.just(books));
+        String eTag = contentTags.tagOf(books);
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/genre/Romance")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=300, private");
+        webTestClient.get().uri("/v1/books/genre/Romance").header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve devolver os recentes completos quando fields inclui description")
+    void shouldReturnFullRecentlyViewedBooksWhenDescriptionIsRequested() {
+        // Arrange
+        when(recentlyViewedUseCase.findWithDescription("cliente-1")).thenReturn(Mono.just(List.of(book)));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/books/recently-viewed?fields=title,description").header(BookHandler.CLIENT_ID_HEADER, "cliente-1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("1")
+                .jsonPath("$[0].description").isEqualTo("Desc")
+                .jsonPath("$[0].price").doesNotExist();
+        verify(recentlyViewedUseCase, never()).find(any());
+    }
+}